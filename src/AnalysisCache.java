@@ -0,0 +1,137 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Parse results of every Java file in a project, saved between runs so that
+* only files that were added or changed (by modification time or size) are
+* parsed again. Files that no longer exist are dropped when it is saved.
+* The file is stamped with a format version and a checksum of the parser's
+* {@link CouplingVisitor}, and is dropped if either differs, so results
+* saved by an older version of the tool are not reused.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.zip.CRC32;
+
+public class AnalysisCache{
+	// File format marker ("CMAC") and version
+	private static final int MAGIC = 0x434D4143;
+	private static final int VERSION = 1;
+
+	// Parse results by file name
+	private final HashMap<String, FileAnalysis> analyses;
+	// Files asked for in this run
+	private final HashSet<String> used;
+	// Files parsed and reused in this run
+	private int parsed;
+	private int reused;
+
+	public AnalysisCache(){
+		analyses = new HashMap<String, FileAnalysis>();
+		used = new HashSet<String>();
+		parsed = 0;
+		reused = 0;
+	}
+
+	/* Read a saved cache. A missing or unreadable file, or one saved by a different
+	 * version of the tool, gives an empty cache.
+	 */
+	@SuppressWarnings("unchecked")
+	public static AnalysisCache load(String fileName){
+		AnalysisCache cache = new AnalysisCache();
+		if(!new File(fileName).exists()){
+			return cache;
+		}
+		try{
+			ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(fileName)));
+			try{
+				if(input.readInt() != MAGIC || input.readInt() != VERSION || input.readLong() != parserChecksum()){
+					System.out.println(fileName + " was saved by a different version, parsing all files");
+					return cache;
+				}
+				cache.analyses.putAll((HashMap<String, FileAnalysis>) input.readObject());
+			}finally{
+				input.close();
+			}
+		}catch(IOException | ClassNotFoundException | ClassCastException e){
+			System.out.println("Could not read " + fileName + ", parsing all files: " + e.getMessage());
+			cache.analyses.clear();
+		}
+		return cache;
+	}
+
+	// Parse results for a file, parsing it only if it is new or has changed
+	public FileAnalysis analyze(String fileName) throws IOException{
+		used.add(fileName);
+		FileAnalysis analysis = analyses.get(fileName);
+		if(analysis != null && analysis.isCurrent(fileName)){
+			reused++;
+			return analysis;
+		}
+		analysis = new FileAnalysis(fileName);
+		analyses.put(fileName, analysis);
+		parsed++;
+		return analysis;
+	}
+
+	// Save the results for the files used in this run. The file is replaced in one step.
+	public void save(String fileName) throws IOException{
+		analyses.keySet().retainAll(used);
+		File file = new File(fileName);
+		File temporary = new File(fileName + ".tmp");
+		ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+		try{
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeLong(parserChecksum());
+			output.writeObject(analyses);
+		}finally{
+			output.close();
+		}
+		Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/* Helper function for {@link #load} and {@link #save}.
+	 * CRC-32 of the compiled {@link CouplingVisitor}, so that a change to what is
+	 * gathered from a file invalidates the saved results. 0 if it cannot be read.
+	 */
+	private static long parserChecksum() throws IOException{
+		InputStream input = CouplingVisitor.class.getResourceAsStream("CouplingVisitor.class");
+		if(input == null){
+			return 0;
+		}
+		CRC32 checksum = new CRC32();
+		try{
+			byte[] buffer = new byte[8192];
+			int read;
+			while((read = input.read(buffer)) > 0){
+				checksum.update(buffer, 0, read);
+			}
+		}finally{
+			input.close();
+		}
+		return checksum.getValue();
+	}
+
+	public int getParsed(){
+		return parsed;
+	}
+
+	public int getReused(){
+		return reused;
+	}
+}
@@ -0,0 +1,206 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* A set of classes chosen by the optimizer, stored as a fixed-width bitset
+* over the indices of the candidate classes. Mutation, crossover and equality
+* all work directly on the long words. Class names are only recovered
+* when the final solution is written out (see {@link SearchSpace#toClasses}).
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class BitSolution{
+	// Bits, 64 candidates per word
+	private final long[] words;
+	// Number of candidate classes
+	private final int width;
+
+	// Empty solution over a given number of candidates
+	public BitSolution(int width){
+		this.width = width;
+		this.words = new long[(width + 63) >>> 6];
+	}
+
+	// Copy of another solution
+	public BitSolution(BitSolution other){
+		this.width = other.width;
+		this.words = other.words.clone();
+	}
+
+	// Solution over a given number of candidates with the given bits (copied)
+	public BitSolution(int width, long[] words){
+		this.width = width;
+		this.words = Arrays.copyOf(words, (width + 63) >>> 6);
+	}
+
+	// Random solution. Picks a random number of candidates (at least one),
+	// then sets that many random bits. Repeated picks collapse, as in a set.
+	public static BitSolution random(int width, Random rng){
+		BitSolution solution = new BitSolution(width);
+		if(width == 0){
+			return solution;
+		}
+		int picks = rng.nextInt(width) + 1;
+		for(int choice = 0; choice < picks; choice++){
+			solution.set(rng.nextInt(width));
+		}
+		return solution;
+	}
+
+	// Mutate a solution by adding, deleting, or changing one of the classes
+	public BitSolution mutate(Random rng){
+		BitSolution mutated = new BitSolution(this);
+		int size = size();
+		if(width == 0){
+			return mutated;
+		}
+
+		int choice = rng.nextInt(3) + 1;
+
+		// If all classes in set, delete one
+		if(choice == 1 && size == width){
+			choice = 2;
+		// If no classes in set, add one
+		}else if(choice >= 2 && size == 0){
+			choice = 1;
+		}
+		// Nothing to change a class to if all are chosen
+		if(choice == 3 && size == width){
+			choice = 2;
+		}
+
+		if(choice == 1){
+			// Add a class
+			mutated.set(nthClearBit(rng.nextInt(width - size)));
+		}else if(choice == 2){
+			// Delete a class
+			mutated.clear(nthSetBit(rng.nextInt(size)));
+		}else{
+			// Change one class to another. Really a delete and an add of a class
+			// that was not in the set (so they cannot be the same).
+			int toAdd = nthClearBit(rng.nextInt(width - size));
+			mutated.clear(nthSetBit(rng.nextInt(size)));
+			mutated.set(toAdd);
+		}
+		return mutated;
+	}
+
+	/* Create two children by performing uniform crossover between two parents.
+	 * Each child takes every bit from one of the parents, chosen by its own random mask.
+	 */
+	public static BitSolution[] crossover(BitSolution firstParent, BitSolution secondParent, Random rng){
+		BitSolution firstChild = new BitSolution(firstParent.width);
+		BitSolution secondChild = new BitSolution(firstParent.width);
+		for(int word = 0; word < firstParent.words.length; word++){
+			long firstMask = rng.nextLong();
+			long secondMask = rng.nextLong();
+			firstChild.words[word] = (firstParent.words[word] & firstMask) | (secondParent.words[word] & ~firstMask);
+			secondChild.words[word] = (firstParent.words[word] & secondMask) | (secondParent.words[word] & ~secondMask);
+		}
+		return new BitSolution[]{firstChild, secondChild};
+	}
+
+	public boolean get(int index){
+		return (words[index >>> 6] & (1L << index)) != 0;
+	}
+
+	public void set(int index){
+		words[index >>> 6] |= 1L << index;
+	}
+
+	public void clear(int index){
+		words[index >>> 6] &= ~(1L << index);
+	}
+
+	// Number of chosen classes
+	public int size(){
+		int size = 0;
+		for(long word: words){
+			size += Long.bitCount(word);
+		}
+		return size;
+	}
+
+	// Index of the next chosen class at or after from, or -1 if there is none
+	public int nextSetBit(int from){
+		int word = from >>> 6;
+		if(word >= words.length){
+			return -1;
+		}
+		long bits = words[word] & (-1L << from);
+		while(true){
+			if(bits != 0){
+				return (word << 6) + Long.numberOfTrailingZeros(bits);
+			}
+			word++;
+			if(word == words.length){
+				return -1;
+			}
+			bits = words[word];
+		}
+	}
+
+	// Index of the n-th (from zero) chosen class
+	private int nthSetBit(int n){
+		for(int word = 0; word < words.length; word++){
+			long bits = words[word];
+			int count = Long.bitCount(bits);
+			if(n < count){
+				for(int skip = 0; skip < n; skip++){
+					bits &= bits - 1;
+				}
+				return (word << 6) + Long.numberOfTrailingZeros(bits);
+			}
+			n -= count;
+		}
+		return -1;
+	}
+
+	// Index of the n-th (from zero) class that is not chosen
+	private int nthClearBit(int n){
+		for(int word = 0; word < words.length; word++){
+			long bits = ~words[word];
+			// Ignore padding past the last candidate
+			if(word == words.length - 1 && (width & 63) != 0){
+				bits &= (1L << (width & 63)) - 1;
+			}
+			int count = Long.bitCount(bits);
+			if(n < count){
+				for(int skip = 0; skip < n; skip++){
+					bits &= bits - 1;
+				}
+				return (word << 6) + Long.numberOfTrailingZeros(bits);
+			}
+			n -= count;
+		}
+		return -1;
+	}
+
+	public long[] getWords(){
+		return words;
+	}
+
+	public int getWidth(){
+		return width;
+	}
+
+	@Override
+	public boolean equals(Object other){
+		if(this == other){
+			return true;
+		}
+		if(!(other instanceof BitSolution)){
+			return false;
+		}
+		return Arrays.equals(words, ((BitSolution) other).words);
+	}
+
+	@Override
+	public int hashCode(){
+		return Arrays.hashCode(words);
+	}
+}
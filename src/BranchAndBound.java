@@ -0,0 +1,211 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Exact branch-and-bound search for the best set of classes, for small
+* candidate sets. Candidates are decided one at a time (include, then
+* exclude), and a branch is pruned when a lower bound on the score of
+* every set it can still reach is no better than the best set found.
+*
+* The bound is built from the score's own components, per target: the
+* average distance can be no lower than the shortest path of any class
+* still available, and a set with k more classes can cover no more than
+* the classes already covered plus the k largest numbers of new classes
+* that any one remaining class covers. Distance is minimized on its own
+* and size with coverage for each k, so the bound never overestimates
+* (it is admissible).
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.Arrays;
+
+public class BranchAndBound{
+	private final SearchSpace space;
+	private final SearchBudget budget;
+	// Order in which candidates are decided
+	private final int[] order;
+	// Per depth and target: nodes the undecided candidates could cover,
+	// and the shortest finite path among the undecided candidates
+	private final long[][][] remainingCoverage;
+	private final double[][] remainingShortest;
+
+	// Partial solution and best solution found
+	private final ScoreState state;
+	private BitSolution best;
+	private double bestScore;
+	// Search progress
+	private long explored;
+	private boolean complete;
+
+	/* Prepare a search. Candidates are decided in the given order; putting
+	 * promising candidates first finds good solutions, and so prunes, sooner.
+	 * The incumbent is the best solution known before searching.
+	 */
+	public BranchAndBound(SearchSpace space, SearchBudget budget, int[] order, BitSolution incumbent){
+		this.space = space;
+		this.budget = budget;
+		this.order = order;
+		int targets = space.getTargetCount();
+		int words = (space.getNodeCount() + 63) >>> 6;
+		int[][][] paths = space.getCoverage();
+		double[][] lengths = space.getLengths();
+
+		remainingCoverage = new long[order.length + 1][targets][words];
+		remainingShortest = new double[order.length + 1][targets];
+		for(int target = 0; target < targets; target++){
+			remainingShortest[order.length][target] = Double.POSITIVE_INFINITY;
+		}
+		for(int depth = order.length - 1; depth >= 0; depth--){
+			int candidate = order[depth];
+			for(int target = 0; target < targets; target++){
+				System.arraycopy(remainingCoverage[depth + 1][target], 0, remainingCoverage[depth][target], 0, words);
+				for(int node: paths[candidate][target]){
+					remainingCoverage[depth][target][node >>> 6] |= 1L << node;
+				}
+				remainingShortest[depth][target] = Math.min(remainingShortest[depth + 1][target], lengths[candidate][target]);
+			}
+		}
+
+		state = new ScoreState(space);
+		best = new BitSolution(incumbent);
+		bestScore = space.score(incumbent);
+		explored = 0;
+		complete = false;
+	}
+
+	// Run the search. Returns the best solution found.
+	public BitSolution search(){
+		complete = branch(0, false);
+		return best;
+	}
+
+	/* Helper function for {@link #search}.
+	 * Explores all decisions from a depth on. Returns false if the budget ran out.
+	 * The included classes are only scored if the last decision added one (changed);
+	 * after an exclusion they are the set already scored one level up.
+	 */
+	private boolean branch(int depth, boolean changed){
+		explored++;
+		if((explored & 1023) == 0 && budget.isExhausted()){
+			return false;
+		}
+
+		// The classes included so far are a solution in their own right
+		if(changed){
+			double score = state.score();
+			if(score < bestScore){
+				bestScore = score;
+				best = state.getSolution();
+				budget.nextGeneration(bestScore);
+			}
+		}
+
+		if(depth == order.length || bound(depth) >= bestScore){
+			return true;
+		}
+
+		int candidate = order[depth];
+		state.add(candidate);
+		boolean finished = branch(depth + 1, true);
+		state.remove(candidate);
+		if(!finished){
+			return false;
+		}
+		return branch(depth + 1, false);
+	}
+
+	/* Helper function for {@link #branch}.
+	 * Lower bound on the score of any solution that keeps the classes included
+	 * so far and adds any of the candidates not yet decided.
+	 * Size and coverage are bounded together: adding k more classes can cover at
+	 * most the k largest numbers of new nodes any single remaining class covers.
+	 * The bound is the lowest, over k, of the per-target bounds summed.
+	 */
+	private double bound(int depth){
+		int undecided = order.length - depth;
+		int included = state.size();
+		int targets = space.getTargetCount();
+		int[][][] paths = space.getCoverage();
+
+		// Per target: lower bound on the distance, current coverage, and
+		// the most nodes that could be covered by adding k more classes
+		double[] distance = new double[targets];
+		int[] covered = new int[targets];
+		int[][] mostCovered = new int[targets][undecided + 1];
+		int[] gains = new int[undecided];
+		for(int target = 0; target < targets; target++){
+			// Average distance lies between the shortest available path and the longest path
+			double shortest = remainingShortest[depth][target];
+			if(state.getReaching(target) > 0){
+				// The included classes average at least the shortest of the remaining paths
+				// or their own average, whichever is lower
+				shortest = Math.min(shortest, state.getDistance(target) / state.getReaching(target));
+			}
+			double maxLength = space.getMaxLength()[target];
+			if(shortest == Double.POSITIVE_INFINITY){
+				distance[target] = space.normalizedDistance(target, maxLength);
+			}else{
+				distance[target] = smallestMagnitude(space.normalizedDistance(target, shortest), space.normalizedDistance(target, maxLength));
+			}
+
+			// New nodes each remaining class would cover on its own, largest first
+			covered[target] = state.getCovered(target);
+			for(int position = 0; position < undecided; position++){
+				int gain = 0;
+				for(int node: paths[order[depth + position]][target]){
+					if(!state.isCovered(target, node)){
+						gain++;
+					}
+				}
+				gains[position] = gain;
+			}
+			Arrays.sort(gains);
+			int union = state.countCoveredWith(target, remainingCoverage[depth][target]);
+			mostCovered[target][0] = covered[target];
+			for(int added = 1; added <= undecided; added++){
+				mostCovered[target][added] = Math.min(union, mostCovered[target][added - 1] + gains[undecided - added]);
+			}
+		}
+
+		double lowerBound = Double.POSITIVE_INFINITY;
+		for(int added = 0; added <= undecided; added++){
+			double size = space.normalizedSize(included + added);
+			double total = 0.0;
+			for(int target = 0; target < targets; target++){
+				// Coverage lies between what is covered now and what could be covered
+				double coverage = smallestMagnitude(space.coverageDeficit(target, covered[target]), space.coverageDeficit(target, mostCovered[target][added]));
+				double targetBound = Math.sqrt(distance[target] * distance[target] + size * size + coverage * coverage);
+				if(!Double.isNaN(targetBound)){
+					total += targetBound;
+				}
+			}
+			lowerBound = Math.min(lowerBound, total);
+		}
+		return lowerBound;
+	}
+
+	/* Helper function for {@link #bound}.
+	 * Smallest absolute value in the interval between two values.
+	 */
+	private double smallestMagnitude(double first, double second){
+		if((first <= 0.0 && second >= 0.0) || (first >= 0.0 && second <= 0.0)){
+			return 0.0;
+		}
+		return Math.min(Math.abs(first), Math.abs(second));
+	}
+
+	public double getBestScore(){
+		return bestScore;
+	}
+
+	// Number of search tree nodes explored
+	public long getExplored(){
+		return explored;
+	}
+
+	// Whether the whole tree was searched, proving the solution optimal
+	public boolean isComplete(){
+		return complete;
+	}
+}
@@ -0,0 +1,266 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Centrality of each class in the coupling graph, for choosing which
+* classes to test first. PageRank is found by power iteration over the
+* weighted edges: a class passes its rank to the classes it uses, in
+* proportion to the number of couplings. Betweenness (how many shortest
+* paths pass through a class) is approximated with Brandes' algorithm from
+* a random sample of source classes, scaled up to the whole graph. Both
+* work on the CSR arrays of the {@link CouplingGraph} and split their work
+* across threads: PageRank by ranges of classes in each iteration, and
+* betweenness by source.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class Centrality{
+	// PageRank settings: damping factor, largest total change to stop at, most iterations
+	private static final double DAMPING = 0.85;
+	private static final double TOLERANCE = 1e-10;
+	private static final int MAX_ITERATIONS = 200;
+
+	private final CouplingGraph graph;
+	private final int threads;
+	private double[] pageRank;
+	private double[] betweenness;
+	// Iterations PageRank took, and sources betweenness was computed from
+	private int iterations;
+	private int samples;
+
+	public Centrality(CouplingGraph graph){
+		this.graph = graph;
+		threads = Runtime.getRuntime().availableProcessors();
+	}
+
+	/* PageRank of each class. Classes that use no other class spread their rank
+	 * evenly over all classes. Stops when the ranks change by less than the tolerance
+	 * in total, or after the most iterations.
+	 */
+	public double[] computePageRank(){
+		final int nodes = graph.getNodeCount();
+		final int[] offsets = graph.getOffsets();
+		final float[] weights = graph.getWeights();
+		final int[] inOffsets = graph.getInOffsets();
+		final int[] sources = graph.getSources();
+		final float[] inWeights = graph.getInWeights();
+
+		// Total weight leaving each class
+		final double[] outWeight = new double[nodes];
+		for(int node = 0; node < nodes; node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				outWeight[node] += weights[edge];
+			}
+		}
+
+		final double[][] rank = new double[][]{new double[nodes], new double[nodes]};
+		for(int node = 0; node < nodes; node++){
+			rank[0][node] = 1.0 / nodes;
+		}
+		ArrayList<int[]> ranges = ranges(nodes);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try{
+			iterations = 0;
+			while(iterations < MAX_ITERATIONS){
+				final double[] current = rank[iterations % 2];
+				final double[] next = rank[(iterations + 1) % 2];
+				double dangling = 0.0;
+				for(int node = 0; node < nodes; node++){
+					if(outWeight[node] == 0){
+						dangling += current[node];
+					}
+				}
+				final double base = (1.0 - DAMPING) / nodes + DAMPING * dangling / nodes;
+
+				ArrayList<Callable<Double>> tasks = new ArrayList<Callable<Double>>();
+				for(final int[] range: ranges){
+					tasks.add(new Callable<Double>(){
+						public Double call(){
+							double change = 0.0;
+							for(int node = range[0]; node < range[1]; node++){
+								double sum = 0.0;
+								for(int edge = inOffsets[node]; edge < inOffsets[node + 1]; edge++){
+									sum += current[sources[edge]] * inWeights[edge] / outWeight[sources[edge]];
+								}
+								next[node] = base + DAMPING * sum;
+								change += Math.abs(next[node] - current[node]);
+							}
+							return change;
+						}
+					});
+				}
+				double change = 0.0;
+				for(Future<Double> result: executor.invokeAll(tasks)){
+					change += result.get();
+				}
+				iterations++;
+				if(change < TOLERANCE){
+					break;
+				}
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while computing PageRank", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Could not compute PageRank", e.getCause());
+		}finally{
+			executor.shutdown();
+		}
+		pageRank = rank[iterations % 2];
+		return pageRank;
+	}
+
+	/* Approximate betweenness of each class, counting shortest paths (in couplings)
+	 * from the given number of randomly chosen source classes, scaled by the number
+	 * of classes over the number of sources. With as many sources as classes, this
+	 * is the exact betweenness.
+	 */
+	public double[] computeBetweenness(int sampleSize, Random random){
+		int nodes = graph.getNodeCount();
+		samples = Math.min(sampleSize, nodes);
+		// Partial shuffle: the first samples entries are a random sample of the classes
+		int[] order = new int[nodes];
+		for(int node = 0; node < nodes; node++){
+			order[node] = node;
+		}
+		for(int position = 0; position < samples; position++){
+			int swap = position + random.nextInt(nodes - position);
+			int held = order[position];
+			order[position] = order[swap];
+			order[swap] = held;
+		}
+
+		betweenness = new double[nodes];
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try{
+			ArrayList<Future<double[]>> results = new ArrayList<Future<double[]>>();
+			for(int thread = 0; thread < Math.min(threads, Math.max(samples, 1)); thread++){
+				final int first = thread;
+				final int[] sampled = order;
+				results.add(executor.submit(new Callable<double[]>(){
+					public double[] call(){
+						return accumulate(sampled, first, samples, threads);
+					}
+				}));
+			}
+			for(Future<double[]> result: results){
+				double[] partial = result.get();
+				for(int node = 0; node < nodes; node++){
+					betweenness[node] += partial[node];
+				}
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while computing betweenness", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Could not compute betweenness", e.getCause());
+		}finally{
+			executor.shutdown();
+		}
+		if(samples > 0){
+			double scale = (double) nodes / samples;
+			for(int node = 0; node < nodes; node++){
+				betweenness[node] *= scale;
+			}
+		}
+		return betweenness;
+	}
+
+	/* Helper function for {@link #computeBetweenness}.
+	 * Brandes' algorithm from the sources at positions first, first + step, ... below
+	 * count. A breadth-first search counts the shortest paths to each class, then the
+	 * classes are visited farthest first, passing each class's dependency back to the
+	 * classes before it on a shortest path (found through the edges entering it).
+	 */
+	private double[] accumulate(int[] sampled, int first, int count, int step){
+		int nodes = graph.getNodeCount();
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		int[] inOffsets = graph.getInOffsets();
+		int[] sources = graph.getSources();
+
+		double[] found = new double[nodes];
+		int[] distance = new int[nodes];
+		Arrays.fill(distance, -1);
+		double[] paths = new double[nodes];
+		double[] dependency = new double[nodes];
+		int[] queue = new int[nodes];
+		for(int sample = first; sample < count; sample += step){
+			int source = sampled[sample];
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = source;
+			distance[source] = 0;
+			paths[source] = 1.0;
+			while(head < tail){
+				int node = queue[head++];
+				for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+					int sink = sinks[edge];
+					if(distance[sink] < 0){
+						distance[sink] = distance[node] + 1;
+						queue[tail++] = sink;
+					}
+					if(distance[sink] == distance[node] + 1){
+						paths[sink] += paths[node];
+					}
+				}
+			}
+			// The queue holds the reached classes in order of distance
+			for(int position = tail - 1; position > 0; position--){
+				int node = queue[position];
+				for(int edge = inOffsets[node]; edge < inOffsets[node + 1]; edge++){
+					int previous = sources[edge];
+					if(distance[previous] >= 0 && distance[previous] == distance[node] - 1){
+						dependency[previous] += paths[previous] / paths[node] * (1.0 + dependency[node]);
+					}
+				}
+				found[node] += dependency[node];
+			}
+			for(int position = 0; position < tail; position++){
+				int node = queue[position];
+				distance[node] = -1;
+				paths[node] = 0.0;
+				dependency[node] = 0.0;
+			}
+		}
+		return found;
+	}
+
+	/* Helper function for {@link #computePageRank}.
+	 * Splits the classes into about four ranges per thread.
+	 */
+	private ArrayList<int[]> ranges(int nodes){
+		ArrayList<int[]> ranges = new ArrayList<int[]>();
+		int chunk = Math.max(1024, (nodes + 4 * threads - 1) / (4 * threads));
+		for(int from = 0; from < nodes; from += chunk){
+			ranges.add(new int[]{from, Math.min(nodes, from + chunk)});
+		}
+		return ranges;
+	}
+
+	public double[] getPageRank(){
+		return pageRank;
+	}
+
+	public double[] getBetweenness(){
+		return betweenness;
+	}
+
+	public int getIterations(){
+		return iterations;
+	}
+
+	public int getSamples(){
+		return samples;
+	}
+}
@@ -0,0 +1,272 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Groups the classes of the coupling graph into clusters of classes that
+* are strongly coupled to each other and weakly coupled to the rest, as
+* candidate modules for splitting a project. Uses weighted label
+* propagation, ignoring the direction of couplings: each class starts in
+* its own cluster and repeatedly joins the cluster it has the most
+* couplings with, until no class moves. Classes are updated in parallel,
+* a different half of them each round, so that neighbours do not keep
+* swapping clusters with each other.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class Communities{
+	// Most rounds of label propagation
+	private static final int MAX_ROUNDS = 100;
+
+	private final CouplingGraph graph;
+	// Cluster of each class, numbered from 0, largest first
+	private final int[] cluster;
+	private final int clusters;
+	private int rounds;
+
+	public Communities(CouplingGraph graph){
+		this.graph = graph;
+		int nodes = graph.getNodeCount();
+		int[] label = propagate();
+
+		// Number the clusters by size, largest first (ties by lowest label)
+		int[] size = new int[nodes];
+		for(int node = 0; node < nodes; node++){
+			size[label[node]]++;
+		}
+		long[] bySize = new long[nodes];
+		int count = 0;
+		for(int current = 0; current < nodes; current++){
+			if(size[current] > 0){
+				bySize[count++] = ((long) (nodes - size[current]) << 32) | current;
+			}
+		}
+		Arrays.sort(bySize, 0, count);
+		int[] number = new int[nodes];
+		for(int position = 0; position < count; position++){
+			number[(int) bySize[position]] = position;
+		}
+		cluster = new int[nodes];
+		for(int node = 0; node < nodes; node++){
+			cluster[node] = number[label[node]];
+		}
+		clusters = count;
+	}
+
+	/* Helper function for the constructor.
+	 * Label propagation. Returns the label (a class number) of each class.
+	 */
+	private int[] propagate(){
+		final int nodes = graph.getNodeCount();
+		final int[] label = new int[nodes];
+		for(int node = 0; node < nodes; node++){
+			label[node] = node;
+		}
+		int threads = Runtime.getRuntime().availableProcessors();
+		int chunk = Math.max(1024, (nodes + threads - 1) / threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try{
+			// Rounds in a row with no change, stopping at two
+			int quiet = 0;
+			rounds = 0;
+			while(rounds < MAX_ROUNDS && quiet < 2){
+				final int round = rounds;
+				// Choose every new label before changing any, so the result does not depend on thread timing
+				final int[] chosen = label.clone();
+				ArrayList<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+				for(int from = 0; from < nodes; from += chunk){
+					final int first = from;
+					final int last = Math.min(nodes, from + chunk);
+					tasks.add(new Callable<Integer>(){
+						public Integer call(){
+							return relabel(label, chosen, first, last, round);
+						}
+					});
+				}
+				int changed = 0;
+				for(Future<Integer> result: executor.invokeAll(tasks)){
+					changed += result.get();
+				}
+				System.arraycopy(chosen, 0, label, 0, nodes);
+				rounds++;
+				quiet = changed == 0 ? quiet + 1 : 0;
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while finding clusters", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Could not find clusters", e.getCause());
+		}finally{
+			executor.shutdown();
+		}
+		return label;
+	}
+
+	/* Helper function for {@link #propagate}.
+	 * New labels for the classes first up to last that are updated this round:
+	 * the label with the most coupling weight to the class, in either direction. A class
+	 * keeps its label if that is among the heaviest, and otherwise takes the lowest
+	 * of them. Returns the number of classes whose label changed.
+	 */
+	private int relabel(int[] label, int[] chosen, int first, int last, int round){
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		float[] weights = graph.getWeights();
+		int[] inOffsets = graph.getInOffsets();
+		int[] sources = graph.getSources();
+		float[] inWeights = graph.getInWeights();
+
+		// Weight to each label, and the labels seen for the current class
+		double[] weight = new double[graph.getNodeCount()];
+		int[] seen = new int[graph.getNodeCount()];
+		int changed = 0;
+		for(int node = first; node < last; node++){
+			if(!updated(node, round)){
+				continue;
+			}
+			int count = 0;
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				int current = label[sinks[edge]];
+				if(weight[current] == 0){
+					seen[count++] = current;
+				}
+				weight[current] += weights[edge];
+			}
+			for(int edge = inOffsets[node]; edge < inOffsets[node + 1]; edge++){
+				int current = label[sources[edge]];
+				if(weight[current] == 0){
+					seen[count++] = current;
+				}
+				weight[current] += inWeights[edge];
+			}
+			if(count == 0){
+				continue;
+			}
+
+			int best = seen[0];
+			for(int position = 1; position < count; position++){
+				int current = seen[position];
+				if(weight[current] > weight[best] || (weight[current] == weight[best] && current < best)){
+					best = current;
+				}
+			}
+			if(weight[label[node]] == weight[best]){
+				best = label[node];
+			}
+			for(int position = 0; position < count; position++){
+				weight[seen[position]] = 0;
+			}
+			if(best != label[node]){
+				chosen[node] = best;
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	/* Helper function for {@link #relabel}.
+	 * Whether a class is in the half updated in a round. The halves are picked by
+	 * hashing, so they change every round and neighbours cannot stay in step.
+	 */
+	private boolean updated(int node, int round){
+		int hash = node * 0x9E3779B9 + round * 0x85EBCA6B;
+		hash ^= hash >>> 16;
+		hash *= 0x7FEB352D;
+		hash ^= hash >>> 15;
+		return (hash & 1) == 0;
+	}
+
+	/* Number of couplings from each cluster to each other cluster, keyed by the
+	 * using cluster in the high 32 bits and the used cluster in the low 32 bits.
+	 * Couplings within a cluster are not included.
+	 */
+	public LongCountMap getClusterWeights(){
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		float[] weights = graph.getWeights();
+		LongCountMap between = new LongCountMap();
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				if(cluster[node] != cluster[sinks[edge]]){
+					between.add(((long) cluster[node] << 32) | cluster[sinks[edge]], (int) weights[edge]);
+				}
+			}
+		}
+		return between;
+	}
+
+	/* Modularity of the clusters, ignoring direction: the fraction of coupling weight
+	 * within clusters, less the fraction expected if couplings were placed at random.
+	 * Above about 0.3 usually means the clusters are real.
+	 */
+	public double getModularity(){
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		float[] weights = graph.getWeights();
+		// Weight within each cluster, and weight of the couplings touching each cluster
+		double[] internal = new double[clusters];
+		double[] degree = new double[clusters];
+		double total = 0.0;
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				if(cluster[node] == cluster[sinks[edge]]){
+					internal[cluster[node]] += weights[edge];
+				}
+				degree[cluster[node]] += weights[edge];
+				degree[cluster[sinks[edge]]] += weights[edge];
+				total += weights[edge];
+			}
+		}
+		if(total == 0){
+			return 0.0;
+		}
+		double modularity = 0.0;
+		for(int current = 0; current < clusters; current++){
+			modularity += internal[current] / total - Math.pow(degree[current] / (2 * total), 2);
+		}
+		return modularity;
+	}
+
+	// Fraction of the coupling weight that is within clusters
+	public double getInternalFraction(){
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		float[] weights = graph.getWeights();
+		double internal = 0.0;
+		double total = 0.0;
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				if(cluster[node] == cluster[sinks[edge]]){
+					internal += weights[edge];
+				}
+				total += weights[edge];
+			}
+		}
+		return total == 0 ? 0.0 : internal / total;
+	}
+
+	// Cluster of a class
+	public int getCluster(int node){
+		return cluster[node];
+	}
+
+	public int[] getClusters(){
+		return cluster;
+	}
+
+	public int getClusterCount(){
+		return clusters;
+	}
+
+	public int getRounds(){
+		return rounds;
+	}
+}
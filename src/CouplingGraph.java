@@ -0,0 +1,404 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Compact coupling graph used for analysis and optimization without a
+* display. Classes are numbered by their position in the class list, and
+* the edges leaving (and entering) each class are stored in compressed
+* sparse row form: the edges of node n are positions offsets[n] up to
+* offsets[n + 1] of the sink (or source) and weight arrays. The weight of
+* an edge is the number of couplings from one class to the other, counted
+* in a {@link LongCountMap}.
+* The GraphStream graph is only built from this when it is displayed.
+* The same structure holds the method-level graph, where nodes are
+* methods and members instead of classes (see {@link #buildMethods}).
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class CouplingGraph{
+	// Class names and their node numbers
+	private final String[] names;
+	private final HashMap<String, Integer> ids;
+	// Edges leaving each node
+	private final int[] offsets;
+	private final int[] sinks;
+	private final float[] weights;
+	// Edges entering each node
+	private final int[] inOffsets;
+	private final int[] sources;
+	private final float[] inWeights;
+
+	public CouplingGraph(String[] names, int[] offsets, int[] sinks, float[] weights){
+		this.names = names;
+		this.ids = new HashMap<String, Integer>();
+		for(int node = 0; node < names.length; node++){
+			ids.put(names[node], node);
+		}
+		this.offsets = offsets;
+		this.sinks = sinks;
+		this.weights = weights;
+
+		// Reverse the edges
+		inOffsets = new int[names.length + 1];
+		for(int edge = 0; edge < sinks.length; edge++){
+			inOffsets[sinks[edge] + 1]++;
+		}
+		for(int node = 0; node < names.length; node++){
+			inOffsets[node + 1] += inOffsets[node];
+		}
+		sources = new int[sinks.length];
+		inWeights = new float[sinks.length];
+		int[] filled = Arrays.copyOf(inOffsets, names.length);
+		for(int node = 0; node < names.length; node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				int position = filled[sinks[edge]]++;
+				sources[position] = node;
+				inWeights[position] = weights[edge];
+			}
+		}
+	}
+
+	/* Build the graph from the couplings table (file -> method -> coupled variables).
+	 * The source of a coupling is the class of the method, and the sink is the class of the variable.
+	 * Self-couplings, and couplings to classes not in the class list, are left out.
+	 * Couplings are first counted per pair of classes, for each file in parallel,
+	 * then each pair becomes one edge, with its final weight, in a single pass.
+	 */
+	public static CouplingGraph build(ArrayList<String> classList, HashMap<String, HashMap<String, ArrayList<String>>> couplings){
+		final HashMap<String, Integer> ids = new HashMap<String, Integer>();
+		for(int node = 0; node < classList.size(); node++){
+			ids.put(classList.get(node), node);
+		}
+
+		// Count couplings per (source, sink) pair, packed into a long
+		LongCountMap counts = new LongCountMap();
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try{
+			ArrayList<Future<LongCountMap>> results = new ArrayList<Future<LongCountMap>>();
+			for(final HashMap<String, ArrayList<String>> coups: couplings.values()){
+				results.add(executor.submit(new Callable<LongCountMap>(){
+					public LongCountMap call(){
+						return countCouplings(coups, ids);
+					}
+				}));
+			}
+			for(Future<LongCountMap> result: results){
+				counts.addAll(result.get());
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while counting couplings", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Could not count couplings", e.getCause());
+		}finally{
+			executor.shutdown();
+		}
+
+		return fromCounts(classList.toArray(new String[0]), counts);
+	}
+
+	/* Build a method-level graph from the couplings table. There is a node for every
+	 * method and every member coupled to (Class.member), and for classes coupled to
+	 * as a whole, numbered in name order. The edges go from each method to the members
+	 * it uses, weighted by the number of couplings, so a method that calls another
+	 * method reaches whatever that method uses. Couplings whose class is not in the class
+	 * list are left out.
+	 * Names are numbered in the order they are first seen and couplings counted in the
+	 * same pass, so each coupling costs one lookup. The project check and the
+	 * renumbering into name order are then done once per name rather than per coupling.
+	 */
+	public static CouplingGraph buildMethods(ArrayList<String> classList, HashMap<String, HashMap<String, ArrayList<String>>> couplings){
+		HashMap<String, Integer> seen = new HashMap<String, Integer>();
+		ArrayList<String> seenNames = new ArrayList<String>();
+		LongCountMap seenCounts = new LongCountMap();
+		for(HashMap<String, ArrayList<String>> coups: couplings.values()){
+			for(String method: coups.keySet()){
+				int source = intern(method, seen, seenNames);
+				for(String var: coups.get(method)){
+					int sink = intern(var, seen, seenNames);
+					if(sink != source){
+						seenCounts.add(((long) source << 32) | sink, 1);
+					}
+				}
+			}
+		}
+
+		// Keep the names of project classes, in name order
+		HashSet<String> project = new HashSet<String>(classList);
+		ArrayList<String> kept = new ArrayList<String>();
+		for(String name: seenNames){
+			if(project.contains(className(name))){
+				kept.add(name);
+			}
+		}
+		String[] names = kept.toArray(new String[0]);
+		Arrays.sort(names);
+		int[] renumbered = new int[seenNames.size()];
+		Arrays.fill(renumbered, -1);
+		for(int node = 0; node < names.length; node++){
+			renumbered[seen.get(names[node])] = node;
+		}
+
+		LongCountMap counts = new LongCountMap(seenCounts.size());
+		for(long pair: seenCounts.sortedKeys()){
+			int source = renumbered[(int) (pair >>> 32)];
+			int sink = renumbered[(int) pair];
+			if(source >= 0 && sink >= 0){
+				counts.add(((long) source << 32) | sink, seenCounts.get(pair));
+			}
+		}
+		return fromCounts(names, counts);
+	}
+
+	/* Helper function for {@link #buildMethods}.
+	 * Number of a name, giving it the next number if it has not been seen.
+	 */
+	private static int intern(String name, HashMap<String, Integer> seen, ArrayList<String> seenNames){
+		Integer id = seen.get(name);
+		if(id == null){
+			id = seenNames.size();
+			seen.put(name, id);
+			seenNames.add(name);
+		}
+		return id;
+	}
+
+	/* Helper function for {@link #build} and {@link #buildMethods}.
+	 * Lays out counted (source, sink) pairs as the edges of a graph. Sorted pairs
+	 * are grouped by source, ready to lay out as rows.
+	 */
+	private static CouplingGraph fromCounts(String[] names, LongCountMap counts){
+		long[] pairs = counts.sortedKeys();
+		int[] offsets = new int[names.length + 1];
+		int[] sinks = new int[pairs.length];
+		float[] weights = new float[pairs.length];
+		for(int edge = 0; edge < pairs.length; edge++){
+			offsets[(int) (pairs[edge] >>> 32) + 1]++;
+			sinks[edge] = (int) pairs[edge];
+			weights[edge] = counts.get(pairs[edge]);
+		}
+		for(int node = 0; node < names.length; node++){
+			offsets[node + 1] += offsets[node];
+		}
+		return new CouplingGraph(names, offsets, sinks, weights);
+	}
+
+	/* Helper function for {@link #build}.
+	 * Counts the couplings of one file per (source, sink) pair of classes.
+	 */
+	private static LongCountMap countCouplings(HashMap<String, ArrayList<String>> coups, HashMap<String, Integer> ids){
+		LongCountMap counts = new LongCountMap();
+		for(String method: coups.keySet()){
+			Integer source = ids.get(className(method));
+			if(source == null){
+				continue;
+			}
+			for(String var: coups.get(method)){
+				Integer sink = ids.get(className(var));
+				if(sink != null && sink.intValue() != source.intValue()){
+					counts.add(((long) source << 32) | sink, 1);
+				}
+			}
+		}
+		return counts;
+	}
+
+	// Class part of a coupling ("Class.member"), as used for graph nodes
+	public static String className(String coupling){
+		if(coupling.contains(".")){
+			return coupling.substring(0, coupling.indexOf("."));
+		}
+		return coupling;
+	}
+
+	/* Breadth-first search along the edges leaving a source.
+	 * Fills distance with the number of nodes on the shortest path to each node
+	 * (1 for the source itself, 0 if unreachable), and parent with the previous
+	 * node on that path (-1 for the source and unreachable nodes).
+	 * Queue must hold at least one entry per node.
+	 */
+	public void shortestPaths(int source, int[] distance, int[] parent, int[] queue){
+		Arrays.fill(distance, 0);
+		Arrays.fill(parent, -1);
+		distance[source] = 1;
+		queue[0] = source;
+		int head = 0;
+		int tail = 1;
+		while(head < tail){
+			int node = queue[head++];
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				int sink = sinks[edge];
+				if(distance[sink] == 0){
+					distance[sink] = distance[node] + 1;
+					parent[sink] = node;
+					queue[tail++] = sink;
+				}
+			}
+		}
+	}
+
+	/* Nodes on the shortest path to a node found by {@link #shortestPaths}, source first.
+	 * Empty if the node is unreachable.
+	 */
+	public int[] path(int node, int[] distance, int[] parent){
+		int[] path = new int[distance[node]];
+		for(int step = path.length - 1; step >= 0; step--){
+			path[step] = node;
+			node = parent[node];
+		}
+		return path;
+	}
+
+	/* Number of edges on the shortest path from any of several sources to each node,
+	 * along the edges (downstream) or against them (upstream, if reverse is true).
+	 * Sources are at 0, and unreachable nodes at -1.
+	 */
+	public int[] hopDistances(int[] starts, boolean reverse){
+		return hopDistances(starts, new int[starts.length], reverse);
+	}
+
+	/* As {@link #hopDistances(int[], boolean)}, with each source starting at its own
+	 * distance. Sources must be in order of their distance.
+	 */
+	public int[] hopDistances(int[] starts, int[] startDistances, boolean reverse){
+		int[] rowOffsets = reverse ? inOffsets : offsets;
+		int[] neighbours = reverse ? sources : sinks;
+		int[] distance = new int[names.length];
+		Arrays.fill(distance, -1);
+		int[] queue = new int[names.length];
+		int tail = 0;
+		for(int position = 0; position < starts.length; position++){
+			int start = starts[position];
+			if(distance[start] < 0){
+				distance[start] = startDistances[position];
+				queue[tail++] = start;
+			}
+		}
+		for(int head = 0; head < tail; head++){
+			int node = queue[head];
+			for(int edge = rowOffsets[node]; edge < rowOffsets[node + 1]; edge++){
+				int next = neighbours[edge];
+				if(distance[next] < 0){
+					distance[next] = distance[node] + 1;
+					queue[tail++] = next;
+				}
+			}
+		}
+		return distance;
+	}
+
+	/* Length of each edge for weighted shortest paths, so that strongly coupled classes are closer.
+	 * "inverse" is 1 / weight, and "log" is 1 / log2(1 + weight). Both are 1 for a single coupling.
+	 */
+	public double[] edgeLengths(String metric){
+		double[] lengths = new double[weights.length];
+		for(int edge = 0; edge < weights.length; edge++){
+			if(metric.equals("inverse")){
+				lengths[edge] = 1.0 / weights[edge];
+			}else if(metric.equals("log")){
+				lengths[edge] = Math.log(2.0) / Math.log(1.0 + weights[edge]);
+			}else{
+				throw new IllegalArgumentException("Invalid distance metric: " + metric);
+			}
+		}
+		return lengths;
+	}
+
+	/* Dijkstra's algorithm along the edges leaving a source, with the given edge lengths.
+	 * Fills distance with 1 plus the length of the shortest path to each node (so a
+	 * single coupling counts as 2, as in {@link #shortestPaths}), or infinity if
+	 * unreachable, and parent with the previous node on that path (-1 for the
+	 * source and unreachable nodes).
+	 */
+	public void weightedShortestPaths(int source, double[] lengths, double[] distance, int[] parent, DistanceHeap heap){
+		Arrays.fill(distance, Double.POSITIVE_INFINITY);
+		Arrays.fill(parent, -1);
+		heap.clear();
+		distance[source] = 1.0;
+		heap.offer(source, 1.0);
+		while(!heap.isEmpty()){
+			int node = heap.poll();
+			double reached = distance[node];
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				int sink = sinks[edge];
+				double length = reached + lengths[edge];
+				if(length < distance[sink]){
+					distance[sink] = length;
+					parent[sink] = node;
+					heap.offer(sink, length);
+				}
+			}
+		}
+	}
+
+	/* Nodes on the shortest path to a reachable node found by {@link #weightedShortestPaths}, source first.
+	 */
+	public int[] path(int node, int[] parent){
+		int steps = 1;
+		for(int step = parent[node]; step >= 0; step = parent[step]){
+			steps++;
+		}
+		int[] path = new int[steps];
+		for(int step = steps - 1; step >= 0; step--){
+			path[step] = node;
+			node = parent[node];
+		}
+		return path;
+	}
+
+	// Node number of a class, or -1 if it is not in the graph
+	public int getId(String name){
+		Integer id = ids.get(name);
+		if(id == null){
+			return -1;
+		}
+		return id;
+	}
+
+	public String getName(int node){
+		return names[node];
+	}
+
+	public int getNodeCount(){
+		return names.length;
+	}
+
+	public int getEdgeCount(){
+		return sinks.length;
+	}
+
+	public int[] getOffsets(){
+		return offsets;
+	}
+
+	public int[] getSinks(){
+		return sinks;
+	}
+
+	public float[] getWeights(){
+		return weights;
+	}
+
+	public int[] getInOffsets(){
+		return inOffsets;
+	}
+
+	public int[] getSources(){
+		return sources;
+	}
+
+	public float[] getInWeights(){
+		return inWeights;
+	}
+}
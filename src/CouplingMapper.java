@@ -8,40 +8,80 @@
 * -n=<project name> 
 * -t=<file containing list of targets> 
 * -d=<true/false, display the graph>
-* -o=<optimization mode, default is none. Options: random, none>
-* -b=<search budget, default is 120 seconds>
+* -o=<optimization mode, default is none. Options: random, ga, island, nsga2, greedy, exact, anneal, none>
+* -b=<search budget, default is 120 seconds. If -evals or -gens is given, there is no time limit unless -b is also given>
+* -evals=<search budget in fitness evaluations, default is no limit>
+* -gens=<search budget in generations, default is no limit>
+* -stall=<stop after this many generations without improvement, default is never>
+* -seed=<random seed, for reproducible searches. Default is unseeded>
+* -exactlimit=<most candidate classes for exact search, default is 24. Greedy search is used above this>
+* -temperature=<starting temperature for annealing, default is set from the first moves>
+* -cooling=<factor the annealing temperature is multiplied by each generation, default is 0.95>
+* -checkpoint=<file to save GA checkpoints to, default is no checkpoints>
+* -checkpointevery=<generations between GA checkpoints, default is 50>
+* -resume=<GA checkpoint file to resume from>
+* -warm=<.src file from a previous run, to seed the initial GA, island, or annealing search>
+* -telemetry=<file to write per-generation random search and GA statistics to, as CSV or, if it ends in .json, JSON lines>
+* -distance=<how path length is measured for optimization. Options: hops (default), inverse, log. inverse and log make strongly coupled edges shorter>
+* -pathcache=<file to save and reuse the shortest path precompute in, default is <project name>.paths. none disables>
+* -reach=<class to list the classes downstream and upstream of, or from:to to ask whether one class reaches another. May be repeated>
+* -methodreach=<Class.method to list the methods and members downstream and upstream of, or from:to to ask whether one method or member reaches another and by what path, on the method-level graph. May be repeated>
+* -impact=<file listing changed files or classes. Writes the classes upstream and downstream of them, with distances, to <project name>.impact. Parse results are cached in <project name>.analysis unless -analysiscache says otherwise>
+* -metrics=<write per-class (CBO, afferent and efferent coupling, instability) and per-method coupling metrics to <project name>.metrics and <project name>.methods. Options: csv, json>
+* -rank=<rank classes by centrality and write them to <project name>.rank. Options: pagerank, betweenness (the order of the report; both are computed)>
+* -samples=<source classes sampled for approximate betweenness, default is 256>
+* -clusters=<true/false, group classes into clusters of strongly coupled classes and write them, and the couplings between them, to <project name>.clusters. The display is colored by cluster>
+* -rollup=<roll classes up into packages cut to this many levels (0 for whole packages), and write the package graph to <project name>.packages and <project name>.packages.dot. The display shows the package graph>
+* -drill=<package whose classes are shown individually in the package graph>
+* -layout=<lay the graph out for this many iterations without a display, and draw it to <project name>.svg and <project name>.png>
+* -diff=<old.csv,new.csv: two saved analyses (<project name>.csv files) to compare. Writes the added, removed, and changed class and method couplings to <project name>.diff. Needs no -l. Without -l, the display shows the changed couplings>
+* -diffgraph=<true/false, also write the changed class couplings of -diff to <project name>.diff.dot, default is false>
+* -cycles=<write the dependency cycles (strongly connected components) to <project name>.cycles, listing this many of the heaviest couplings within each>
+* -analysiscache=<file to save parse results in, so unchanged files are not parsed again, default is <project name>.analysis with -impact and no cache otherwise. none disables>
+* -batch=<optimize clusters of targets separately and in parallel. Targets whose reachable classes overlap (Jaccard) by at least this much, from 0 to 1, share a cluster. Default is no batching>
 * -p=<solution population, default is 100>
 * -r=<percent of population to retain in GA, default is 0.1>
 * -x=<crossover rate for GA, default is 0.15>
 * -m=<mutation rate for GA, default is 0.15>
+* -islands=<number of islands for the island GA, default is the number of cores>
+* -migration=<generations between migrations for the island GA, default is 10>
+* -migrants=<members sent per migration for the island GA, default is 2>
+* -topology=<migration topology for the island GA. Options: ring (default), random>
+* -cache=<fitness cache capacity for the GA, in solutions, default is 10000. 0 disables>
+* -selection=<how the GA chooses retained members. Options: elitist (default), tournament>
+* -tournament=<tournament size for tournament selection, default is 2>
 *
 * This Source Code Form is subject to the terms of the Mozilla Public
 * License, v. 2.0. If a copy of the MPL was not distributed with this
 * file, You can obtain one at http://mozilla.org/MPL/2.0/.
 */
 
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-
 import org.graphstream.graph.*;
 import org.graphstream.graph.implementations.*;
-import org.graphstream.algorithm.Dijkstra;
 import static org.graphstream.algorithm.Toolkit.*;
 
+import java.awt.Color;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class CouplingMapper{
@@ -55,12 +95,74 @@ public class CouplingMapper{
 	private HashMap<String, String> returnTypes;
 	// Parents of classes
 	private HashMap<String, String> parents;
+	// Classes coupled to each interface or abstract class (these couplings are not in the graph)
+	private HashMap<String, HashSet<String>> unusableUsers;
 	// Global variables (names/types) for each class
 	private HashMap<String, HashMap<String, String>> variables;
 	// Project name
 	private String project;
-	// Graph of couplings
+	// Graph of couplings, and the GraphStream graph for display (null until needed)
+	private CouplingGraph couplingGraph;
 	private Graph graph;
+	// Classes defined in each file
+	private HashMap<String, ArrayList<String>> fileClasses;
+	// File the parse results are saved to (null to not save)
+	private String analysisCacheFile;
+	// Strongly connected components and transitive closure of the coupling graph (null until needed)
+	private Scc components;
+	private ReachabilityIndex reachability;
+	// Method-level graph (null until needed)
+	private CouplingGraph methodGraph;
+	// Directory the project source is in
+	private String sourceDirectory;
+	// Package rollup: levels kept (negative if not used), package to drill into (null if none), and the rollup
+	private int rollupDepth;
+	private String drillPackage;
+	private PackageRollup rollup;
+	// Clusters of strongly coupled classes (null if not found)
+	private Communities communities;
+	// Targets and the classes chosen by the optimizer, for display
+	private ArrayList<String> graphTargets;
+	private HashSet<String> selectedClasses;
+	// Island GA settings: number of islands, generations between migrations,
+	// members sent per migration, and migration topology (ring or random)
+	private int islands;
+	private int migrationInterval;
+	private int migrants;
+	private String topology;
+	// Capacity of the fitness cache used by the genetic searches
+	private int cacheCapacity;
+	// GA selection operator (elitist or tournament) and tournament size
+	private String selection;
+	private int tournamentSize;
+	// Random seed (null if unseeded) and the search limits besides time
+	private Long seed;
+	private long maxEvaluations;
+	private int maxGenerations;
+	private int stallGenerations;
+	// Most candidate classes the exact search will take on
+	private int exactLimit;
+	// Annealing starting temperature (0 or less to choose automatically) and cooling factor
+	private double initialTemperature;
+	private double cooling;
+	// Checkpoint file and generations between checkpoints, checkpoint to resume,
+	// and .src file to warm start from (null if not used)
+	private String checkpointFile;
+	private int checkpointInterval;
+	private String resumeFile;
+	private String warmFile;
+	// Classes read from the warm start file
+	private ArrayList<String> warmClasses;
+	// File to write per-generation telemetry to (null if not used)
+	private String telemetryFile;
+	// How path length is measured: hops, inverse (weight), or log (weight)
+	private String distanceMetric;
+	// File the shortest path precompute is saved to (null for <project>.paths, "none" to not save)
+	private String pathCacheFile;
+	// Batch mode: least overlap of reachable classes for targets to share a cluster (negative if not used)
+	private double batchOverlap;
+	// Source classes sampled for approximate betweenness
+	private int centralitySamples;
 
 	public CouplingMapper(){
 		classList = new ArrayList<String>();
@@ -68,9 +170,47 @@ public class CouplingMapper{
 		couplings = new HashMap<String, HashMap<String, ArrayList<String>>>();
 		returnTypes = new HashMap<String, String>();
 		parents = new HashMap<String, String>();
+		unusableUsers = new HashMap<String, HashSet<String>>();
 		variables = new HashMap<String, HashMap<String, String>>();
 		project = "results";
-		graph = new MultiGraph("couplings");
+		couplingGraph = null;
+		graph = null;
+		components = null;
+		reachability = null;
+		communities = null;
+		methodGraph = null;
+		fileClasses = new HashMap<String, ArrayList<String>>();
+		analysisCacheFile = null;
+		graphTargets = new ArrayList<String>();
+		selectedClasses = new HashSet<String>();
+		islands = Runtime.getRuntime().availableProcessors();
+		migrationInterval = 10;
+		migrants = 2;
+		topology = "ring";
+		cacheCapacity = 10000;
+		selection = "elitist";
+		tournamentSize = 2;
+		seed = null;
+		maxEvaluations = 0;
+		maxGenerations = 0;
+		stallGenerations = 0;
+		exactLimit = 24;
+		initialTemperature = 0.0;
+		cooling = 0.95;
+		checkpointFile = null;
+		checkpointInterval = 50;
+		resumeFile = null;
+		warmFile = null;
+		warmClasses = null;
+		telemetryFile = null;
+		batchOverlap = -1.0;
+		centralitySamples = 256;
+		sourceDirectory = "";
+		rollupDepth = -1;
+		drillPackage = null;
+		rollup = null;
+		distanceMetric = "hops";
+		pathCacheFile = null;
 	}
 
 	public static void main(String[] args) throws IllegalArgumentException{
@@ -81,10 +221,22 @@ public class CouplingMapper{
 			ArrayList<String> targets = new ArrayList<String>();
 			int population = 100;
 			int budget = 120;
+			boolean timeBudget = false;
 			String mode = "none";
 			double retention = 0.1;
 			double crossover = 0.15;
 			double mutation = 0.15;
+			ArrayList<String> queries = new ArrayList<String>();
+			ArrayList<String> methodQueries = new ArrayList<String>();
+			String changeFile = null;
+			int cycleEdges = -1;
+			String metricsFormat = null;
+			String ranking = null;
+			boolean clusters = false;
+			int layoutIterations = 0;
+			String analysisCache = null;
+			String[] snapshots = null;
+			boolean diffGraph = false;
 
 			for(int arg = 0; arg < args.length; arg++){
 				String[] words = args[arg].split("=");
@@ -113,6 +265,7 @@ public class CouplingMapper{
 					mode = words[1];	
 				}else if(words[0].equals("-b")){
 					budget = Integer.parseInt(words[1]);
+					timeBudget = true;
 				}else if(words[0].equals("-p")){
 					population = Integer.parseInt(words[1]);
 				}else if(words[0].equals("-r")){
@@ -121,11 +274,126 @@ public class CouplingMapper{
 					mutation = Double.parseDouble(words[1]);
 				}else if(words[0].equals("-x")){
 					crossover = Double.parseDouble(words[1]);
+				}else if(words[0].equals("-islands")){
+					mapper.setIslands(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-migration")){
+					mapper.setMigrationInterval(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-migrants")){
+					mapper.setMigrants(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-topology")){
+					if(!words[1].equals("ring") && !words[1].equals("random")){
+						throw new Exception("Invalid migration topology: " + words[1]);
+					}
+					mapper.setTopology(words[1]);
+				}else if(words[0].equals("-cache")){
+					mapper.setCacheCapacity(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-selection")){
+					if(!words[1].equals("elitist") && !words[1].equals("tournament")){
+						throw new Exception("Invalid selection operator: " + words[1]);
+					}
+					mapper.setSelection(words[1]);
+				}else if(words[0].equals("-tournament")){
+					mapper.setTournamentSize(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-evals")){
+					mapper.setMaxEvaluations(Long.parseLong(words[1]));
+				}else if(words[0].equals("-gens")){
+					mapper.setMaxGenerations(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-stall")){
+					mapper.setStallGenerations(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-seed")){
+					mapper.setSeed(Long.parseLong(words[1]));
+				}else if(words[0].equals("-exactlimit")){
+					mapper.setExactLimit(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-temperature")){
+					mapper.setInitialTemperature(Double.parseDouble(words[1]));
+				}else if(words[0].equals("-cooling")){
+					double factor = Double.parseDouble(words[1]);
+					if(factor <= 0.0 || factor >= 1.0){
+						throw new Exception("Cooling factor must be between 0 and 1: " + words[1]);
+					}
+					mapper.setCooling(factor);
+				}else if(words[0].equals("-checkpoint")){
+					mapper.setCheckpointFile(words[1]);
+				}else if(words[0].equals("-checkpointevery")){
+					mapper.setCheckpointInterval(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-resume")){
+					mapper.setResumeFile(words[1]);
+				}else if(words[0].equals("-warm")){
+					mapper.setWarmFile(words[1]);
+				}else if(words[0].equals("-telemetry")){
+					mapper.setTelemetryFile(words[1]);
+				}else if(words[0].equals("-distance")){
+					if(!words[1].equals("hops") && !words[1].equals("inverse") && !words[1].equals("log")){
+						throw new Exception("Invalid distance metric: " + words[1]);
+					}
+					mapper.setDistanceMetric(words[1]);
+				}else if(words[0].equals("-pathcache")){
+					mapper.setPathCacheFile(words[1]);
+				}else if(words[0].equals("-reach")){
+					queries.add(words[1]);
+				}else if(words[0].equals("-methodreach")){
+					methodQueries.add(words[1]);
+				}else if(words[0].equals("-impact")){
+					changeFile = words[1];
+				}else if(words[0].equals("-metrics")){
+					if(!words[1].equals("csv") && !words[1].equals("json")){
+						throw new Exception("Invalid metrics format: " + words[1]);
+					}
+					metricsFormat = words[1];
+				}else if(words[0].equals("-rank")){
+					if(!words[1].equals("pagerank") && !words[1].equals("betweenness")){
+						throw new Exception("Invalid ranking: " + words[1]);
+					}
+					ranking = words[1];
+				}else if(words[0].equals("-samples")){
+					mapper.setCentralitySamples(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-clusters")){
+					clusters = words[1].equals("true");
+				}else if(words[0].equals("-rollup")){
+					mapper.setRollupDepth(Integer.parseInt(words[1]));
+				}else if(words[0].equals("-drill")){
+					mapper.setDrillPackage(words[1]);
+				}else if(words[0].equals("-layout")){
+					layoutIterations = Integer.parseInt(words[1]);
+				}else if(words[0].equals("-diff")){
+					snapshots = words[1].split(",");
+					if(snapshots.length != 2){
+						throw new Exception("Invalid snapshots, expected old.csv,new.csv: " + words[1]);
+					}
+				}else if(words[0].equals("-diffgraph")){
+					diffGraph = words[1].equals("true");
+				}else if(words[0].equals("-cycles")){
+					cycleEdges = Integer.parseInt(words[1]);
+				}else if(words[0].equals("-analysiscache")){
+					analysisCache = words[1];
+				}else if(words[0].equals("-batch")){
+					mapper.setBatchOverlap(Double.parseDouble(words[1]));
 				}else{
 					throw new Exception("Incorrect Argument: " + words[0]);
 				}
 			}
 
+			// Impact runs reuse parse results by default, so only changed files are parsed again
+			if(analysisCache == null && changeFile != null){
+				analysisCache = mapper.getProject() + ".analysis";
+			}
+			if(analysisCache != null && !analysisCache.equals("none")){
+				mapper.setAnalysisCacheFile(analysisCache);
+			}
+
+			// Evaluation and generation budgets replace the time budget unless both are given
+			if(!timeBudget && (mapper.getMaxEvaluations() > 0 || mapper.getMaxGenerations() > 0)){
+				budget = -1;
+			}
+
+			// Compare two saved analyses
+			if(snapshots != null){
+				GraphDiff diff = mapper.compareSnapshots(snapshots[0], snapshots[1], diffGraph);
+				if(display && path.equals("")){
+					diff.toGraph().display();
+				}
+			}
+
 			if(!path.equals("")){	
 				// Produce list of Java classes.
 				mapper.generateClassList(path);
@@ -133,14 +401,50 @@ public class CouplingMapper{
 				mapper.generateCouplings();
 				// Filter couplings to remove non-project classes and simplify nesting
 				mapper.filterCouplings();
+				// Roll classes up into packages
+				if(mapper.getRollupDepth() >= 0){
+					mapper.generateRollup();
+				}
 				// Generate CSV of results 
 				mapper.generateCSV();
 				// Generate graph
 				mapper.generateGraph(targets);
+				// Answer reachability queries
+				if(!queries.isEmpty()){
+					mapper.answerQueries(queries);
+				}
+				// Compute coupling metrics
+				if(metricsFormat != null){
+					mapper.generateMetrics(metricsFormat.equals("json"));
+				}
+				// Rank classes by centrality
+				if(ranking != null){
+					mapper.rankClasses(ranking);
+				}
+				// Find clusters of strongly coupled classes
+				if(clusters){
+					mapper.findClusters();
+				}
+				// Report dependency cycles
+				if(cycleEdges >= 0){
+					mapper.reportCycles(cycleEdges);
+				}
+				// Answer method-level reachability queries
+				if(!methodQueries.isEmpty()){
+					mapper.answerMethodQueries(methodQueries);
+				}
+				// Find the classes affected by a change
+				if(changeFile != null){
+					mapper.analyzeImpact(changeFile);
+				}
 				// Generate set of classes to generate tests for.
 				if(!mode.equals("none")){
 					mapper.optimizeGenSet(path, targets, mode, population, budget, retention, mutation, crossover);
 				}
+				// Draw the graph without a display
+				if(layoutIterations > 0){
+					mapper.drawGraph(layoutIterations);
+				}
 				if(display){
 					mapper.displayGraph();
 				}
@@ -165,15 +469,584 @@ public class CouplingMapper{
 		writer.close();
 	}
 
-	// Display the graph
+	// Display the graph (the package graph, if classes were rolled up)
 	public void displayGraph(){
-		graph.display();	
+		if(rollup != null){
+			rollup.toGraph().display();
+			return;
+		}
+		getGraph().display();	
 		//graph.addAttribute("ui.screenshot", project + ".png");	
 	}
 
+	/* Roll the classes up into packages in one pass over the couplings table, and write
+	 * the package graph to <project>.packages (CSV) and <project>.packages.dot (Graphviz).
+	 */
+	public PackageRollup generateRollup() throws IOException{
+		long start = System.currentTimeMillis();
+		rollup = new PackageRollup(sourceDirectory, rollupDepth, drillPackage, classList, fileClasses, couplings);
+		long rolled = System.currentTimeMillis();
+		rollup.write(project);
+		rollup.writeDot(project + ".packages.dot");
+		System.out.println(classList.size() + " classes rolled up into " + rollup.getNodeCount() + " nodes and " + rollup.getEdgeCount()
+			+ " couplings (" + (rolled - start) + " ms), written to " + project + ".packages and " + project + ".packages.dot");
+		return rollup;
+	}
+
+	/* Compare two saved analyses (<project>.csv files, e.g., of two releases) and write
+	 * the class and method couplings that were added, removed, or changed in number to
+	 * <project>.diff, and, if graph is true, the changed class couplings to <project>.diff.dot.
+	 */
+	public GraphDiff compareSnapshots(String oldFile, String newFile, boolean graph) throws IOException{
+		long start = System.currentTimeMillis();
+		GraphDiff diff = new GraphDiff(oldFile, newFile);
+		long compared = System.currentTimeMillis();
+		diff.write(project + ".diff");
+		if(graph){
+			diff.writeDot(project + ".diff.dot");
+		}
+
+		int[] classChanges = diff.getClassChangeCounts();
+		int[] methodChanges = diff.getMethodChangeCounts();
+		System.out.println("Class couplings: " + diff.getOldClassPairs() + " -> " + diff.getNewClassPairs() + ", " + classChanges[0]
+			+ " added, " + classChanges[1] + " removed, " + classChanges[2] + " changed");
+		System.out.println("Method couplings: " + diff.getOldMethodPairs() + " -> " + diff.getNewMethodPairs() + ", " + methodChanges[0]
+			+ " added, " + methodChanges[1] + " removed, " + methodChanges[2] + " changed");
+		System.out.println("Compared in " + (compared - start) + " ms, written to " + project + ".diff" + (graph ? " and " + project + ".diff.dot" : ""));
+		return diff;
+	}
+
 	// Generate graph
+	// Builds the compact graph used for analysis and optimization. The GraphStream
+	// graph is only built (see {@link #getGraph}) if it is displayed.
 	public void generateGraph(ArrayList<String> targets){
+		couplingGraph = CouplingGraph.build(classList, couplings);
+		graphTargets = new ArrayList<String>(targets);
+		graph = null;
+		components = null;
+		reachability = null;
+		communities = null;
+		methodGraph = null;
+	}
+
+	// Compute coupling metrics for each class and method, and write them to <project>.metrics and <project>.methods
+	public CouplingMetrics generateMetrics(boolean json) throws IOException{
+		long start = System.currentTimeMillis();
+		CouplingMetrics metrics = new CouplingMetrics(couplingGraph, couplings);
+		metrics.write(project, json);
+		String extension = json ? ".json" : ".csv";
+		System.out.println("Coupling metrics written to " + project + ".metrics" + extension + " and " + project + ".methods" + extension
+			+ " (" + (System.currentTimeMillis() - start) + " ms)");
+		return metrics;
+	}
+
+	/* Rank classes by centrality. Computes PageRank and approximate betweenness, and writes
+	 * every class, ordered by the chosen one (pagerank or betweenness), to <project>.rank.
+	 */
+	public Centrality rankClasses(String ranking) throws IOException{
+		long start = System.currentTimeMillis();
+		Centrality centrality = new Centrality(couplingGraph);
+		final double[] pageRank = centrality.computePageRank();
+		long ranked = System.currentTimeMillis();
+		final double[] betweenness = centrality.computeBetweenness(centralitySamples, searchRandom(0));
+		long end = System.currentTimeMillis();
+
+		final double[] first = ranking.equals("pagerank") ? pageRank : betweenness;
+		final double[] second = ranking.equals("pagerank") ? betweenness : pageRank;
+		ArrayList<Integer> order = new ArrayList<Integer>();
+		for(int node = 0; node < couplingGraph.getNodeCount(); node++){
+			order.add(node);
+		}
+		Collections.sort(order, new Comparator<Integer>(){
+			public int compare(Integer one, Integer two){
+				if(first[one] != first[two]){
+					return Double.compare(first[two], first[one]);
+				}
+				if(second[one] != second[two]){
+					return Double.compare(second[two], second[one]);
+				}
+				return couplingGraph.getName(one).compareTo(couplingGraph.getName(two));
+			}
+		});
+
+		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".rank"));
+		writer.write("# Rank, Class, PageRank, Betweenness\n");
+		for(int position = 0; position < order.size(); position++){
+			int node = order.get(position);
+			writer.write((position + 1) + "," + couplingGraph.getName(node) + "," + pageRank[node] + "," + betweenness[node] + "\n");
+		}
+		writer.close();
+
+		System.out.println("PageRank: " + centrality.getIterations() + " iterations (" + (ranked - start) + " ms). Betweenness: "
+			+ centrality.getSamples() + " sources (" + (end - ranked) + " ms). Ranking written to " + project + ".rank");
+		for(int position = 0; position < Math.min(10, order.size()); position++){
+			int node = order.get(position);
+			System.out.println("  " + (position + 1) + ". " + couplingGraph.getName(node) + " (PageRank " + pageRank[node]
+				+ ", betweenness " + betweenness[node] + ")");
+		}
+		return centrality;
+	}
+
+	/* Group the classes into clusters of strongly coupled classes, and write the cluster
+	 * of each class and the number of couplings between each pair of clusters to
+	 * <project>.clusters. Clusters are numbered from 1, largest first.
+	 */
+	public Communities findClusters() throws IOException{
+		long start = System.currentTimeMillis();
+		communities = new Communities(couplingGraph);
+		int[] cluster = communities.getClusters();
+		long found = System.currentTimeMillis();
+
+		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".clusters"));
+		writer.write("# Class, Cluster\n");
+		int[] size = new int[communities.getClusterCount()];
+		for(int node = 0; node < couplingGraph.getNodeCount(); node++){
+			writer.write(couplingGraph.getName(node) + "," + (cluster[node] + 1) + "\n");
+			size[cluster[node]]++;
+		}
+		writer.write("# Cluster, Coupled Cluster, Weight\n");
+		LongCountMap between = communities.getClusterWeights();
+		for(long pair: between.sortedKeys()){
+			writer.write(((int) (pair >>> 32) + 1) + "," + ((int) pair + 1) + "," + between.get(pair) + "\n");
+		}
+		writer.close();
+
+		int singletons = 0;
+		for(int current = 0; current < size.length; current++){
+			if(size[current] == 1){
+				singletons++;
+			}
+		}
+		System.out.println(communities.getClusterCount() + " clusters (" + singletons + " of a single class), largest has "
+			+ (size.length > 0 ? size[0] : 0) + " classes. Modularity " + communities.getModularity() + ", "
+			+ Math.round(100 * communities.getInternalFraction()) + "% of couplings within clusters. Found in "
+			+ communities.getRounds() + " rounds (" + (found - start) + " ms), written to " + project + ".clusters");
+		return communities;
+	}
+
+	// Strongly connected components of the coupling graph, found on first use
+	public Scc getComponents(){
+		if(components == null){
+			components = new Scc(couplingGraph);
+		}
+		return components;
+	}
+
+	// Reachability index of the coupling graph, built on first use
+	public ReachabilityIndex getReachabilityIndex(){
+		if(reachability == null){
+			reachability = new ReachabilityIndex(getComponents());
+		}
+		return reachability;
+	}
+
+	/* Dependency cycle report. Writes each group of classes that are coupled to each
+	 * other in a cycle (a strongly connected component with more than one class), the
+	 * largest first, with its size, number and total weight of couplings within it, and
+	 * its heaviest couplings, to <project>.cycles.
+	 */
+	public void reportCycles(int heaviest) throws IOException{
+		long start = System.currentTimeMillis();
+		Scc scc = getComponents();
+		int[] component = scc.getComponents();
+		int[] offsets = couplingGraph.getOffsets();
+		int[] sinks = couplingGraph.getSinks();
+		float[] weights = couplingGraph.getWeights();
+
+		// Edges within each component (CSR), and their count and weight
+		int count = scc.getComponentCount();
+		int[] edgeOffsets = new int[count + 1];
+		double[] internalWeight = new double[count];
+		for(int node = 0; node < couplingGraph.getNodeCount(); node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				if(component[sinks[edge]] == component[node]){
+					edgeOffsets[component[node] + 1]++;
+					internalWeight[component[node]] += weights[edge];
+				}
+			}
+		}
+		for(int current = 0; current < count; current++){
+			edgeOffsets[current + 1] += edgeOffsets[current];
+		}
+		// Edges are keyed by weight then edge number, so sorting puts the heaviest last
+		long[] internal = new long[edgeOffsets[count]];
+		int[] edgeSources = new int[sinks.length];
+		int[] filled = Arrays.copyOf(edgeOffsets, count);
+		for(int node = 0; node < couplingGraph.getNodeCount(); node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				edgeSources[edge] = node;
+				if(component[sinks[edge]] == component[node]){
+					internal[filled[component[node]]++] = ((long) Float.floatToIntBits(weights[edge]) << 32) | edge;
+				}
+			}
+		}
+
+		// Cycles, largest (then heaviest) first
+		ArrayList<Integer> cycles = new ArrayList<Integer>();
+		int cycleClasses = 0;
+		for(int current = 0; current < count; current++){
+			if(scc.getSize(current) > 1){
+				cycles.add(current);
+				cycleClasses += scc.getSize(current);
+			}
+		}
+		final Scc sized = scc;
+		final double[] weighed = internalWeight;
+		Collections.sort(cycles, new Comparator<Integer>(){
+			public int compare(Integer first, Integer second){
+				if(sized.getSize(first) != sized.getSize(second)){
+					return sized.getSize(second) - sized.getSize(first);
+				}
+				return Double.compare(weighed[second], weighed[first]);
+			}
+		});
+
+		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".cycles"));
+		writer.write("# Cycle, Size, Couplings, Weight, Classes\n");
+		int[] memberOffsets = scc.getMemberOffsets();
+		int[] members = scc.getMembers();
+		for(int cycle = 0; cycle < cycles.size(); cycle++){
+			int current = cycles.get(cycle);
+			ArrayList<String> classes = new ArrayList<String>();
+			for(int member = memberOffsets[current]; member < memberOffsets[current + 1]; member++){
+				classes.add(couplingGraph.getName(members[member]));
+			}
+			Collections.sort(classes);
+			writer.write((cycle + 1) + "," + scc.getSize(current) + "," + (edgeOffsets[current + 1] - edgeOffsets[current]) + ","
+				+ internalWeight[current] + ",");
+			for(int clazz = 0; clazz < classes.size(); clazz++){
+				writer.write((clazz > 0 ? " " : "") + classes.get(clazz));
+			}
+			writer.write("\n");
+		}
+		writer.write("# Cycle, Class, Coupled Class, Weight\n");
+		for(int cycle = 0; cycle < cycles.size(); cycle++){
+			int current = cycles.get(cycle);
+			Arrays.sort(internal, edgeOffsets[current], edgeOffsets[current + 1]);
+			int last = Math.max(edgeOffsets[current], edgeOffsets[current + 1] - heaviest);
+			for(int position = edgeOffsets[current + 1] - 1; position >= last; position--){
+				int edge = (int) internal[position];
+				writer.write((cycle + 1) + "," + couplingGraph.getName(edgeSources[edge]) + "," + couplingGraph.getName(sinks[edge])
+					+ "," + weights[edge] + "\n");
+			}
+		}
+		writer.close();
+
+		String largest = cycles.isEmpty() ? "" : ", largest has " + scc.getSize(cycles.get(0)) + " classes";
+		System.out.println(cycles.size() + " dependency cycles containing " + cycleClasses + " of " + couplingGraph.getNodeCount()
+			+ " classes" + largest + ", written to " + project + ".cycles (" + (System.currentTimeMillis() - start) + " ms)");
+	}
+
+	// Whether one class is coupled, directly or indirectly, to another
+	public boolean canReach(String from, String to){
+		int source = couplingGraph.getId(from);
+		int sink = couplingGraph.getId(to);
+		if(source < 0 || sink < 0){
+			return false;
+		}
+		return getReachabilityIndex().canReach(source, sink);
+	}
+
+	// Classes a class is coupled to, directly or indirectly (downstream)
+	public ArrayList<String> getReachableFrom(String clazz){
+		ArrayList<String> classes = new ArrayList<String>();
+		int node = couplingGraph.getId(clazz);
+		if(node >= 0){
+			for(int found: getReachabilityIndex().reachableFrom(node)){
+				classes.add(couplingGraph.getName(found));
+			}
+		}
+		return classes;
+	}
+
+	// Classes coupled, directly or indirectly, to a class (upstream, affected if it changes)
+	public ArrayList<String> getReaching(String clazz){
+		ArrayList<String> classes = new ArrayList<String>();
+		int node = couplingGraph.getId(clazz);
+		if(node >= 0){
+			for(int found: getReachabilityIndex().reaching(node)){
+				classes.add(couplingGraph.getName(found));
+			}
+		}
+		return classes;
+	}
+
+	/* Change impact analysis. Reads a list of changed files or classes, one per line,
+	 * and writes the classes downstream of them (that they use) and upstream of them
+	 * (that use them, and so may be affected), with their distance in couplings,
+	 * to <project>.impact. A file may be given by any trailing part of its path.
+	 * Interfaces and abstract classes are not in the coupling graph; the classes that
+	 * use or extend a changed one are upstream of it at distance 1. Other changed
+	 * classes that are not in the graph are reported and skipped.
+	 */
+	public void analyzeImpact(String changeFile) throws IOException{
+		long start = System.currentTimeMillis();
+		ArrayList<String> changed = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new FileReader(changeFile));
+		String current = "";
+		while((current = reader.readLine()) != null){
+			current = current.trim();
+			if(current.equals("")){
+				continue;
+			}
+			if(current.endsWith(".java")){
+				// Classes defined in a changed file
+				String suffix = current.replace('\\', '/');
+				boolean found = false;
+				for(String file: fileClasses.keySet()){
+					String name = file.replace('\\', '/');
+					if(name.equals(suffix) || name.endsWith("/" + suffix) || suffix.endsWith("/" + name)){
+						changed.addAll(fileClasses.get(file));
+						found = true;
+					}
+				}
+				if(!found){
+					System.out.println("Unknown file: " + current);
+				}
+			}else if(current.indexOf('.') >= 0){
+				// Strip out path information
+				changed.add(current.substring(current.lastIndexOf('.') + 1, current.length()));
+			}else{
+				changed.add(current);
+			}
+		}
+		reader.close();
+
+		// Changed classes in the graph, and the users of changed classes that are not
+		HashSet<Integer> seen = new HashSet<Integer>();
+		ArrayList<Integer> nodes = new ArrayList<Integer>();
+		ArrayList<Integer> users = new ArrayList<Integer>();
+		HashSet<String> missing = new HashSet<String>();
+		for(String clazz: changed){
+			int node = couplingGraph.getId(clazz);
+			if(node >= 0){
+				if(seen.add(node)){
+					nodes.add(node);
+				}
+			}else if(missing.add(clazz)){
+				HashSet<String> standIns = new HashSet<String>();
+				if(unusableUsers.containsKey(clazz)){
+					standIns.addAll(unusableUsers.get(clazz));
+				}
+				for(String child: parents.keySet()){
+					if(clazz.equals(parents.get(child))){
+						standIns.add(child);
+					}
+				}
+				int inGraph = 0;
+				for(String user: standIns){
+					int userNode = couplingGraph.getId(user);
+					if(userNode >= 0){
+						users.add(userNode);
+						inGraph++;
+					}
+				}
+				System.out.println("Not in coupling graph: " + clazz + (inGraph > 0 ? " (using the " + inGraph + " classes that use or extend it)" : ""));
+			}
+		}
+		int[] starts = new int[nodes.size()];
+		for(int node = 0; node < starts.length; node++){
+			starts[node] = nodes.get(node);
+		}
+		// Users of changed classes that are not in the graph start upstream, at distance 1
+		int[] upstreamStarts = new int[nodes.size() + users.size()];
+		int[] startDistances = new int[upstreamStarts.length];
+		System.arraycopy(starts, 0, upstreamStarts, 0, starts.length);
+		for(int user = 0; user < users.size(); user++){
+			upstreamStarts[starts.length + user] = users.get(user);
+			startDistances[starts.length + user] = 1;
+		}
+		int[] downstream = couplingGraph.hopDistances(starts, false);
+		int[] upstream = couplingGraph.hopDistances(upstreamStarts, startDistances, true);
+
+		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".impact"));
+		writer.write("# Class, Direction, Distance\n");
+		int downstreamCount = 0;
+		int upstreamCount = 0;
+		for(int node = 0; node < couplingGraph.getNodeCount(); node++){
+			if(downstream[node] == 0){
+				writer.write(couplingGraph.getName(node) + ",changed,0\n");
+				continue;
+			}
+			if(upstream[node] > 0){
+				writer.write(couplingGraph.getName(node) + ",upstream," + upstream[node] + "\n");
+				upstreamCount++;
+			}
+			if(downstream[node] > 0){
+				writer.write(couplingGraph.getName(node) + ",downstream," + downstream[node] + "\n");
+				downstreamCount++;
+			}
+		}
+		writer.close();
+		System.out.println("Impact of " + (starts.length + missing.size()) + " changed classes (" + missing.size() + " not in the coupling graph): " + upstreamCount + " upstream, " + downstreamCount
+			+ " downstream, written to " + project + ".impact (" + (System.currentTimeMillis() - start) + " ms)");
+	}
+
+	/* Answer reachability queries, printing each answer and how long it took.
+	 * A query "A" lists the classes downstream and upstream of A; "A:B" asks whether A reaches B.
+	 */
+	public void answerQueries(ArrayList<String> queries){
+		long start = System.nanoTime();
+		ReachabilityIndex index = getReachabilityIndex();
+		System.out.println("Reachability index: " + couplingGraph.getNodeCount() + " classes in " + index.getComponentCount()
+			+ " components, built in " + (System.nanoTime() - start) / 1000000 + " ms");
+		for(String query: queries){
+			start = System.nanoTime();
+			if(query.contains(":")){
+				String from = query.substring(0, query.indexOf(":"));
+				String to = query.substring(query.indexOf(":") + 1, query.length());
+				boolean reaches = canReach(from, to);
+				long micros = (System.nanoTime() - start) / 1000;
+				System.out.println(from + (reaches ? " reaches " : " does not reach ") + to + " (" + micros + " us)");
+			}else{
+				if(couplingGraph.getId(query) < 0){
+					System.out.println("Unknown class: " + query);
+					continue;
+				}
+				ArrayList<String> downstream = getReachableFrom(query);
+				ArrayList<String> upstream = getReaching(query);
+				long micros = (System.nanoTime() - start) / 1000;
+				System.out.println(query + " (" + micros + " us)");
+				System.out.println("  Downstream (" + downstream.size() + "): " + downstream.toString());
+				System.out.println("  Upstream (" + upstream.size() + "): " + upstream.toString());
+			}
+		}
+	}
+
+	// Method-level graph of the couplings, built on first use
+	public CouplingGraph getMethodGraph(){
+		if(methodGraph == null){
+			methodGraph = CouplingGraph.buildMethods(classList, couplings);
+		}
+		return methodGraph;
+	}
+
+	/* Answer reachability queries on the method-level graph, printing each answer and how
+	 * long it took. A query "A.m" counts (and lists the first few of) the methods and members
+	 * downstream and upstream of A.m; "A.m:B.f" asks whether A.m reaches B.f, and if so,
+	 * gives the shortest path. Method graphs are mostly acyclic, with about one component
+	 * per node, so a closure like {@link ReachabilityIndex} would take memory quadratic in
+	 * the number of methods. Each query is answered by a breadth-first search instead.
+	 */
+	public void answerMethodQueries(ArrayList<String> queries){
+		long start = System.nanoTime();
+		CouplingGraph methods = getMethodGraph();
+		System.out.println("Method graph: " + methods.getNodeCount() + " methods and members, " + methods.getEdgeCount() + " couplings, built in "
+			+ (System.nanoTime() - start) / 1000000 + " ms");
+		int[] distance = new int[methods.getNodeCount()];
+		int[] parent = new int[methods.getNodeCount()];
+		int[] queue = new int[methods.getNodeCount()];
+		for(String query: queries){
+			start = System.nanoTime();
+			if(query.contains(":")){
+				String from = query.substring(0, query.indexOf(":"));
+				String to = query.substring(query.indexOf(":") + 1, query.length());
+				int source = methods.getId(from);
+				int sink = methods.getId(to);
+				if(source < 0 || sink < 0){
+					System.out.println("Unknown method or member: " + (source < 0 ? from : to));
+					continue;
+				}
+				methods.shortestPaths(source, distance, parent, queue);
+				if(distance[sink] == 0){
+					System.out.println(from + " does not reach " + to + " (" + (System.nanoTime() - start) / 1000 + " us)");
+					continue;
+				}
+				ArrayList<String> path = new ArrayList<String>();
+				for(int step: methods.path(sink, distance, parent)){
+					path.add(methods.getName(step));
+				}
+				System.out.println(from + " reaches " + to + " (" + (System.nanoTime() - start) / 1000 + " us): " + path.toString());
+			}else{
+				int node = methods.getId(query);
+				if(node < 0){
+					System.out.println("Unknown method or member: " + query);
+					continue;
+				}
+				int[] downstream = reached(methods.hopDistances(new int[]{node}, false));
+				int[] upstream = reached(methods.hopDistances(new int[]{node}, true));
+				long micros = (System.nanoTime() - start) / 1000;
+				System.out.println(query + " (" + micros + " us)");
+				System.out.println("  Downstream (" + downstream.length + "): " + names(methods, downstream, 20));
+				System.out.println("  Upstream (" + upstream.length + "): " + names(methods, upstream, 20));
+			}
+		}
+	}
+
+	/* Helper function for {@link #answerMethodQueries}.
+	 * Nodes found by {@link CouplingGraph#hopDistances}, not including the start, in order.
+	 */
+	private int[] reached(int[] distance){
+		int count = 0;
+		for(int node = 0; node < distance.length; node++){
+			if(distance[node] > 0){
+				count++;
+			}
+		}
+		int[] found = new int[count];
+		int filled = 0;
+		for(int node = 0; node < distance.length; node++){
+			if(distance[node] > 0){
+				found[filled++] = node;
+			}
+		}
+		return found;
+	}
+
+	/* Helper function for {@link #answerMethodQueries}.
+	 * Names of up to the given number of nodes, with "..." if there are more.
+	 */
+	private String names(CouplingGraph methods, int[] nodes, int most){
+		ArrayList<String> names = new ArrayList<String>();
+		for(int node = 0; node < Math.min(most, nodes.length); node++){
+			names.add(methods.getName(nodes[node]));
+		}
+		if(nodes.length > most){
+			names.add("...");
+		}
+		return names.toString();
+	}
+
+	// Color of a cluster. Cluster colors are spread around the color wheel by the golden ratio.
+	public Color clusterColor(int cluster){
+		return Color.getHSBColor((float) ((cluster * 0.618034) % 1.0), 0.65f, 0.85f);
+	}
+
+	/* Lay the graph out without a display and draw it to <project>.svg and <project>.png.
+	 * Targets are red and selected classes green, as in the display, and other classes are
+	 * colored by cluster if clusters were found.
+	 */
+	public ForceLayout drawGraph(int iterations) throws IOException{
+		long start = System.currentTimeMillis();
+		ForceLayout layout = new ForceLayout(couplingGraph, searchRandom(0));
+		layout.layout(iterations);
+		long laidOut = System.currentTimeMillis();
+
+		String[] colors = new String[couplingGraph.getNodeCount()];
+		HashSet<String> targets = new HashSet<String>(graphTargets);
+		for(int node = 0; node < colors.length; node++){
+			String clazz = couplingGraph.getName(node);
+			if(targets.contains(clazz)){
+				colors[node] = "#ff0000";
+			}else if(selectedClasses.contains(clazz)){
+				colors[node] = "#008000";
+			}else if(communities != null){
+				colors[node] = String.format("#%06x", clusterColor(communities.getCluster(node)).getRGB() & 0xffffff);
+			}else{
+				colors[node] = "#000000";
+			}
+		}
+		layout.writeSvg(project + ".svg", colors, 1600, 1600);
+		layout.writePng(project + ".png", colors, 1600, 1600);
+		System.out.println("Graph laid out in " + iterations + " iterations (" + (laidOut - start) + " ms), drawn to " + project + ".svg and "
+			+ project + ".png (" + (System.currentTimeMillis() - laidOut) + " ms)");
+		return layout;
+	}
+
+	// Build the GraphStream graph from the compact graph, for display
+	public void materializeGraph(){
 		System.setProperty("org.graphstream.ui.renderer", "org.graphstream.ui.j2dviewer.J2DGraphRenderer");
+		graph = new MultiGraph("couplings");
 
 		// Define custom coloring for graph
 		graph.addAttribute("ui.stylesheet", "graph { fill-color: white; }" +
@@ -192,46 +1065,28 @@ public class CouplingMapper{
 		for(String clazz: classList){
 			graph.addNode(clazz);
 			graph.getNode(clazz).addAttribute("ui.label", clazz);
-			if(targets.contains(clazz)){
+			if(graphTargets.contains(clazz)){
 				graph.getNode(clazz).addAttribute("ui.class", "target");
+			}else if(selectedClasses.contains(clazz)){
+				graph.getNode(clazz).addAttribute("ui.class", "selected");
+			}else if(communities != null){
+				Color color = clusterColor(communities.getCluster(couplingGraph.getId(clazz)));
+				graph.getNode(clazz).addAttribute("ui.style", "fill-color: rgb(" + color.getRed() + "," + color.getGreen() + ","
+					+ color.getBlue() + ");");
 			}
 		}
 
-		for(String clazz : couplings.keySet()){ 
-			HashMap<String, ArrayList<String>> coups = couplings.get(clazz);
-			for(String method : coups.keySet()){
-				for(String var : coups.get(method)){
-					// Get class that is coupled to another
-					String source = "";
-					if(method.contains(".")){
-						source = method.substring(0, method.indexOf("."));
-					}else{
-						source = method;
-					}
-
-					// Get class that is the target
-					String sink = "";
-					if(var.contains(".")){
-						sink = var.substring(0, var.indexOf("."));
-					}else{
-						sink = var;
-					}
-			
-					// Do not add self-edges (to keep graph clean)
-					if(!source.equals(sink)){
-						// Edge name
-						String eName = source + "-" + sink;
-	
-						// Add edge if it does not exist
-						if(graph.getEdge(eName) == null){
-							graph.addEdge(eName, source, sink, true);
-							// Set weight
-							graph.getEdge(eName).setAttribute("weight", 1.0);
-						}else{
-							graph.getEdge(eName).setAttribute("weight", graph.getEdge(eName).getNumber("weight") + 1);
-						}
-					}
-				}
+		// Add each coupled pair of classes as an edge, weighted by the number of couplings
+		int[] offsets = couplingGraph.getOffsets();
+		int[] sinks = couplingGraph.getSinks();
+		float[] weights = couplingGraph.getWeights();
+		for(int node = 0; node < couplingGraph.getNodeCount(); node++){
+			String source = couplingGraph.getName(node);
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				String sink = couplingGraph.getName(sinks[edge]);
+				String eName = source + "-" + sink;
+				graph.addEdge(eName, source, sink, true);
+				graph.getEdge(eName).setAttribute("weight", (double) weights[edge]);
 			}
 		}
 		/*
@@ -252,450 +1107,1031 @@ public class CouplingMapper{
 	public void optimizeGenSet(String path, ArrayList<String> targets, String mode, int population, int budget, double retention, double mutation, double crossover) throws Exception{
 		// Pre-compute and cache all shortest path distances and coverage
 		// These are calculated per target class
-		HashMap<String, ArrayList<Double>> pathLengths = new HashMap<String, ArrayList<Double>>();
-		HashMap<String, ArrayList<ArrayList<Node>>> coverage = new HashMap<String, ArrayList<ArrayList<Node>>>();
-		ArrayList<Double> maxLength = new ArrayList<Double>();
-		ArrayList<HashSet<String>> maxCoverage = new ArrayList<HashSet<String>>();
+		// If the graph and targets are unchanged since the last run, load them instead
+		String cacheFile = pathCacheFile == null ? project + ".paths" : pathCacheFile;
+		long key = PathCache.key(couplingGraph, targets, distanceMetric);
+		SearchSpace space = null;
+		if(!cacheFile.equals("none")){
+			space = PathCache.load(cacheFile, key);
+		}
+		if(space == null){
+			double[] edgeLengths = null;
+			if(!distanceMetric.equals("hops")){
+				edgeLengths = couplingGraph.edgeLengths(distanceMetric);
+			}
+			space = SearchSpace.build(couplingGraph, targets, edgeLengths);
+			if(!cacheFile.equals("none")){
+				PathCache.save(cacheFile, key, space);
+			}
+		}else{
+			System.out.println("Loaded shortest paths from " + cacheFile);
+		}
+		readWarmStart(space);
+
+		// Generate solutions
+		BitSolution best;
+		if(batchOverlap >= 0.0){
+			best = batchSearch(targets, mode, population, budget, space, retention, mutation, crossover);
+		}else{
+			best = runSearch(path, targets, mode, population, new SearchBudget(budget, maxEvaluations, maxGenerations, stallGenerations), space, retention, mutation, crossover);
+		}
+		ArrayList<String> solution = space.toClasses(best);
+		selectedClasses = new HashSet<String>(solution);
+		graph = null;
 
+		// Output list to a file
 		for(String target: targets){
-			maxLength.add(0.0);
-			maxCoverage.add(new HashSet<String>());
+			solution.add(target);
 		}
-		Dijkstra dijkstra = new Dijkstra(Dijkstra.Element.NODE, null, null);
-		dijkstra.init(graph);
-		for(String clazz: classList){
-			if(!targets.contains(clazz)){
-				// Shortest path to each target
-				dijkstra.setSource(graph.getNode(clazz));
-				dijkstra.compute();
-				ArrayList<Double> lengths = new ArrayList<Double>();
-				ArrayList<ArrayList<Node>> pathClasses = new ArrayList<ArrayList<Node>>();
-				for (int currentTarget = 0; currentTarget < targets.size(); currentTarget++){
-					String target = targets.get(currentTarget);
-					Node node = graph.getNode(target);
-					double length = dijkstra.getPathLength(node);
-					lengths.add(length);
-					if(length != Double.POSITIVE_INFINITY && length > maxLength.get(currentTarget)){
-						maxLength.set(currentTarget, length);
-					}
-					ArrayList<Node> classes = new ArrayList(dijkstra.getPath(node).getNodePath());
-					pathClasses.add(classes);
-					HashSet<String> maxCoveredClasses = maxCoverage.get(currentTarget);
-					for(Node n: classes){
-						maxCoveredClasses.add(n.getId());
+		System.out.println("Size: " + solution.size() + " / " + classList.size());
+
+		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".src"));
+		for(String clazz: solution){
+			writer.write(qualifyClass(clazz, path) + "\n");
+		}
+		writer.close();
+	}
+
+	// Runs the search for a mode. Returns the best solution found.
+	public BitSolution runSearch(String path, ArrayList<String> targets, String mode, int population, SearchBudget budget, SearchSpace space,
+			double retention, double mutation, double crossover) throws Exception{
+		BitSolution best;
+		if(mode.equals("random")){
+			best = randomSearch(population, budget, space);
+		}else if(mode.equals("ga")){
+			best = geneticSearch(population, budget, space, retention, mutation, crossover);
+		}else if(mode.equals("island")){
+			best = islandSearch(population, budget, space, retention, mutation, crossover);
+		}else if(mode.equals("nsga2")){
+			ArrayList<BitSolution> front = nsga2Search(population, budget, space, mutation);
+			writeFront(path, targets, space, front);
+			best = front.isEmpty() ? new BitSolution(space.getCandidateCount()) : front.get(0);
+		}else if(mode.equals("greedy")){
+			best = greedySearch(budget, space);
+		}else if(mode.equals("exact")){
+			best = exactSearch(budget, space);
+		}else if(mode.equals("anneal")){
+			best = annealSearch(budget, space);
+		}else{
+			throw new Exception("Invalid search mode: " + mode);
+		}
+		return best;
+	}
+
+	/* Batch mode. Clusters the targets by the overlap of the classes that reach them
+	 * (see {@link TargetClustering}), optimizes each cluster on its own, smaller search
+	 * space, in parallel, and merges the sets chosen. Returns the merged set.
+	 * Each cluster has the full budget. Per-cluster results and timing are printed at the end.
+	 */
+	public BitSolution batchSearch(final ArrayList<String> targets, final String mode, final int population, final int budget, SearchSpace space,
+			final double retention, final double mutation, final double crossover) throws Exception{
+		if(mode.equals("nsga2") || checkpointFile != null || resumeFile != null || telemetryFile != null){
+			throw new Exception("Batch mode does not support nsga2, checkpoints, or telemetry.");
+		}
+		final ArrayList<int[]> clusters = TargetClustering.cluster(space, batchOverlap);
+		System.out.println("Batch: " + targets.size() + " targets in " + clusters.size() + " clusters");
+
+		final SearchSpace[] spaces = new SearchSpace[clusters.size()];
+		final long[] times = new long[clusters.size()];
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(clusters.size(), Runtime.getRuntime().availableProcessors())));
+		ArrayList<Future<BitSolution>> results = new ArrayList<Future<BitSolution>>();
+		for(int cluster = 0; cluster < clusters.size(); cluster++){
+			final int current = cluster;
+			final ArrayList<String> clusterTargets = new ArrayList<String>();
+			for(int target: clusters.get(cluster)){
+				clusterTargets.add(targets.get(target));
+			}
+			spaces[cluster] = space.restrict(clusters.get(cluster));
+			results.add(executor.submit(new Callable<BitSolution>(){
+				public BitSolution call() throws Exception{
+					long start = System.currentTimeMillis();
+					SearchSpace clusterSpace = spaces[current];
+					BitSolution best;
+					if(clusterSpace.getCandidateCount() < 2){
+						// Nothing to choose between (and set size cannot be normalized)
+						best = new BitSolution(clusterSpace.getCandidateCount());
+						for(int candidate = 0; candidate < clusterSpace.getCandidateCount(); candidate++){
+							best.set(candidate);
+						}
+					}else{
+						SearchBudget limits = new SearchBudget(budget, maxEvaluations, maxGenerations, stallGenerations);
+						best = runSearch(null, clusterTargets, mode, population, limits, clusterSpace, retention, mutation, crossover);
 					}
-					maxCoverage.set(currentTarget, maxCoveredClasses);
+					times[current] = System.currentTimeMillis() - start;
+					return best;
 				}
-			
-				// Only add it to the cache if the node is on at least one path to a target
-				int covSize = 0;
-				for(int currentTarget = 0; currentTarget < targets.size(); currentTarget++){
-					covSize += pathClasses.get(currentTarget).size();
+			}));
+		}
+
+		// Merge the sets chosen for each cluster
+		LinkedHashSet<String> merged = new LinkedHashSet<String>();
+		ArrayList<String> report = new ArrayList<String>();
+		try{
+			for(int cluster = 0; cluster < clusters.size(); cluster++){
+				BitSolution best = results.get(cluster).get();
+				ArrayList<String> chosen = spaces[cluster].toClasses(best);
+				merged.addAll(chosen);
+				ArrayList<String> clusterTargets = new ArrayList<String>();
+				for(int target: clusters.get(cluster)){
+					clusterTargets.add(targets.get(target));
 				}
+				double score = spaces[cluster].getCandidateCount() < 2 ? Double.NaN : spaces[cluster].score(best);
+				report.add("Cluster " + cluster + ": " + clusterTargets.size() + " targets " + clusterTargets.toString() + ", "
+					+ spaces[cluster].getCandidateCount() + " candidates, " + chosen.size() + " chosen, score " + score + ", "
+					+ spaces[cluster].getEvaluations() + " evaluations, " + times[cluster] + " ms");
+			}
+		}finally{
+			executor.shutdownNow();
+		}
 
-				if(covSize > 0){
-					pathLengths.put(clazz, lengths);
-					coverage.put(clazz, pathClasses);
-					//System.out.println("------\n" + clazz);
-					//System.out.println(lengths.toString());
-					//System.out.println(pathClasses.toString());
+		BitSolution best = space.fromClasses(merged);
+		System.out.println("-----");
+		for(String line: report){
+			System.out.println(line);
+		}
+		System.out.println("Merged: " + space.score(best) + " : " + merged.toString());
+		return best;
+	}
+
+	// Adds the package (path) name to a class, using the file it was found in
+	public String qualifyClass(String clazz, String path){
+		for(String fileName: couplings.keySet()){
+			if(path.indexOf('/') == 0){
+				if(fileName.indexOf('/') != 0){
+					fileName = "/" + fileName;
 				}
-				dijkstra.clear();
 			}
+			fileName = fileName.replace(path,"");
+			fileName = fileName.replace(".java","");
+			fileName = fileName.replace("/",".");
+			if(clazz.contains("$")){
+				String superClazz = clazz.substring(0, clazz.indexOf("$"));
+				String subClazz = clazz.substring(clazz.indexOf("$"), clazz.length());
+				if(superClazz.equals(fileName.substring(fileName.lastIndexOf(".") + 1, fileName.length()))){
+					return fileName + subClazz;
+				}
+			}else{
+				if(clazz.equals(fileName.substring(fileName.lastIndexOf(".") + 1, fileName.length()))){
+					return fileName;
+				}
+			}	
 		}
-		// Generate solutions
-		ArrayList<String> solution = new ArrayList<String>();
-		if(mode.equals("random")){
-			solution = randomSearch(population, budget, targets, pathLengths, coverage, maxLength, maxCoverage);
-		}else if(mode.equals("ga")){
-			solution = geneticSearch(population, budget, targets, pathLengths, coverage, maxLength, maxCoverage, retention, mutation, crossover);
+		return clazz;
+	}
+
+	/* Write a Pareto front of class sets to a file, one set per line.
+	 * Each line gives the three objectives, the single-objective score, then the
+	 * classes (targets included) separated by semicolons.
+	 */
+	public void writeFront(String path, ArrayList<String> targets, SearchSpace space, ArrayList<BitSolution> front) throws IOException{
+		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".pareto"));
+		writer.write("# Distance, Size, Coverage, Score, Classes\n");
+		for(BitSolution solution: front){
+			double[] objectives = space.objectives(solution);
+			writer.write(objectives[0] + "," + objectives[1] + "," + objectives[2] + "," + space.score(solution) + ",");
+			ArrayList<String> classes = space.toClasses(solution);
+			classes.addAll(targets);
+			for(int clazz = 0; clazz < classes.size(); clazz++){
+				if(clazz > 0){
+					writer.write(";");
+				}
+				writer.write(qualifyClass(classes.get(clazz), path));
+			}
+			writer.write("\n");
+		}
+		writer.close();
+	}
+
+	// Simple random search. Generates populations of solutions, tracks the best,
+	// and continues until the budget is exhausted 
+	public BitSolution randomSearch(int population, SearchBudget budget, SearchSpace space) throws IOException{
+		Random rng = searchRandom(0);
+
+		// Track the best solution seen		
+		BitSolution bestSolution = new BitSolution(space.getCandidateCount());
+		double bestScore = 100000;
+
+		SearchTelemetry telemetry = openTelemetry();
+		// Solutions and scores of the current generation, kept only for telemetry
+		ArrayList<BitSolution> solutions = new ArrayList<BitSolution>();
+		ArrayList<Double> scores = new ArrayList<Double>();
+
+		budget.start(space);
+		if(telemetry != null){
+			telemetry.start(budget);
+		}
+		while(!budget.isExhausted()){
+			// If budget remains, generate a population of solutions
+			for(int member = 0; member < population; member++){
+				BitSolution solution = BitSolution.random(space.getCandidateCount(), rng);
+				// Score solution
+				double score = space.score(solution);
+				// If the score is better, mark this as the "best" to date
+				if(score < bestScore){
+					bestScore = score;
+					bestSolution = solution;
+				}
+				if(telemetry != null){
+					solutions.add(solution);
+					scores.add(score);
+				}
+			}
+
+			budget.nextGeneration(bestScore);
+			if(telemetry != null){
+				telemetry.record(budget, solutions, scores, bestScore);
+				solutions.clear();
+				scores.clear();
+			}
+		}
+		if(telemetry != null){
+			telemetry.close();
+		}
+
+		System.out.println("-----\n" + bestScore + " : " + space.toClasses(bestSolution).toString());	
+		reportBudget(budget);
+		return bestSolution;
+	}
+
+	// Simple genetic algorithm. Generates populations of solutions, tracks the best,
+	// formulates new population using retention, mutation, crossover, and replacement.
+	// Continues until the budget is exhausted 
+	public BitSolution geneticSearch(int population, SearchBudget budget, SearchSpace space, double retention, double mutation, double crossover) throws IOException{
+		Random rng = searchRandom(0);
+
+		// Track the best solution seen		
+		BitSolution bestSolution = new BitSolution(space.getCandidateCount());
+		double bestScore = 100000;
+
+		ArrayList<BitSolution> solutions = new ArrayList<BitSolution>();
+		ArrayList<Double> scores = new ArrayList<Double>();
+		FitnessCache cache = new FitnessCache(cacheCapacity);
+		int generation = 0;
+		SearchTelemetry telemetry = openTelemetry();
+
+		budget.start(space);
+		if(telemetry != null){
+			telemetry.start(budget);
+		}
+
+		if(resumeFile != null){
+			// Continue a checkpointed search
+			SearchCheckpoint checkpoint = SearchCheckpoint.load(resumeFile, space);
+			solutions.addAll(checkpoint.getSolutions());
+			scores.addAll(checkpoint.getScores());
+			bestSolution = checkpoint.getBest();
+			bestScore = checkpoint.getBestScore();
+			rng = checkpoint.getRandom();
+			generation = checkpoint.getGeneration();
+			System.out.println("Resumed " + resumeFile + " at generation " + generation + ", best score " + bestScore);
 		}else{
-			throw new Exception("Invalid search mode: " + mode);
+			// Form initial population around a previous solution, if given, and otherwise at random
+			seedPopulation(solutions, scores, population, space, cache, rng);
+			fillPopulation(solutions, scores, population, space, cache, rng);
 		}
 
-		for(String clazz: classList){
-			if(solution.contains(clazz)){
-				graph.getNode(clazz).addAttribute("ui.class", "selected");
+		while(!budget.isExhausted()){
+			// If budget remains, generate a population of solutions
+			evolvePopulation(solutions, scores, population, space, cache, rng, retention, mutation, crossover);
+
+			// If a member scores better, mark it as the "best" to date
+			for(int member = 0; member < scores.size(); member++){
+				if(scores.get(member) < bestScore){
+					bestScore = scores.get(member);
+					bestSolution = solutions.get(member);
+				}
+			}
+
+			budget.nextGeneration(bestScore);
+			generation++;
+			if(telemetry != null){
+				telemetry.record(budget, solutions, scores, bestScore);
+			}
+
+			if(checkpointFile != null && generation % checkpointInterval == 0){
+				new SearchCheckpoint(space, solutions, scores, bestSolution, bestScore, rng, generation).save(checkpointFile);
 			}
 		}
+		if(checkpointFile != null){
+			new SearchCheckpoint(space, solutions, scores, bestSolution, bestScore, rng, generation).save(checkpointFile);
+		}
+		if(telemetry != null){
+			telemetry.close();
+		}
 
-		// Output list to a file
-		for(String target: targets){
-			solution.add(target);
+		System.out.println("-----\n" + bestScore + " : " + space.toClasses(bestSolution).toString());
+		reportBudget(budget);
+		reportCache(cache.getHits(), cache.getLookups());
+		return bestSolution;
+	}
+
+	// Print how long the search ran and why it stopped
+	private void reportBudget(SearchBudget budget){
+		System.out.println("Stopped by " + budget.getReason() + " after " + budget.getGeneration() + " generations, " 
+			+ budget.getEvaluations() + " evaluations, " + budget.getElapsedMillis() + " ms");
+	}
+
+	// Print the fitness cache hit rate, to help tune population and rates
+	private void reportCache(long hits, long lookups){
+		double rate = 0.0;
+		if(lookups > 0){
+			rate = 100.0 * hits / lookups;
 		}
-		System.out.println("Size: " + solution.size() + " / " + classList.size());
+		System.out.println("Fitness cache: " + hits + " hits / " + lookups + " lookups (" + String.format("%.1f", rate) + "%)");
+	}
 
-		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".src"));
-		// Need to get the path name
-		for(String clazz: solution){
-			for(String fileName: couplings.keySet()){
-				if(path.indexOf('/') == 0){
-					if(fileName.indexOf('/') != 0){
-						fileName = "/" + fileName;
-					}
+	// Telemetry for a search, or null if not requested
+	private SearchTelemetry openTelemetry() throws IOException{
+		if(telemetryFile == null){
+			return null;
+		}
+		return new SearchTelemetry(telemetryFile);
+	}
+
+	/* Random number generator for a search, or for one thread of a search.
+	 * If a seed is set, the generator is seeded from it and the stream number,
+	 * so runs with the same seed and an evaluation or generation budget repeat exactly.
+	 * If checkpointing, the generator is always a java.util.Random, so its state can be saved.
+	 * Must be called on the thread that will use it.
+	 */
+	private Random searchRandom(int stream){
+		if(seed != null){
+			return new Random(seed + 0x9E3779B97F4A7C15L * stream);
+		}else if(checkpointFile != null){
+			return new Random();
+		}
+		return ThreadLocalRandom.current();
+	}
+
+	/* Read the classes listed in the warm start (a previous .src file), if there is one.
+	 * Package names are stripped.
+	 */
+	public void readWarmStart(SearchSpace space) throws IOException{
+		if(warmFile == null){
+			return;
+		}
+		ArrayList<String> classes = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new FileReader(warmFile));
+		String current = "";
+		while((current = reader.readLine()) != null){
+			current = current.trim();
+			if(current.indexOf('.') >= 0){
+				classes.add(current.substring(current.lastIndexOf('.') + 1, current.length()));
+			}else if(!current.equals("")){
+				classes.add(current);
+			}
+		}
+		reader.close();
+		warmClasses = classes;
+		System.out.println("Warm start from " + warmFile + ": " + space.fromClasses(classes).size() + " of " + classes.size() + " classes are candidates");
+	}
+
+	/* Warm start solution in a search space, or null if there is none.
+	 * Classes that are not candidates (such as targets) are ignored.
+	 */
+	private BitSolution warmStart(SearchSpace space){
+		if(warmClasses == null){
+			return null;
+		}
+		BitSolution warm = space.fromClasses(warmClasses);
+		if(warm.size() == 0){
+			return null;
+		}
+		return warm;
+	}
+
+	/* Helper function for the genetic searches.
+	 * If there is a warm start solution, adds it and mutations of it, up to half of the population.
+	 */
+	private void seedPopulation(ArrayList<BitSolution> solutions, ArrayList<Double> scores, int population, SearchSpace space, FitnessCache cache, Random rng){
+		BitSolution warm = warmStart(space);
+		if(warm == null){
+			return;
+		}
+		solutions.add(warm);
+		scores.add(cache.score(warm, space));
+		while(solutions.size() < population / 2){
+			BitSolution solution = warm.mutate(rng);
+			solutions.add(solution);
+			scores.add(cache.score(solution, space));
+		}
+	}
+
+	/* Island-model genetic algorithm. Runs one genetic algorithm population (island)
+	 * per thread. Every migrationInterval generations, each island sends copies of its
+	 * best members to another island - its neighbour in a ring, or a random island.
+	 * Migrants are passed through lock-free queues and replace the worst members of
+	 * the receiving island. Continues until the budget is exhausted.
+	 * With a seed, each island's random stream is fixed, but when migrants arrive
+	 * depends on thread scheduling, so island runs are not exactly repeatable.
+	 */
+	public BitSolution islandSearch(final int population, SearchBudget budget, final SearchSpace space,
+			final double retention, final double mutation, final double crossover) throws Exception{
+
+		// One exchange buffer per island. Emigrants are offered to the buffer of the destination.
+		final ArrayList<ConcurrentLinkedQueue<BitSolution>> buffers = new ArrayList<ConcurrentLinkedQueue<BitSolution>>();
+		for(int island = 0; island < islands; island++){
+			buffers.add(new ConcurrentLinkedQueue<BitSolution>());
+		}
+
+		// Caches are not shared, so each island has its own
+		final ArrayList<FitnessCache> caches = new ArrayList<FitnessCache>();
+		for(int island = 0; island < islands; island++){
+			caches.add(new FitnessCache(cacheCapacity));
+		}
+
+		// Islands share the clock and evaluation count, but track their own generations
+		budget.start(space);
+		final ArrayList<SearchBudget> budgets = new ArrayList<SearchBudget>();
+		for(int island = 0; island < islands; island++){
+			budgets.add(budget.share());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(islands);
+		ArrayList<Future<BitSolution>> results = new ArrayList<Future<BitSolution>>();
+		for(int island = 0; island < islands; island++){
+			final int current = island;
+			results.add(executor.submit(new Callable<BitSolution>(){
+				public BitSolution call(){
+					return evolveIsland(current, buffers, caches.get(current), budgets.get(current), population, space, retention, mutation, crossover);
+				}
+			}));
+		}
+
+		// Choose the best of the island champions
+		BitSolution bestSolution = new BitSolution(space.getCandidateCount());
+		double bestScore = 100000;
+		try{
+			for(Future<BitSolution> result: results){
+				BitSolution champion = result.get();
+				double score = space.score(champion);
+				if(score < bestScore){
+					bestScore = score;
+					bestSolution = champion;
 				}
-				fileName = fileName.replace(path,"");
-				fileName = fileName.replace(".java","");
-				fileName = fileName.replace("/",".");
-				if(clazz.contains("$")){
-					String superClazz = clazz.substring(0, clazz.indexOf("$"));
-					String subClazz = clazz.substring(clazz.indexOf("$"), clazz.length());
-					if(superClazz.equals(fileName.substring(fileName.lastIndexOf(".") + 1, fileName.length()))){
-						clazz = fileName + subClazz;
-						break;
-					}
-				}else{
-					if(clazz.equals(fileName.substring(fileName.lastIndexOf(".") + 1, fileName.length()))){
-						clazz = fileName;
-						break;
-					}
-				}	
 			}
-			writer.write(clazz + "\n");
+		}finally{
+			executor.shutdownNow();
 		}
-		writer.close();
+
+		System.out.println("-----\n" + bestScore + " : " + space.toClasses(bestSolution).toString());
+		long hits = 0;
+		long lookups = 0;
+		for(int island = 0; island < islands; island++){
+			reportBudget(budgets.get(island));
+			hits += caches.get(island).getHits();
+			lookups += caches.get(island).getLookups();
+		}
+		reportCache(hits, lookups);
+		return bestSolution;
 	}
 
-	// Simple random search. Generates populations of solutions, tracks the best,
-	// and continues until the budget is exhausted 
-	public ArrayList<String> randomSearch(int population, int budget, ArrayList<String> targets, 
-			HashMap<String, ArrayList<Double>> pathLengths, HashMap<String, ArrayList<ArrayList<Node>>> coverage,
-			ArrayList<Double> maxLength, ArrayList<HashSet<String>> maxCoverage){
+	/* Helper function for {@link #islandSearch}.
+	 * Evolves a single island and handles migration to and from the other islands.
+	 * Returns the best solution seen on this island.
+	 */
+	private BitSolution evolveIsland(int island, ArrayList<ConcurrentLinkedQueue<BitSolution>> buffers, FitnessCache cache, SearchBudget budget,
+			int population, SearchSpace space, double retention, double mutation, double crossover){
+		Random rng = searchRandom(island);
 
 		// Track the best solution seen		
-		ArrayList<String> bestSolution = new ArrayList<String>();
+		BitSolution bestSolution = new BitSolution(space.getCandidateCount());
 		double bestScore = 100000;
 
-		boolean timeRemaining = true;
-		long startingTime = System.currentTimeMillis();
-		long elapsedTime = (System.currentTimeMillis() - startingTime) / 1000;
-
-		int generations = 0;
-
-		while(elapsedTime <= budget){
-			// If time remains in the budget, generate a population of solutions
-			ArrayList<ArrayList<String>> solutions = new ArrayList<ArrayList<String>>();
-			ArrayList<Double> scores = new ArrayList<Double>();
-			generations++;
-			ArrayList<String> classes = new ArrayList<String>(pathLengths.keySet());
-
-			for(int member = 0; member < population; member++){
-				HashSet<String> solutionSet = new HashSet<String>();
-
-				for(int choice = 0; choice < ThreadLocalRandom.current().nextInt(1, classes.size()); choice++){
-					solutionSet.add(classes.get(ThreadLocalRandom.current().nextInt(0, classes.size())));
+		ArrayList<BitSolution> solutions = new ArrayList<BitSolution>();
+		ArrayList<Double> scores = new ArrayList<Double>();
+		seedPopulation(solutions, scores, population, space, cache, rng);
+		fillPopulation(solutions, scores, population, space, cache, rng);
+
+		while(!budget.isExhausted() && !Thread.currentThread().isInterrupted()){
+			evolvePopulation(solutions, scores, population, space, cache, rng, retention, mutation, crossover);
+
+			// Immigrants replace the worst members of the population
+			BitSolution immigrant = buffers.get(island).poll();
+			while(immigrant != null){
+				int worstPosition = 0;
+				for(int score = 1; score < scores.size(); score++){
+					if(scores.get(score) > scores.get(worstPosition)){
+						worstPosition = score;
+					}
 				}
-				solutions.add(new ArrayList<String>(solutionSet));
-				// Score solution
-				scores.add(scoreSolution(solutions.get(member), targets, pathLengths, coverage, maxLength, maxCoverage));
-				// If the score is better, mark this as the "best" to date
+				solutions.set(worstPosition, immigrant);
+				scores.set(worstPosition, cache.score(immigrant, space));
+				immigrant = buffers.get(island).poll();
+			}
+
+			// If a member scores better, mark it as the "best" to date
+			for(int member = 0; member < scores.size(); member++){
 				if(scores.get(member) < bestScore){
 					bestScore = scores.get(member);
 					bestSolution = solutions.get(member);
 				}
 			}
+			budget.nextGeneration(bestScore);
+
+			// Send copies of the best members to another island
+			if(islands > 1 && budget.getGeneration() % migrationInterval == 0){
+				int destination = 0;
+				if(topology.equals("random")){
+					destination = rng.nextInt(islands - 1);
+					if(destination >= island){
+						destination++;
+					}
+				}else{
+					destination = (island + 1) % islands;
+				}
 
-			// How much time has elapsed?
-			elapsedTime = (System.currentTimeMillis() - startingTime) / 1000;
-			//System.out.println(generations + " : " + elapsedTime);
+				for(int member: Selection.elitist(scores, migrants)){
+					buffers.get(destination).offer(new BitSolution(solutions.get(member)));
+				}
+			}
 		}
 
-		System.out.println("-----\n" + bestScore + " : " + bestSolution.toString());	
 		return bestSolution;
 	}
 
-	// Simple genetic algorithm. Generates populations of solutions, tracks the best,
-	// formulates new population using retention, mutation, crossover, and replacement.
-	// Continues until the budget is exhausted 
-	public ArrayList<String> geneticSearch(int population, int budget, ArrayList<String> targets, 
-			HashMap<String, ArrayList<Double>> pathLengths, HashMap<String, ArrayList<ArrayList<Node>>> coverage,
-			ArrayList<Double> maxLength, ArrayList<HashSet<String>> maxCoverage, double retention, double mutation, double crossover){
+	/* Helper function for the genetic searches.
+	 * Forms a new population using retention, mutation, crossover, and random replacement.
+	 * The solutions and scores lists are replaced in place.
+	 */
+	private void evolvePopulation(ArrayList<BitSolution> solutions, ArrayList<Double> scores, int population, SearchSpace space, FitnessCache cache,
+			Random rng, double retention, double mutation, double crossover){
 
-		ArrayList<String> classes = new ArrayList<String>(pathLengths.keySet());
-		// Track the best solution seen		
-		ArrayList<String> bestSolution = new ArrayList<String>();
-		double bestScore = 100000;
+		// Form new population
+		ArrayList<BitSolution> newSolutions = new ArrayList<BitSolution>();
+		ArrayList<Double> newScores = new ArrayList<Double>();
 
-		int generations = 0;
-		ArrayList<ArrayList<String>> solutions = new ArrayList<ArrayList<String>>();
-		ArrayList<Double> scores = new ArrayList<Double>();
+		// Retain the top-scoring population members, or the winners of tournaments
+		int[] retained;
+		if(selection.equals("tournament")){
+			retained = Selection.tournament(scores, (int) (retention * population), tournamentSize, rng);
+		}else{
+			retained = Selection.elitist(scores, (int) (retention * population));
+		}
+		for(int member: retained){
+			newSolutions.add(solutions.get(member));
+			newScores.add(scores.get(member));
+		}
 
-		// Form initial population completely at random
-		for(int member = 0; member < population; member++){
-			HashSet<String> solutionSet = new HashSet<String>();
+		// Mutate some of these members
+		ArrayList<BitSolution> mutatedSols = new ArrayList<BitSolution>();
+		for(int choice = 0; choice < ((int) (mutation * population)); choice++){
+			if(newSolutions.size() > 0){
+				BitSolution chosen = newSolutions.get(rng.nextInt(newSolutions.size()));
+				mutatedSols.add(chosen.mutate(rng));
+			}
+		}
+		
+		// Perform crossover to create new members
+		for(int choice = 0; choice < ((int) (crossover * population)); choice += 2){
+			if(newSolutions.size() > 1){
+				int first = 0;
+				int second = 0;
+				while(first == second){
+					// Which solutions should be the parents?
+					first = rng.nextInt(newSolutions.size());
+					second = rng.nextInt(newSolutions.size());
+				}
 
-			for(int choice = 0; choice < ThreadLocalRandom.current().nextInt(1, classes.size()); choice++){
-				solutionSet.add(classes.get(ThreadLocalRandom.current().nextInt(0, classes.size())));
+				BitSolution[] children = BitSolution.crossover(newSolutions.get(first), newSolutions.get(second), rng);
+				mutatedSols.add(children[0]);
+				mutatedSols.add(children[1]);
 			}
-			solutions.add(new ArrayList<String>(solutionSet));
+		}
+
+		// Add mutated and crossover solutions to set
+		for(BitSolution mutated: mutatedSols){	
+			newSolutions.add(mutated);
+			newScores.add(cache.score(mutated, space));
+		}
+
+		// Fill the rest randomly
+		fillPopulation(newSolutions, newScores, population, space, cache, rng);
+
+		// Set new population as population
+		solutions.clear();
+		solutions.addAll(newSolutions);
+		scores.clear();
+		scores.addAll(newScores);
+	}
+
+	/* Helper function for the genetic searches.
+	 * Adds random solutions to a population until it reaches the requested size.
+	 */
+	private void fillPopulation(ArrayList<BitSolution> solutions, ArrayList<Double> scores, int population, SearchSpace space, FitnessCache cache, Random rng){
+		for(int member = solutions.size(); member < population; member++){
+			BitSolution solution = BitSolution.random(space.getCandidateCount(), rng);
+			solutions.add(solution);
 			// Score solution
-			scores.add(scoreSolution(solutions.get(member), targets, pathLengths, coverage, maxLength, maxCoverage));
-			// If the score is better, mark this as the "best" to date
-			if(scores.get(member) < bestScore){
-				bestScore = scores.get(member);
-				bestSolution = solutions.get(member);
-			}
-		}
-
-		boolean timeRemaining = true;
-		long startingTime = System.currentTimeMillis();
-		long elapsedTime = (System.currentTimeMillis() - startingTime) / 1000;
-
-		while(elapsedTime <= budget){
-			// If time remains in the budget, generate a population of solutions
-			generations++;
-
-			// Form new population
-			ArrayList<ArrayList<String>> newSolutions = new ArrayList<ArrayList<String>>();
-			ArrayList<Double> newScores = new ArrayList<Double>();
-
-			// Retain the top-scoring population members
-			for(int choice = 0; choice < ((int) (retention * population)); choice++){
-				double topScore = 100000;
-				int topPosition = -1;
-				for(int score = 0; score < scores.size(); score++){
-					if(scores.get(score) < topScore){
-						topScore = scores.get(score);
-						topPosition = score;
+			scores.add(cache.score(solution, space));
+		}
+	}
+
+	/* NSGA-II multi-objective search (Deb et al.). Instead of collapsing distance,
+	 * set size, and coverage into one score, keeps the population spread along the
+	 * Pareto front of those three objectives (see {@link SearchSpace#objectives}).
+	 * Each generation, offspring are made by crossing over binary tournament winners
+	 * (by front, then crowding distance) and mutating them with probability mutation.
+	 * Parents and offspring are merged, duplicates dropped, and the next population
+	 * is filled front by front, breaking ties on the last front by crowding distance.
+	 * Continues until the budget is exhausted; stalls are measured on the lowest sum
+	 * of objectives. Returns the final non-dominated front, ordered by the
+	 * single-objective score.
+	 */
+	public ArrayList<BitSolution> nsga2Search(int population, SearchBudget budget, final SearchSpace space, double mutation){
+		Random rng = searchRandom(0);
+		budget.start(space);
+
+		// Objectives of every current member, by solution
+		HashMap<BitSolution, double[]> evaluated = new HashMap<BitSolution, double[]>();
+		ArrayList<BitSolution> solutions = new ArrayList<BitSolution>();
+		fillUnique(solutions, evaluated, population, space, rng);
+
+		int[] rank = new int[solutions.size()];
+		double[] crowding = new double[solutions.size()];
+		rankPopulation(solutions, evaluated, rank, crowding);
+
+		while(!budget.isExhausted() && solutions.size() > 1){
+			// Create offspring from tournament winners
+			ArrayList<BitSolution> combined = new ArrayList<BitSolution>(solutions);
+			HashSet<BitSolution> seen = new HashSet<BitSolution>(solutions);
+			int attempts = 0;
+			while(combined.size() < 2 * population && attempts < 4 * population){
+				attempts++;
+				BitSolution first = solutions.get(crowdedTournament(rank, crowding, rng));
+				BitSolution second = solutions.get(crowdedTournament(rank, crowding, rng));
+				for(BitSolution child: BitSolution.crossover(first, second, rng)){
+					if(rng.nextDouble() < mutation || seen.contains(child)){
+						child = child.mutate(rng);
 					}
-				}
-				if(topPosition >= 0){
-					newSolutions.add(solutions.get(topPosition));
-					newScores.add(topScore);
-					solutions.remove(topPosition);
-					scores.remove(topScore);
-				}
-			}
-
-			// Mutate some of these members
-			ArrayList<ArrayList<String>> mutatedSols = new ArrayList<ArrayList<String>>();
-			for(int choice = 0; choice < ((int) (mutation * population)); choice++){
-				if(newSolutions.size() > 0){
-					ArrayList<String> chosen = newSolutions.get(ThreadLocalRandom.current().nextInt(0, newSolutions.size()));
-					ArrayList<String> mutated = mutateSolution(chosen, classes);
-					mutatedSols.add(mutated);
-				}
-			}
-			
-			// Perform crossover to create new members
-			for(int choice = 0; choice < ((int) (crossover * population)); choice += 2){
-				if(newSolutions.size() > 0){
-					int first = 0;
-					int second = 0;
-					while(first == second){
-						// Which solutions should be the parents?
-						first = ThreadLocalRandom.current().nextInt(0, newSolutions.size());
-						second = ThreadLocalRandom.current().nextInt(0, newSolutions.size());
+					if(seen.add(child)){
+						combined.add(child);
+						evaluated.put(child, space.objectives(child));
 					}
-
-					ArrayList<ArrayList<String>> children = crossoverSolutions(newSolutions.get(first), newSolutions.get(second));
-					mutatedSols.add(children.get(0));
-					mutatedSols.add(children.get(1));
 				}
 			}
 
-			// Add mutated and crossover solutions to set
-			for(ArrayList<String> mutated: mutatedSols){	
-				newSolutions.add(mutated);
-				newScores.add(scoreSolution(mutated, targets, pathLengths, coverage, maxLength, maxCoverage));
+			// Keep the best fronts of parents and offspring
+			double[][] objectives = new double[combined.size()][];
+			for(int member = 0; member < combined.size(); member++){
+				objectives[member] = evaluated.get(combined.get(member));
 			}
-	
-			// Fill the rest randomly
-			int start = newSolutions.size() - 1;
-			if(start < 0){
-				start = 0;
-			}
-			for(int member = start; member < population; member++){
-				HashSet<String> solutionSet = new HashSet<String>();
-
-				for(int choice = 0; choice < ThreadLocalRandom.current().nextInt(1, classes.size()); choice++){
-					solutionSet.add(classes.get(ThreadLocalRandom.current().nextInt(0, classes.size())));
+			ArrayList<BitSolution> next = new ArrayList<BitSolution>();
+			double[] distance = new double[combined.size()];
+			for(ArrayList<Integer> front: Pareto.sort(objectives, null)){
+				if(next.size() + front.size() <= population){
+					for(int member: front){
+						next.add(combined.get(member));
+					}
+				}else{
+					// Prefer the least crowded members of the last front that fits
+					Pareto.crowding(objectives, front, distance);
+					final double[] crowded = distance;
+					Integer[] order = front.toArray(new Integer[0]);
+					Arrays.sort(order, new Comparator<Integer>(){
+						public int compare(Integer first, Integer second){
+							return Double.compare(crowded[second], crowded[first]);
+						}
+					});
+					for(int position = 0; next.size() < population; position++){
+						next.add(combined.get(order[position]));
+					}
 				}
-				newSolutions.add(new ArrayList<String>(solutionSet));
-				// Score solution
-				newScores.add(scoreSolution(newSolutions.get(member), targets, pathLengths, coverage, maxLength, maxCoverage));
-				// If the score is better, mark this as the "best" to date
-				if(newScores.get(member) < bestScore){
-					bestScore = newScores.get(member);
-					bestSolution = newSolutions.get(member);
+				if(next.size() >= population){
+					break;
 				}
 			}
 
-			// Set new population as population
-			solutions = newSolutions;
-			scores = newScores;
+			// Forget objectives of members that did not survive
+			HashMap<BitSolution, double[]> survivors = new HashMap<BitSolution, double[]>();
+			double lowestSum = Double.POSITIVE_INFINITY;
+			for(BitSolution member: next){
+				double[] memberObjectives = evaluated.get(member);
+				survivors.put(member, memberObjectives);
+				lowestSum = Math.min(lowestSum, memberObjectives[0] + memberObjectives[1] + memberObjectives[2]);
+			}
+			evaluated = survivors;
+			solutions = next;
+			rank = new int[solutions.size()];
+			crowding = new double[solutions.size()];
+			rankPopulation(solutions, evaluated, rank, crowding);
 
-			// How much time has elapsed?
-			elapsedTime = (System.currentTimeMillis() - startingTime) / 1000;
-			//System.out.println(generations + " : " + elapsedTime);
+			budget.nextGeneration(lowestSum);
 		}
 
-		System.out.println("-----\n" + bestScore + " : " + bestSolution.toString());
-		return bestSolution;
-	}
+		// Final non-dominated front, best single-objective score first
+		ArrayList<BitSolution> front = new ArrayList<BitSolution>();
+		for(int member = 0; member < solutions.size(); member++){
+			if(rank[member] == 0){
+				front.add(solutions.get(member));
+			}
+		}
+		final HashMap<BitSolution, Double> scores = new HashMap<BitSolution, Double>();
+		for(BitSolution member: front){
+			scores.put(member, space.score(member));
+		}
+		Collections.sort(front, new Comparator<BitSolution>(){
+			public int compare(BitSolution first, BitSolution second){
+				return Double.compare(scores.get(first), scores.get(second));
+			}
+		});
 
-	// Mutate a solution by adding, deleting, or changing one of the classes
-	public ArrayList<String> mutateSolution(ArrayList<String> solution, ArrayList<String> classes){
-		// First, choose whether you are adding, deleting, or changing a reference.
-		HashSet<String> mutated = new HashSet<String>(solution);
+		System.out.println("-----\nPareto front: " + front.size() + " solutions");
+		if(!front.isEmpty()){
+			System.out.println(scores.get(front.get(0)) + " : " + space.toClasses(front.get(0)).toString());
+		}
+		reportBudget(budget);
+		return front;
+	}
 
-		int choice = ThreadLocalRandom.current().nextInt(1, 4);
+	/* Helper function for {@link #nsga2Search}.
+	 * Computes the front and crowding distance of each member of the population.
+	 */
+	private void rankPopulation(ArrayList<BitSolution> solutions, HashMap<BitSolution, double[]> evaluated, int[] rank, double[] crowding){
+		double[][] objectives = new double[solutions.size()][];
+		for(int member = 0; member < solutions.size(); member++){
+			objectives[member] = evaluated.get(solutions.get(member));
+		}
+		for(ArrayList<Integer> front: Pareto.sort(objectives, rank)){
+			Pareto.crowding(objectives, front, crowding);
+		}
+	}
 
-		// If all classes in set, delete one
-		if(choice == 1 && mutated.size() == classes.size()){
-			choice = 2;
-		// If no classes in set, add one
-		}else if(choice >= 2 && mutated.size() == 0){
-			choice = 1;
+	/* Helper function for {@link #nsga2Search}.
+	 * Binary tournament on front, then crowding distance. Returns the winner's position.
+	 */
+	private int crowdedTournament(int[] rank, double[] crowding, Random rng){
+		int first = rng.nextInt(rank.length);
+		int second = rng.nextInt(rank.length);
+		if(rank[first] != rank[second]){
+			return rank[first] < rank[second] ? first : second;
 		}
+		return crowding[first] >= crowding[second] ? first : second;
+	}
 
-		if(choice == 1){
-			// Add a class
-			int initSize = mutated.size();
-			while(initSize == mutated.size()){
-				mutated.add(classes.get(ThreadLocalRandom.current().nextInt(0, classes.size())));
-			}
-		}else if(choice == 2){
-			// Delete a class
-			mutated.remove(solution.get(ThreadLocalRandom.current().nextInt(0, solution.size())));
-		}else{
-			// Change one class to another. Really a delete and an add (make sure they aren't the same
-			// The class to delete.
-			String toRemove = solution.get(ThreadLocalRandom.current().nextInt(0, solution.size()));
-			mutated.remove(toRemove);
-			// The class to add
-			int initSize = mutated.size();
-			while(initSize == mutated.size()){
-				String toAdd = classes.get(ThreadLocalRandom.current().nextInt(0, classes.size()));
-				if(!toAdd.equals(toRemove)){
-					mutated.add(toAdd);
-				}
+	/* Helper function for {@link #nsga2Search}.
+	 * Adds distinct random solutions to a population until it reaches the requested size
+	 * (or random generation stops finding new solutions).
+	 */
+	private void fillUnique(ArrayList<BitSolution> solutions, HashMap<BitSolution, double[]> evaluated, int population, SearchSpace space, Random rng){
+		int attempts = 0;
+		while(solutions.size() < population && attempts < 4 * population){
+			attempts++;
+			BitSolution solution = BitSolution.random(space.getCandidateCount(), rng);
+			if(!evaluated.containsKey(solution)){
+				solutions.add(solution);
+				evaluated.put(solution, space.objectives(solution));
 			}
 		}
+	}
 
-		return new ArrayList<String>(mutated);
-	}	
+	/* Greedy set-cover style search. Starting from an empty set, repeatedly adds
+	 * the class that lowers the score the most, until no addition helps. Then drops
+	 * any class whose removal lowers the score. Moves are scored incrementally
+	 * (see {@link ScoreState}), so this finishes in milliseconds on most projects.
+	 */
+	public BitSolution greedySearch(SearchBudget budget, SearchSpace space){
+		budget.start(space);
+		BitSolution bestSolution = greedy(budget, space);
+		System.out.println("-----\n" + space.score(bestSolution) + " : " + space.toClasses(bestSolution).toString());
+		reportBudget(budget);
+		return bestSolution;
+	}
 
-	// Create two children by performing crossover between two parents
-	// Implements discrete recombination
-	public ArrayList<ArrayList<String>> crossoverSolutions(ArrayList<String> firstParent, ArrayList<String> secondParent){
-		ArrayList<ArrayList<String>> children = new ArrayList<ArrayList<String>>();
-		HashSet<String> firstChild = new HashSet<String>();
-		HashSet<String> secondChild = new HashSet<String>();
-		int maxPos = Math.max(firstParent.size(), secondParent.size());
-
-		// First child
-		// For each position in a parent solution
-		for(int position = 0; position < maxPos; position++){
-			// Flip a coin
-			if(ThreadLocalRandom.current().nextInt(1, 3) == 1){
-				// Take from first parent
-				if(position < firstParent.size()){
-					firstChild.add(firstParent.get(position));
-				}
-			}else{
-				// Take from second parent
-				if(position < secondParent.size()){
-					firstChild.add(secondParent.get(position));
+	/* Helper function for {@link #greedySearch} and {@link #exactSearch}.
+	 * Each added or dropped class counts as one generation of the budget.
+	 */
+	private BitSolution greedy(SearchBudget budget, SearchSpace space){
+		ScoreState state = new ScoreState(space);
+		double current = Double.POSITIVE_INFINITY;
+
+		// Add classes while that improves the score
+		while(!budget.isExhausted()){
+			int bestMove = -1;
+			double bestMoveScore = current;
+			for(int candidate = 0; candidate < space.getCandidateCount(); candidate++){
+				if(!state.contains(candidate)){
+					double score = state.scoreFlipped(candidate);
+					if(score < bestMoveScore){
+						bestMoveScore = score;
+						bestMove = candidate;
+					}
 				}
 			}
+			if(bestMove < 0){
+				break;
+			}
+			state.add(bestMove);
+			current = bestMoveScore;
+			budget.nextGeneration(current);
 		}
-		// Second child
-		// For each position in a parent solution
-		for(int position = 0; position < maxPos; position++){
-			// Flip a coin
-			if(ThreadLocalRandom.current().nextInt(1, 3) == 1){
-				// Take from first parent
-				if(position < firstParent.size()){
-					secondChild.add(firstParent.get(position));
-				}
-			}else{
-				// Take from second parent
-				if(position < secondParent.size()){
-					secondChild.add(secondParent.get(position));
+
+		// Drop classes while that improves the score
+		boolean improved = true;
+		while(improved && state.size() > 1 && !budget.isExhausted()){
+			improved = false;
+			for(int candidate = 0; candidate < space.getCandidateCount(); candidate++){
+				if(state.contains(candidate) && state.size() > 1){
+					double score = state.scoreFlipped(candidate);
+					if(score < current){
+						state.remove(candidate);
+						current = score;
+						improved = true;
+						budget.nextGeneration(current);
+					}
 				}
 			}
 		}
-		children.add(new ArrayList<String>(firstChild));
-		children.add(new ArrayList<String>(secondChild));
-
-		return children;
+		return state.getSolution();
 	}
 
-	/* Calculate a score for a set of classes
-	 * Score is the Euclidean distance to a sweet spot of min distance, 
-	 * min size, and max coverage.
-	 * Distance = average distance from target for each node
-	 * Max distance is calculated from longest "shortest" path
-	 * Min distance = 2.0 (source, target)
-	 * Coverage = number of unique classes covered by the set, per target
-	 * Max coverage is all classes on a path to one of the targets
-	 * Min coverage = 2.0 (source, target)
-	 * score = root(norm(distance)^2 + norm(size)^2 + (norm(coverage) - 1)^2)
-	 * Calculated for each target, then summed.
+	/* Exact branch-and-bound search (see {@link BranchAndBound}), starting from the
+	 * greedy solution. Only used if there are at most exactLimit candidate classes,
+	 * as the search tree doubles with each candidate; otherwise falls back to greedy search.
+	 * If the time or evaluation budget runs out first, returns the best set found so far.
 	 */
-	public double scoreSolution(ArrayList<String> solution, ArrayList<String> targets, 
-			HashMap<String, ArrayList<Double>> pathLengths, HashMap<String, ArrayList<ArrayList<Node>>> coverage,
-			ArrayList<Double> maxLength, ArrayList<HashSet<String>> maxCoverage){
-		ArrayList<Double> scores = new ArrayList<Double>();
-		for(int currentTarget = 0; currentTarget < targets.size(); currentTarget++){
-			double avgDistance = 0.0;
-			HashSet<String> coveredClasses = new HashSet<String>();
-			int omitted = 0;
-			for(int currentNode = 0; currentNode < solution.size(); currentNode++){
-				String node = solution.get(currentNode);
-				double toAdd = pathLengths.get(node).get(currentTarget);
-				if(toAdd != Double.POSITIVE_INFINITY){
-					avgDistance += toAdd;
-				}else{
-					omitted++;
-				}
+	public BitSolution exactSearch(SearchBudget budget, SearchSpace space){
+		if(space.getCandidateCount() > exactLimit){
+			System.out.println("Too many candidate classes for exact search (" + space.getCandidateCount() + " > " + exactLimit + "), using greedy search.");
+			return greedySearch(budget, space);
+		}
 
-				for(Node cov : coverage.get(node).get(currentTarget)){
-					coveredClasses.add(cov.getId());
-				}	
-			}
-			if(solution.size() - omitted == 0){
-				avgDistance = maxLength.get(currentTarget);
-				// No path to target in chosen set.
-			}else{
-				avgDistance = avgDistance / (solution.size() - omitted);
+		budget.start(space);
+		BitSolution incumbent = greedy(budget, space);
+
+		// Decide the candidates that score best on their own first
+		final double[] alone = new double[space.getCandidateCount()];
+		Integer[] ranked = new Integer[space.getCandidateCount()];
+		for(int candidate = 0; candidate < space.getCandidateCount(); candidate++){
+			BitSolution single = new BitSolution(space.getCandidateCount());
+			single.set(candidate);
+			alone[candidate] = space.score(single);
+			ranked[candidate] = candidate;
+		}
+		Arrays.sort(ranked, new Comparator<Integer>(){
+			public int compare(Integer first, Integer second){
+				return Double.compare(alone[first], alone[second]);
 			}
+		});
+		int[] order = new int[ranked.length];
+		for(int position = 0; position < ranked.length; position++){
+			order[position] = ranked[position];
+		}
 
-			// Normalize the distance
-			if(maxLength.get(currentTarget) > 2.0){
-				avgDistance = (avgDistance - 2.0) / (maxLength.get(currentTarget) - 2.0);
-			}else{
-				avgDistance = 0.0;
-			}	
+		BranchAndBound tree = new BranchAndBound(space, budget, order, incumbent);
+		BitSolution bestSolution = tree.search();
 
-			// Calculate the set size
-			double size = (solution.size() - 1.0) / (pathLengths.keySet().size() - 1.0);
+		System.out.println("-----\n" + tree.getBestScore() + " : " + space.toClasses(bestSolution).toString());
+		if(tree.isComplete()){
+			System.out.println("Proven optimal after exploring " + tree.getExplored() + " nodes");
+		}else{
+			System.out.println("Budget exhausted after exploring " + tree.getExplored() + " nodes; best set found so far");
+		}
+		reportBudget(budget);
+		return bestSolution;
+	}
 
-			// Calculate coverage
-			double coverageScore = coveredClasses.size();
-			coverageScore = (coverageScore - 2.0) / (maxCoverage.get(currentTarget).size() - 2.0);
-			coverageScore = coverageScore - 1; // Convert to minimization
+	/* Simulated annealing. Follows a single solution, proposing the same moves as
+	 * mutation (add, delete, or change a class) and scoring each incrementally
+	 * (see {@link ScoreState}). Better moves are always taken; worse ones with
+	 * probability exp(-delta / temperature). Each generation tries one move per
+	 * candidate class, then cools the temperature by the cooling factor. Once the
+	 * search is frozen (temperature below a thousandth of its start), it restarts
+	 * from a new random solution. Continues until the budget is exhausted.
+	 */
+	public BitSolution annealSearch(SearchBudget budget, SearchSpace space){
+		Random rng = searchRandom(0);
+		int width = space.getCandidateCount();
 
-			// Combine
-			double score = Math.sqrt(Math.pow(avgDistance, 2) + Math.pow(size, 2) + Math.pow(coverageScore, 2));
-			//System.out.println("---" + avgDistance + "," + size + "," + coverageScore);
+		// Track the best solution seen
+		BitSolution bestSolution = new BitSolution(width);
+		double bestScore = 100000;
+		int restarts = 0;
+		BitSolution warm = warmStart(space);
+
+		budget.start(space);
+		while(!budget.isExhausted() && width > 0){
+			// Start from the warm start solution, if given, and restart from a random solution
+			BitSolution start = BitSolution.random(width, rng);
+			if(restarts == 0 && warm != null){
+				start = warm;
+			}
+			ScoreState state = new ScoreState(space, start);
+			// Chosen and unchosen classes, and where each is in its list, for O(1) picks
+			int[] members = new int[width];
+			int[] where = new int[width];
+			int chosen = 0;
+			for(int candidate = 0; candidate < width; candidate++){
+				if(state.contains(candidate)){
+					members[chosen] = candidate;
+					where[candidate] = chosen;
+					chosen++;
+				}
+			}
+			int free = chosen;
+			for(int candidate = 0; candidate < width; candidate++){
+				if(!state.contains(candidate)){
+					members[free] = candidate;
+					where[candidate] = free;
+					free++;
+				}
+			}
 
-			scores.add(score);
-		}
+			double current = state.score();
+			if(current < bestScore){
+				bestScore = current;
+				bestSolution = state.getSolution();
+			}
 
-		//System.out.println(scores.toString());
+			// Initial temperature accepts a typical worsening move about 80% of the time
+			double temperature = initialTemperature;
+			if(temperature <= 0){
+				double total = 0.0;
+				int samples = Math.min(width, 100);
+				for(int sample = 0; sample < samples; sample++){
+					total += Math.abs(state.scoreFlipped(rng.nextInt(width)) - current);
+				}
+				temperature = Math.max(1e-9, (total / samples) / -Math.log(0.8));
+			}
+			double frozen = temperature / 1000;
+
+			while(temperature > frozen && !budget.isExhausted()){
+				for(int move = 0; move < width; move++){
+					// Choose whether to add, delete, or change a class
+					int choice = rng.nextInt(3) + 1;
+					if(choice == 1 && chosen == width){
+						choice = 2;
+					}else if(choice >= 2 && chosen == 0){
+						choice = 1;
+					}
+					if(choice == 3 && chosen == width){
+						choice = 2;
+					}
+					int toAdd = -1;
+					int toRemove = -1;
+					if(choice != 2){
+						toAdd = members[chosen + rng.nextInt(width - chosen)];
+						state.add(toAdd);
+					}
+					if(choice != 1){
+						toRemove = members[rng.nextInt(chosen)];
+						state.remove(toRemove);
+					}
 
-		double finalScore = 0.0;
-		for(double score: scores){
-			finalScore += score;
+					double score = state.score();
+					double delta = score - current;
+					if(delta <= 0 || rng.nextDouble() < Math.exp(-delta / temperature)){
+						// Accept. Move the classes between the chosen and unchosen lists.
+						current = score;
+						if(toAdd >= 0){
+							swapMembers(members, where, where[toAdd], chosen);
+							chosen++;
+						}
+						if(toRemove >= 0){
+							chosen--;
+							swapMembers(members, where, where[toRemove], chosen);
+						}
+						if(current < bestScore){
+							bestScore = current;
+							bestSolution = state.getSolution();
+						}
+					}else{
+						// Reject, undoing the move
+						if(toAdd >= 0){
+							state.remove(toAdd);
+						}
+						if(toRemove >= 0){
+							state.add(toRemove);
+						}
+					}
+				}
+				temperature *= cooling;
+				budget.nextGeneration(bestScore);
+			}
+			restarts++;
 		}
-		return finalScore;
+
+		System.out.println("-----\n" + bestScore + " : " + space.toClasses(bestSolution).toString());
+		System.out.println("Annealing runs: " + restarts);
+		reportBudget(budget);
+		return bestSolution;
+	}
+
+	/* Helper function for {@link #annealSearch}.
+	 * Swaps two positions in the chosen/unchosen member list.
+	 */
+	private void swapMembers(int[] members, int[] where, int first, int second){
+		int swapped = members[first];
+		members[first] = members[second];
+		members[second] = swapped;
+		where[members[first]] = first;
+		where[members[second]] = second;
 	}
 
 	// Generates a list of Java files from a directory
 	public void generateClassList(String directory) throws IOException{
 		File dir = new File(directory);
+		sourceDirectory = directory;
 
 		// Does the path exist?
 		if(dir.exists()){
@@ -729,36 +2165,41 @@ public class CouplingMapper{
 	}
 
 	// Gather couplings for each class. 
+	// Files unchanged since the last run are not parsed again (see {@link AnalysisCache}).
 	public void generateCouplings() throws IOException{
+		AnalysisCache cache = analysisCacheFile == null ? new AnalysisCache() : AnalysisCache.load(analysisCacheFile);
 		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".log"));
+		// Sets of the classes found so far, for fast lookups
+		HashSet<String> known = new HashSet<String>(classList);
+		HashSet<String> unusable = new HashSet<String>(unusableClasses);
 		for(String file : couplings.keySet()){
-			ANTLRInputStream input = new ANTLRInputStream(new FileInputStream(file));
-			JavaLexer lexer = new JavaLexer(input);
-			CommonTokenStream tokens = new CommonTokenStream(lexer);
-			JavaParser parser = new JavaParser(tokens);
-			ParseTree tree = parser.compilationUnit(); 
-			ParseTreeWalker walker = new ParseTreeWalker();		
-			CouplingVisitor visitor = new CouplingVisitor(); 
-			walker.walk(visitor, tree);
-
-			HashMap<String, Boolean> classes = visitor.getClasses();
-			HashMap<String, ArrayList<String>> coups = visitor.getCouplings();
-			HashMap<String, String> rTypes = visitor.getReturnTypes();
-			HashMap<String, String> parentList = visitor.getParents();
-			HashMap<String, HashMap<String, String>> allVars = visitor.getVariables();
+			FileAnalysis analysis = cache.analyze(file);
+
+			HashMap<String, Boolean> classes = analysis.getClasses();
+			HashMap<String, ArrayList<String>> coups = analysis.getCouplings();
+			HashMap<String, String> rTypes = analysis.getReturnTypes();
+			HashMap<String, String> parentList = analysis.getParents();
+			HashMap<String, HashMap<String, String>> allVars = analysis.getVariables();
+
+			// Classes defined in the file
+			ArrayList<String> defined = new ArrayList<String>();
+			fileClasses.put(file, defined);
 
 			for(String clazz : classes.keySet()){
+				defined.add(clazz);
 				if(classes.get(clazz)){	
-					if(classList.contains(clazz)){
+					if(known.contains(clazz)){
 						writer.write("Warning: Multiple Class Definitions: " + clazz + "\n");
 					}else{
 						classList.add(clazz);
+						known.add(clazz);
 					}
 				}else{
-					if(unusableClasses.contains(clazz)){
+					if(unusable.contains(clazz)){
 						writer.write("Warning: Multiple Class Definitions: " + clazz + "\n");
 					}else{
 						unusableClasses.add(clazz);
+						unusable.add(clazz);
 					}
 				}
 			}
@@ -772,7 +2213,7 @@ public class CouplingMapper{
 					cl = clazz;
 				}
 
-				if(classList.contains(cl)){
+				if(known.contains(cl)){
 					coupsToAdd.put(clazz, coups.get(clazz));
 				}
 			}
@@ -783,7 +2224,7 @@ public class CouplingMapper{
 			for(String key : rTypes.keySet()){
 				String clazz = key.substring(0,key.indexOf("."));
 
-				if(classList.contains(clazz)){
+				if(known.contains(clazz)){
 					if(returnTypes.containsKey(key)){
 						if(!returnTypes.get(key).equals(rTypes.get(key))){
 							writer.write("Warning: Multiple Method Definitions: " + key + " = {" + returnTypes.get(key) + ", " + rTypes.get(key) + "}\n");
@@ -794,7 +2235,7 @@ public class CouplingMapper{
 			}
 
 			for(String key: parentList.keySet()){
-				if(classList.contains(key) || unusableClasses.contains(key)){
+				if(known.contains(key) || unusable.contains(key)){
 					if(parents.containsKey(key)){
 						if(!parents.get(key).equals(parentList.get(key))){
 							writer.write("Warning: Multiple Class Definitions: " + key + ", Conflicting Parents = {" + parents.get(key) + ", " + parentList.get(key) + "}\n");
@@ -811,7 +2252,7 @@ public class CouplingMapper{
 				}else{
 					clazz = key;
 				}
-				if(classList.contains(clazz)){
+				if(known.contains(clazz)){
 					if(!key.contains(".")){
 						// Looking only for global variables
 						HashMap<String, String> gVars = allVars.get(key);
@@ -836,6 +2277,10 @@ public class CouplingMapper{
 			}
 		}
 		writer.close();
+		if(analysisCacheFile != null){
+			cache.save(analysisCacheFile);
+		}
+		System.out.println("Parsed " + cache.getParsed() + " files, reused " + cache.getReused() + " unchanged files");
 	}
 
 	/* Filter couplings to simplify nested couplings
@@ -844,6 +2289,9 @@ public class CouplingMapper{
 	 * In this process, non-project classes are also removed.
 	 */
 	public void filterCouplings() throws IOException{
+		// Sets of the project's classes, for fast lookups
+		HashSet<String> known = new HashSet<String>(classList);
+		HashSet<String> unusable = new HashSet<String>(unusableClasses);
 		BufferedWriter writer = new BufferedWriter(new FileWriter(project + ".log"));
 		for(String clazz : couplings.keySet()){
 			HashMap<String, ArrayList<String>> coups = couplings.get(clazz);
@@ -863,7 +2311,7 @@ public class CouplingMapper{
 						String[] parts = coupling.split("\\.");
 						coupled = parts[0];
 						// References to methods of a parent and package names might get through.
-						if(!classList.contains(coupled) && !unusableClasses.contains(coupled)){
+						if(!known.contains(coupled) && !unusable.contains(coupled)){
 							if(!coupled.equals("int") && !coupled.equals("short") && !coupled.equals("long")
 								&& !coupled.equals("char") && !coupled.equals("byte") && !coupled.equals("float")
 								&& !coupled.equals("double") && !coupled.equals("boolean") && !coupled.equals("primitive")){
@@ -900,7 +2348,7 @@ public class CouplingMapper{
 
 								// Could this be inherited?
 								if(!found){	
-									if(parents.containsKey(cName) && classList.contains(parents.get(cName))){
+									if(parents.containsKey(cName) && known.contains(parents.get(cName))){
 										String potential = parents.get(cName) + "." + coupled;
 										if(returnTypes.containsKey(potential) || 
 											(variables.containsKey(parents.get(cName)) && variables.get(parents.get(cName)).containsKey(coupled)) ||
@@ -920,7 +2368,7 @@ public class CouplingMapper{
 								
 								// One last try - could be inherited from an abstract parent
 								if(!found){
-									if(parents.containsKey(cName) && unusableClasses.contains(parents.get(cName))){
+									if(parents.containsKey(cName) && unusable.contains(parents.get(cName))){
 										// If this is a variable or method of the parent
 										coupling = parents.get(cName) + "." + coupled;
 										// Replace coupling with return type
@@ -939,7 +2387,7 @@ public class CouplingMapper{
 							// Get initial object
 							coupled = parts[0];	
 							// Is this part of the project?
-							if(classList.contains(coupled)){
+							if(known.contains(coupled)){
 								// Get method return type
 								if(returnTypes.containsKey(coupled + "." + parts[1])){
 									String rType = returnTypes.get(coupled + "." + parts[1]);
@@ -1009,7 +2457,7 @@ public class CouplingMapper{
 						coupled = coupling;
 					}
 
-					if(classList.contains(coupled)){
+					if(known.contains(coupled)){
 						// Make sure the method or variable exists.
 						if(coupling.contains(".")){
 							String mName = coupling.substring(coupling.indexOf(".") + 1, coupling.length());
@@ -1034,9 +2482,10 @@ public class CouplingMapper{
 								String pName = coupled;
 								while(parents.containsKey(pName) && !found){
 									//System.out.println("--" + parents.get(pName));	
-									if(!classList.contains(parents.get(pName))){
-										if(unusableClasses.contains(parents.get(pName))){
+									if(!known.contains(parents.get(pName))){
+										if(unusable.contains(parents.get(pName))){
 											writer.write("Coupled to interface or abstract class: " + coupling + "\n");
+											addUnusableUser(parents.get(pName), method);
 										}else{
 											writer.write("Coupled to non-project parent: " + coupling + "\n");
 										}
@@ -1080,8 +2529,9 @@ public class CouplingMapper{
 						}else{
 							filteredCoups.add(coupling);
 						}
-					}else if(unusableClasses.contains(coupled)){
+					}else if(unusable.contains(coupled)){
 						writer.write("Coupled to abstract class or interface: " + coupling + "\n");
+						addUnusableUser(coupled, method);
 					}else{
 						writer.write("Coupled to non-project class: " + coupling + "\n");
 					}
@@ -1093,6 +2543,18 @@ public class CouplingMapper{
 		writer.close();
 	}
 
+	/* Helper function for {@link #filterCouplings}.
+	 * Records that the class of a method is coupled to an interface or abstract class.
+	 */
+	private void addUnusableUser(String unusable, String method){
+		HashSet<String> users = unusableUsers.get(unusable);
+		if(users == null){
+			users = new HashSet<String>();
+			unusableUsers.put(unusable, users);
+		}
+		users.add(CouplingGraph.className(method));
+	}
+
 	// Getters and setters
 	public ArrayList<String> getClassList(){
 		return classList;
@@ -1126,11 +2588,235 @@ public class CouplingMapper{
 		this.project = project;
 	}
 
+	// GraphStream graph, built on first use
 	public Graph getGraph(){
+		if(graph == null){
+			materializeGraph();
+		}
 		return graph;
 	}
 	
 	public void setGraph(Graph graph){
 		this.graph = graph;
 	}
+
+	public CouplingGraph getCouplingGraph(){
+		return couplingGraph;
+	}
+
+	public int getIslands(){
+		return islands;
+	}
+
+	public void setIslands(int islands){
+		this.islands = Math.max(1, islands);
+	}
+
+	public int getMigrationInterval(){
+		return migrationInterval;
+	}
+
+	public void setMigrationInterval(int migrationInterval){
+		this.migrationInterval = Math.max(1, migrationInterval);
+	}
+
+	public int getMigrants(){
+		return migrants;
+	}
+
+	public void setMigrants(int migrants){
+		this.migrants = migrants;
+	}
+
+	public String getTopology(){
+		return topology;
+	}
+
+	public void setTopology(String topology){
+		this.topology = topology;
+	}
+
+	public int getCacheCapacity(){
+		return cacheCapacity;
+	}
+
+	public void setCacheCapacity(int cacheCapacity){
+		this.cacheCapacity = Math.max(0, cacheCapacity);
+	}
+
+	public String getSelection(){
+		return selection;
+	}
+
+	public void setSelection(String selection){
+		this.selection = selection;
+	}
+
+	public int getTournamentSize(){
+		return tournamentSize;
+	}
+
+	public void setTournamentSize(int tournamentSize){
+		this.tournamentSize = Math.max(1, tournamentSize);
+	}
+
+	public Long getSeed(){
+		return seed;
+	}
+
+	public void setSeed(Long seed){
+		this.seed = seed;
+	}
+
+	public long getMaxEvaluations(){
+		return maxEvaluations;
+	}
+
+	public void setMaxEvaluations(long maxEvaluations){
+		this.maxEvaluations = maxEvaluations;
+	}
+
+	public int getMaxGenerations(){
+		return maxGenerations;
+	}
+
+	public void setMaxGenerations(int maxGenerations){
+		this.maxGenerations = maxGenerations;
+	}
+
+	public int getStallGenerations(){
+		return stallGenerations;
+	}
+
+	public void setStallGenerations(int stallGenerations){
+		this.stallGenerations = stallGenerations;
+	}
+
+	public int getExactLimit(){
+		return exactLimit;
+	}
+
+	public void setExactLimit(int exactLimit){
+		this.exactLimit = exactLimit;
+	}
+
+	public double getInitialTemperature(){
+		return initialTemperature;
+	}
+
+	public void setInitialTemperature(double initialTemperature){
+		this.initialTemperature = initialTemperature;
+	}
+
+	public double getCooling(){
+		return cooling;
+	}
+
+	public void setCooling(double cooling){
+		this.cooling = cooling;
+	}
+
+	public String getCheckpointFile(){
+		return checkpointFile;
+	}
+
+	public void setCheckpointFile(String checkpointFile){
+		this.checkpointFile = checkpointFile;
+	}
+
+	public int getCheckpointInterval(){
+		return checkpointInterval;
+	}
+
+	public void setCheckpointInterval(int checkpointInterval){
+		this.checkpointInterval = Math.max(1, checkpointInterval);
+	}
+
+	public String getResumeFile(){
+		return resumeFile;
+	}
+
+	public void setResumeFile(String resumeFile){
+		this.resumeFile = resumeFile;
+	}
+
+	public String getWarmFile(){
+		return warmFile;
+	}
+
+	public void setWarmFile(String warmFile){
+		this.warmFile = warmFile;
+	}
+
+	public String getTelemetryFile(){
+		return telemetryFile;
+	}
+
+	public void setTelemetryFile(String telemetryFile){
+		this.telemetryFile = telemetryFile;
+	}
+
+	public String getDistanceMetric(){
+		return distanceMetric;
+	}
+
+	public void setDistanceMetric(String distanceMetric){
+		this.distanceMetric = distanceMetric;
+	}
+
+	public String getPathCacheFile(){
+		return pathCacheFile;
+	}
+
+	public void setPathCacheFile(String pathCacheFile){
+		this.pathCacheFile = pathCacheFile;
+	}
+
+	public HashMap<String, ArrayList<String>> getFileClasses(){
+		return fileClasses;
+	}
+
+	public String getAnalysisCacheFile(){
+		return analysisCacheFile;
+	}
+
+	public void setAnalysisCacheFile(String analysisCacheFile){
+		this.analysisCacheFile = analysisCacheFile;
+	}
+
+	public double getBatchOverlap(){
+		return batchOverlap;
+	}
+
+	public void setBatchOverlap(double batchOverlap){
+		this.batchOverlap = batchOverlap;
+	}
+
+	public int getCentralitySamples(){
+		return centralitySamples;
+	}
+
+	public void setCentralitySamples(int centralitySamples){
+		this.centralitySamples = centralitySamples;
+	}
+
+	public String getSourceDirectory(){
+		return sourceDirectory;
+	}
+
+	public int getRollupDepth(){
+		return rollupDepth;
+	}
+
+	public void setRollupDepth(int rollupDepth){
+		this.rollupDepth = rollupDepth;
+	}
+
+	public String getDrillPackage(){
+		return drillPackage;
+	}
+
+	public void setDrillPackage(String drillPackage){
+		this.drillPackage = drillPackage;
+	}
 }
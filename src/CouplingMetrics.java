@@ -0,0 +1,259 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Standard coupling metrics, computed from the coupling graph and the
+* couplings table rather than from the CSV. For each class: efferent
+* coupling (Ce, the classes it uses), afferent coupling (Ca, the classes
+* that use it), coupling between objects (CBO, the classes it is coupled
+* to in either direction), instability (Ce / (Ca + Ce)), its couplings out
+* and in, and its number of methods. For each method: its couplings and
+* the classes they are to. Classes are split into ranges, and methods by
+* file, and done in parallel.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class CouplingMetrics{
+	private final CouplingGraph graph;
+	// Metrics of each class, by node number
+	private final int[] efferent;
+	private final int[] afferent;
+	private final int[] cbo;
+	private final double[] instability;
+	private final double[] couplingsOut;
+	private final double[] couplingsIn;
+	private final int[] methodCount;
+	// Methods (Class.method), in order, with their couplings and the classes they are to
+	private final ArrayList<String> methods;
+	private final HashMap<String, int[]> methodMetrics;
+
+	public CouplingMetrics(CouplingGraph graph, HashMap<String, HashMap<String, ArrayList<String>>> couplings){
+		this.graph = graph;
+		int nodes = graph.getNodeCount();
+		efferent = new int[nodes];
+		afferent = new int[nodes];
+		cbo = new int[nodes];
+		instability = new double[nodes];
+		couplingsOut = new double[nodes];
+		couplingsIn = new double[nodes];
+		methodCount = new int[nodes];
+		methodMetrics = new HashMap<String, int[]>();
+
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try{
+			ArrayList<Future<?>> classResults = new ArrayList<Future<?>>();
+			int chunk = Math.max(256, (nodes + threads - 1) / threads);
+			for(int from = 0; from < nodes; from += chunk){
+				final int first = from;
+				final int last = Math.min(nodes, from + chunk);
+				classResults.add(executor.submit(new Callable<Void>(){
+					public Void call(){
+						measureClasses(first, last);
+						return null;
+					}
+				}));
+			}
+			ArrayList<Future<HashMap<String, int[]>>> methodResults = new ArrayList<Future<HashMap<String, int[]>>>();
+			for(final HashMap<String, ArrayList<String>> coups: couplings.values()){
+				methodResults.add(executor.submit(new Callable<HashMap<String, int[]>>(){
+					public HashMap<String, int[]> call(){
+						return measureMethods(coups);
+					}
+				}));
+			}
+			for(Future<?> result: classResults){
+				result.get();
+			}
+			for(Future<HashMap<String, int[]>> result: methodResults){
+				HashMap<String, int[]> found = result.get();
+				for(String method: found.keySet()){
+					int[] counts = methodMetrics.get(method);
+					if(counts == null){
+						methodMetrics.put(method, found.get(method));
+					}else{
+						counts[0] += found.get(method)[0];
+						counts[1] = Math.max(counts[1], found.get(method)[1]);
+					}
+				}
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while computing coupling metrics", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Could not compute coupling metrics", e.getCause());
+		}finally{
+			executor.shutdown();
+		}
+
+		methods = new ArrayList<String>(methodMetrics.keySet());
+		Collections.sort(methods);
+		for(String method: methods){
+			int node = graph.getId(CouplingGraph.className(method));
+			if(node >= 0){
+				methodCount[node]++;
+			}
+		}
+	}
+
+	/* Helper function for the constructor.
+	 * Class metrics for the nodes first up to last. The classes a node uses and
+	 * is used by are both in increasing order, so CBO is the size of their merge.
+	 */
+	private void measureClasses(int first, int last){
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		float[] weights = graph.getWeights();
+		int[] inOffsets = graph.getInOffsets();
+		int[] sources = graph.getSources();
+		float[] inWeights = graph.getInWeights();
+		for(int node = first; node < last; node++){
+			efferent[node] = offsets[node + 1] - offsets[node];
+			afferent[node] = inOffsets[node + 1] - inOffsets[node];
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				couplingsOut[node] += weights[edge];
+			}
+			for(int edge = inOffsets[node]; edge < inOffsets[node + 1]; edge++){
+				couplingsIn[node] += inWeights[edge];
+			}
+
+			int coupled = 0;
+			int out = offsets[node];
+			int in = inOffsets[node];
+			while(out < offsets[node + 1] || in < inOffsets[node + 1]){
+				if(in == inOffsets[node + 1] || (out < offsets[node + 1] && sinks[out] < sources[in])){
+					out++;
+				}else if(out == offsets[node + 1] || sources[in] < sinks[out]){
+					in++;
+				}else{
+					out++;
+					in++;
+				}
+				coupled++;
+			}
+			cbo[node] = coupled;
+
+			if(efferent[node] + afferent[node] > 0){
+				instability[node] = (double) efferent[node] / (efferent[node] + afferent[node]);
+			}
+		}
+	}
+
+	/* Helper function for the constructor.
+	 * Couplings of each method in one file, and the number of classes they are to.
+	 * As in the graph, couplings to the method's own class and to classes outside
+	 * the project are not counted.
+	 */
+	private HashMap<String, int[]> measureMethods(HashMap<String, ArrayList<String>> coups){
+		HashMap<String, int[]> found = new HashMap<String, int[]>();
+		for(String method: coups.keySet()){
+			String owner = CouplingGraph.className(method);
+			if(graph.getId(owner) < 0){
+				continue;
+			}
+			int count = 0;
+			HashSet<String> classes = new HashSet<String>();
+			for(String var: coups.get(method)){
+				String clazz = CouplingGraph.className(var);
+				if(!clazz.equals(owner) && graph.getId(clazz) >= 0){
+					count++;
+					classes.add(clazz);
+				}
+			}
+			found.put(method, new int[]{count, classes.size()});
+		}
+		return found;
+	}
+
+	/* Write the class metrics to <prefix>.metrics and the method metrics to
+	 * <prefix>.methods, as CSV or, if json is set, as JSON arrays of objects.
+	 */
+	public void write(String prefix, boolean json) throws IOException{
+		String extension = json ? ".json" : ".csv";
+		BufferedWriter writer = new BufferedWriter(new FileWriter(prefix + ".metrics" + extension), 1 << 16);
+		if(json){
+			writer.write("[\n");
+		}else{
+			writer.write("# Class, CBO, Ca, Ce, Instability, Couplings Out, Couplings In, Methods\n");
+		}
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			if(json){
+				writer.write("{\"class\":" + quote(graph.getName(node)) + ",\"cbo\":" + cbo[node] + ",\"ca\":" + afferent[node]
+					+ ",\"ce\":" + efferent[node] + ",\"instability\":" + instability[node] + ",\"couplings_out\":" + couplingsOut[node]
+					+ ",\"couplings_in\":" + couplingsIn[node] + ",\"methods\":" + methodCount[node] + "}"
+					+ (node < graph.getNodeCount() - 1 ? "," : "") + "\n");
+			}else{
+				writer.write(graph.getName(node) + "," + cbo[node] + "," + afferent[node] + "," + efferent[node] + "," + instability[node]
+					+ "," + couplingsOut[node] + "," + couplingsIn[node] + "," + methodCount[node] + "\n");
+			}
+		}
+		if(json){
+			writer.write("]\n");
+		}
+		writer.close();
+
+		writer = new BufferedWriter(new FileWriter(prefix + ".methods" + extension), 1 << 16);
+		if(json){
+			writer.write("[\n");
+		}else{
+			writer.write("# Class, Method, Couplings, Coupled Classes\n");
+		}
+		for(int position = 0; position < methods.size(); position++){
+			String method = methods.get(position);
+			String clazz = CouplingGraph.className(method);
+			String name = method.substring(clazz.length()).replaceFirst("^\\.", "");
+			int[] counts = methodMetrics.get(method);
+			if(json){
+				writer.write("{\"class\":" + quote(clazz) + ",\"method\":" + quote(name) + ",\"couplings\":" + counts[0]
+					+ ",\"coupled_classes\":" + counts[1] + "}" + (position < methods.size() - 1 ? "," : "") + "\n");
+			}else{
+				writer.write(clazz + "," + name + "," + counts[0] + "," + counts[1] + "\n");
+			}
+		}
+		if(json){
+			writer.write("]\n");
+		}
+		writer.close();
+	}
+
+	/* Helper function for {@link #write}.
+	 * A string as a JSON string literal.
+	 */
+	private String quote(String value){
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+	public int getEfferent(int node){
+		return efferent[node];
+	}
+
+	public int getAfferent(int node){
+		return afferent[node];
+	}
+
+	public int getCbo(int node){
+		return cbo[node];
+	}
+
+	public double getInstability(int node){
+		return instability[node];
+	}
+
+	public int getMethodCount(int node){
+		return methodCount[node];
+	}
+}
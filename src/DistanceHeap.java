@@ -0,0 +1,119 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Binary min-heap of graph nodes keyed by distance, for Dijkstra's
+* algorithm. Nodes and keys are kept in primitive arrays, and each node's
+* place in the heap is tracked so its distance can be lowered in place
+* (decrease-key) instead of adding a duplicate entry.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.Arrays;
+
+public class DistanceHeap{
+	// Nodes in heap order, and their keys
+	private final int[] heap;
+	private final double[] keys;
+	// Place of each node in the heap, or -1 if it is not in the heap
+	private final int[] position;
+	private int size;
+
+	// Heap for the nodes 0 to nodes - 1
+	public DistanceHeap(int nodes){
+		heap = new int[nodes];
+		keys = new double[nodes];
+		position = new int[nodes];
+		Arrays.fill(position, -1);
+		size = 0;
+	}
+
+	// Remove all nodes
+	public void clear(){
+		for(int entry = 0; entry < size; entry++){
+			position[heap[entry]] = -1;
+		}
+		size = 0;
+	}
+
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	// Add a node, or lower its key if it is already in the heap. Higher keys are ignored.
+	public void offer(int node, double key){
+		int entry = position[node];
+		if(entry < 0){
+			entry = size++;
+		}else if(key >= keys[entry]){
+			return;
+		}
+		heap[entry] = node;
+		keys[entry] = key;
+		position[node] = entry;
+		siftUp(entry);
+	}
+
+	// Remove and return the node with the lowest key
+	public int poll(){
+		int node = heap[0];
+		position[node] = -1;
+		size--;
+		if(size > 0){
+			heap[0] = heap[size];
+			keys[0] = keys[size];
+			position[heap[0]] = 0;
+			siftDown(0);
+		}
+		return node;
+	}
+
+	/* Helper function for {@link #offer}.
+	 * Move an entry towards the root until its parent's key is no higher.
+	 */
+	private void siftUp(int entry){
+		int node = heap[entry];
+		double key = keys[entry];
+		while(entry > 0){
+			int parent = (entry - 1) >>> 1;
+			if(keys[parent] <= key){
+				break;
+			}
+			heap[entry] = heap[parent];
+			keys[entry] = keys[parent];
+			position[heap[entry]] = entry;
+			entry = parent;
+		}
+		heap[entry] = node;
+		keys[entry] = key;
+		position[node] = entry;
+	}
+
+	/* Helper function for {@link #poll}.
+	 * Move an entry towards the leaves until neither child has a lower key.
+	 */
+	private void siftDown(int entry){
+		int node = heap[entry];
+		double key = keys[entry];
+		while(true){
+			int child = 2 * entry + 1;
+			if(child >= size){
+				break;
+			}
+			if(child + 1 < size && keys[child + 1] < keys[child]){
+				child++;
+			}
+			if(keys[child] >= key){
+				break;
+			}
+			heap[entry] = heap[child];
+			keys[entry] = keys[child];
+			position[heap[entry]] = entry;
+			entry = child;
+		}
+		heap[entry] = node;
+		keys[entry] = key;
+		position[node] = entry;
+	}
+}
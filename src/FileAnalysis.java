@@ -0,0 +1,99 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* What the coupling visitor found in one Java file: its classes, couplings,
+* method return types, class parents and variables, along with the file's
+* modification time and size when it was parsed. Kept in an
+* {@link AnalysisCache} so unchanged files are not parsed again.
+* Getters return copies, since the mapper merges and filters what it is given.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public class FileAnalysis implements Serializable{
+	private static final long serialVersionUID = 1L;
+
+	// State of the file when it was parsed
+	private final long lastModified;
+	private final long length;
+	// Results of the coupling visitor
+	private final HashMap<String, Boolean> classes;
+	private final HashMap<String, ArrayList<String>> couplings;
+	private final HashMap<String, String> returnTypes;
+	private final HashMap<String, String> parents;
+	private final HashMap<String, HashMap<String, String>> variables;
+
+	// Parse a Java file
+	public FileAnalysis(String fileName) throws IOException{
+		File file = new File(fileName);
+		lastModified = file.lastModified();
+		length = file.length();
+
+		FileInputStream stream = new FileInputStream(file);
+		try{
+			ANTLRInputStream input = new ANTLRInputStream(stream);
+			JavaLexer lexer = new JavaLexer(input);
+			CommonTokenStream tokens = new CommonTokenStream(lexer);
+			JavaParser parser = new JavaParser(tokens);
+			ParseTree tree = parser.compilationUnit();
+			ParseTreeWalker walker = new ParseTreeWalker();
+			CouplingVisitor visitor = new CouplingVisitor();
+			walker.walk(visitor, tree);
+
+			classes = visitor.getClasses();
+			couplings = visitor.getCouplings();
+			returnTypes = visitor.getReturnTypes();
+			parents = visitor.getParents();
+			variables = visitor.getVariables();
+		}finally{
+			stream.close();
+		}
+	}
+
+	// Whether the file is unchanged since it was parsed
+	public boolean isCurrent(String fileName){
+		File file = new File(fileName);
+		return file.lastModified() == lastModified && file.length() == length;
+	}
+
+	public HashMap<String, Boolean> getClasses(){
+		return new HashMap<String, Boolean>(classes);
+	}
+
+	public HashMap<String, ArrayList<String>> getCouplings(){
+		HashMap<String, ArrayList<String>> copy = new HashMap<String, ArrayList<String>>();
+		for(String location: couplings.keySet()){
+			copy.put(location, new ArrayList<String>(couplings.get(location)));
+		}
+		return copy;
+	}
+
+	public HashMap<String, String> getReturnTypes(){
+		return new HashMap<String, String>(returnTypes);
+	}
+
+	public HashMap<String, String> getParents(){
+		return new HashMap<String, String>(parents);
+	}
+
+	public HashMap<String, HashMap<String, String>> getVariables(){
+		HashMap<String, HashMap<String, String>> copy = new HashMap<String, HashMap<String, String>>();
+		for(String location: variables.keySet()){
+			copy.put(location, new HashMap<String, String>(variables.get(location)));
+		}
+		return copy;
+	}
+}
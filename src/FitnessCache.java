@@ -0,0 +1,103 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Bounded cache of solution scores. Retention, mutation and crossover often
+* produce solutions that have already been scored, so scores are remembered
+* by solution (hashed on its bitset words). When full, entries are evicted
+* using the CLOCK (second chance) policy. Not thread-safe; each search thread
+* should use its own cache.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.HashMap;
+
+public class FitnessCache{
+	// Maximum number of entries. 0 disables caching.
+	private final int capacity;
+	// Slot holding each cached solution
+	private final HashMap<BitSolution, Integer> slots;
+	// Solutions, scores and reference bits by slot
+	private final BitSolution[] keys;
+	private final double[] scores;
+	private final boolean[] referenced;
+	// CLOCK hand and number of slots in use
+	private int hand;
+	private int used;
+	// Statistics
+	private long hits;
+	private long lookups;
+
+	public FitnessCache(int capacity){
+		this.capacity = Math.max(0, capacity);
+		slots = new HashMap<BitSolution, Integer>(this.capacity * 2);
+		keys = new BitSolution[this.capacity];
+		scores = new double[this.capacity];
+		referenced = new boolean[this.capacity];
+		hand = 0;
+		used = 0;
+		hits = 0;
+		lookups = 0;
+	}
+
+	// Score of a solution, computed and cached if it has not been seen
+	public double score(BitSolution solution, SearchSpace space){
+		lookups++;
+		if(capacity == 0){
+			return space.score(solution);
+		}
+
+		Integer slot = slots.get(solution);
+		if(slot != null){
+			hits++;
+			referenced[slot] = true;
+			return scores[slot];
+		}
+
+		double score = space.score(solution);
+		int free;
+		if(used < capacity){
+			free = used;
+			used++;
+		}else{
+			// Advance the hand, giving referenced entries a second chance
+			while(referenced[hand]){
+				referenced[hand] = false;
+				hand = (hand + 1) % capacity;
+			}
+			free = hand;
+			slots.remove(keys[free]);
+			hand = (hand + 1) % capacity;
+		}
+		keys[free] = solution;
+		scores[free] = score;
+		referenced[free] = false;
+		slots.put(solution, free);
+		return score;
+	}
+
+	// Fraction of lookups answered from the cache
+	public double getHitRate(){
+		if(lookups == 0){
+			return 0.0;
+		}
+		return (double) hits / lookups;
+	}
+
+	public long getHits(){
+		return hits;
+	}
+
+	public long getLookups(){
+		return lookups;
+	}
+
+	public int getCapacity(){
+		return capacity;
+	}
+
+	public int size(){
+		return used;
+	}
+}
@@ -0,0 +1,480 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Force-directed layout of the coupling graph that runs without a display,
+* for drawing large graphs on build servers. Coupled classes pull on each
+* other (more strongly the more couplings there are), all classes push each
+* other apart, and a weak pull towards the centre keeps unconnected parts
+* together (Fruchterman and Reingold). The push between all pairs is
+* approximated with a Barnes-Hut quadtree, rebuilt each iteration, so an
+* iteration takes O(n log n) rather than O(n^2) time. Forces are computed
+* for ranges of classes in parallel. Moves are limited by a temperature
+* that cools to nothing over the given number of iterations.
+* The layout is written to SVG and PNG.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+
+public class ForceLayout{
+	// Cells whose size over distance is below this are treated as one body
+	private static final double THETA = 0.8;
+	// Strength of the pull towards the centre
+	private static final double GRAVITY = 1.0;
+	// Deepest quadtree cell; bodies closer than this share a cell
+	private static final int MAX_DEPTH = 40;
+	// Most classes drawn with labels
+	private static final int MAX_LABELS = 1000;
+
+	private final CouplingGraph graph;
+	private final double[] x;
+	private final double[] y;
+	private final int threads;
+
+	// Quadtree. Each cell has a centre and half-width, the number and mass-weighted
+	// position sums of its bodies, and four children (-1 if none). A leaf holds its
+	// first body (-1 for an internal cell).
+	private int cells;
+	private double[] centreX;
+	private double[] centreY;
+	private double[] half;
+	private int[] count;
+	private double[] sumX;
+	private double[] sumY;
+	private int[] children;
+	private int[] body;
+
+	// Random starting positions, spread over an area that grows with the number of classes
+	public ForceLayout(CouplingGraph graph, Random random){
+		this.graph = graph;
+		int nodes = graph.getNodeCount();
+		x = new double[nodes];
+		y = new double[nodes];
+		double radius = Math.sqrt(nodes);
+		for(int node = 0; node < nodes; node++){
+			x[node] = (random.nextDouble() * 2 - 1) * radius;
+			y[node] = (random.nextDouble() * 2 - 1) * radius;
+		}
+		threads = Runtime.getRuntime().availableProcessors();
+		allocate(Math.max(16, 2 * nodes));
+	}
+
+	/* Run the layout for the given number of iterations. The most a class may move in
+	 * an iteration starts at a tenth of the width of the layout and falls linearly.
+	 */
+	public void layout(int iterations){
+		final int nodes = graph.getNodeCount();
+		if(nodes == 0){
+			return;
+		}
+		final double[] forceX = new double[nodes];
+		final double[] forceY = new double[nodes];
+		double start = Math.sqrt(nodes) / 5 + 1;
+		int chunk = Math.max(256, (nodes + 4 * threads - 1) / (4 * threads));
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try{
+			for(int iteration = 0; iteration < iterations; iteration++){
+				build();
+				ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+				for(int from = 0; from < nodes; from += chunk){
+					final int first = from;
+					final int last = Math.min(nodes, from + chunk);
+					tasks.add(new Callable<Void>(){
+						public Void call(){
+							forces(first, last, forceX, forceY);
+							return null;
+						}
+					});
+				}
+				for(Future<Void> result: executor.invokeAll(tasks)){
+					result.get();
+				}
+
+				double temperature = start * (1.0 - (double) iteration / iterations);
+				for(int node = 0; node < nodes; node++){
+					double length = Math.sqrt(forceX[node] * forceX[node] + forceY[node] * forceY[node]);
+					if(length > 0){
+						double step = Math.min(length, temperature) / length;
+						x[node] += forceX[node] * step;
+						y[node] += forceY[node] * step;
+					}
+				}
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while laying out the graph", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Could not lay out the graph", e.getCause());
+		}finally{
+			executor.shutdown();
+		}
+	}
+
+	/* Helper function for {@link #layout}.
+	 * Forces on the classes first up to last: a push of 1 / distance from every other
+	 * class (from a whole cell at once if it is far enough away), a pull of
+	 * distance^2 * log2(1 + couplings) along each coupling in either direction, and a
+	 * pull of GRAVITY * distance towards the centre.
+	 */
+	private void forces(int first, int last, double[] forceX, double[] forceY){
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		float[] weights = graph.getWeights();
+		int[] inOffsets = graph.getInOffsets();
+		int[] sources = graph.getSources();
+		float[] inWeights = graph.getInWeights();
+		int[] stack = new int[4 * MAX_DEPTH + 4];
+		for(int node = first; node < last; node++){
+			double fx = -GRAVITY * x[node];
+			double fy = -GRAVITY * y[node];
+
+			// Push from the other classes
+			int top = 0;
+			stack[top++] = 0;
+			while(top > 0){
+				int cell = stack[--top];
+				int bodies = count[cell];
+				double massX = sumX[cell];
+				double massY = sumY[cell];
+				if(body[cell] >= 0 && inside(cell, node)){
+					// Leave this class out of its own leaf
+					bodies--;
+					massX -= x[node];
+					massY -= y[node];
+				}
+				if(bodies == 0){
+					continue;
+				}
+				double dx = x[node] - massX / bodies;
+				double dy = y[node] - massY / bodies;
+				double squared = dx * dx + dy * dy;
+				if(body[cell] >= 0 || 4 * half[cell] * half[cell] < THETA * THETA * squared){
+					if(squared < 1e-9){
+						// Separate classes in the same place in a fixed, per-class direction
+						dx = Math.cos(node);
+						dy = Math.sin(node);
+						squared = 1e-2;
+					}
+					fx += bodies * dx / squared;
+					fy += bodies * dy / squared;
+				}else{
+					for(int quadrant = 0; quadrant < 4; quadrant++){
+						if(children[4 * cell + quadrant] >= 0){
+							stack[top++] = children[4 * cell + quadrant];
+						}
+					}
+				}
+			}
+
+			// Pull along couplings
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				double dx = x[sinks[edge]] - x[node];
+				double dy = y[sinks[edge]] - y[node];
+				double distance = Math.sqrt(dx * dx + dy * dy);
+				double strength = distance * Math.log(1.0 + weights[edge]) / Math.log(2.0);
+				fx += dx * strength;
+				fy += dy * strength;
+			}
+			for(int edge = inOffsets[node]; edge < inOffsets[node + 1]; edge++){
+				double dx = x[sources[edge]] - x[node];
+				double dy = y[sources[edge]] - y[node];
+				double distance = Math.sqrt(dx * dx + dy * dy);
+				double strength = distance * Math.log(1.0 + inWeights[edge]) / Math.log(2.0);
+				fx += dx * strength;
+				fy += dy * strength;
+			}
+			forceX[node] = fx;
+			forceY[node] = fy;
+		}
+	}
+
+	/* Helper function for {@link #forces}.
+	 * Whether a class is one of the bodies of a leaf: the leaf's first body, or
+	 * (in a leaf at the deepest level) in the same place.
+	 */
+	private boolean inside(int cell, int node){
+		return body[cell] == node || (count[cell] > 1 && Math.abs(x[node] - centreX[cell]) <= half[cell]
+			&& Math.abs(y[node] - centreY[cell]) <= half[cell]);
+	}
+
+	/* Helper function for {@link #layout}.
+	 * Builds the quadtree over the current positions.
+	 */
+	private void build(){
+		int nodes = graph.getNodeCount();
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for(int node = 0; node < nodes; node++){
+			minX = Math.min(minX, x[node]);
+			minY = Math.min(minY, y[node]);
+			maxX = Math.max(maxX, x[node]);
+			maxY = Math.max(maxY, y[node]);
+		}
+		cells = 0;
+		cell((minX + maxX) / 2, (minY + maxY) / 2, Math.max(maxX - minX, maxY - minY) / 2 + 1e-6);
+		for(int node = 0; node < nodes; node++){
+			insert(node);
+		}
+	}
+
+	/* Helper function for {@link #build}.
+	 * Adds a class to the quadtree, splitting leaves as needed.
+	 */
+	private void insert(int node){
+		int cell = 0;
+		int depth = 0;
+		while(true){
+			if(count[cell] == 0){
+				// Empty leaf
+				body[cell] = node;
+				add(cell, node);
+				return;
+			}
+			if(body[cell] >= 0){
+				if(depth >= MAX_DEPTH){
+					// Deepest level: the leaf holds every class that reaches it
+					add(cell, node);
+					return;
+				}
+				// Split the leaf, moving its body down a level
+				int moved = body[cell];
+				body[cell] = -1;
+				int below = child(cell, moved);
+				body[below] = moved;
+				add(below, moved);
+			}
+			add(cell, node);
+			cell = child(cell, node);
+			depth++;
+		}
+	}
+
+	/* Helper function for {@link #insert}.
+	 * The child of a cell in the quadrant a class is in, added if missing.
+	 */
+	private int child(int cell, int node){
+		int quadrant = (x[node] >= centreX[cell] ? 1 : 0) + (y[node] >= centreY[cell] ? 2 : 0);
+		int found = children[4 * cell + quadrant];
+		if(found < 0){
+			double quarter = half[cell] / 2;
+			found = cell(centreX[cell] + ((quadrant & 1) == 1 ? quarter : -quarter),
+				centreY[cell] + ((quadrant & 2) == 2 ? quarter : -quarter), quarter);
+			children[4 * cell + quadrant] = found;
+		}
+		return found;
+	}
+
+	/* Helper function for {@link #build} and {@link #child}.
+	 * Adds an empty cell, growing the arrays if needed.
+	 */
+	private int cell(double cx, double cy, double size){
+		if(cells == count.length){
+			allocate(2 * cells);
+		}
+		centreX[cells] = cx;
+		centreY[cells] = cy;
+		half[cells] = size;
+		count[cells] = 0;
+		sumX[cells] = 0;
+		sumY[cells] = 0;
+		body[cells] = -1;
+		Arrays.fill(children, 4 * cells, 4 * cells + 4, -1);
+		return cells++;
+	}
+
+	/* Helper function for {@link #insert}.
+	 * Counts a class in a cell's bodies.
+	 */
+	private void add(int cell, int node){
+		count[cell]++;
+		sumX[cell] += x[node];
+		sumY[cell] += y[node];
+	}
+
+	/* Helper function for the constructor and {@link #cell}.
+	 * Sizes the quadtree arrays, keeping the cells so far.
+	 */
+	private void allocate(int capacity){
+		if(centreX == null){
+			centreX = new double[0];
+			centreY = new double[0];
+			half = new double[0];
+			count = new int[0];
+			sumX = new double[0];
+			sumY = new double[0];
+			children = new int[0];
+			body = new int[0];
+		}
+		centreX = Arrays.copyOf(centreX, capacity);
+		centreY = Arrays.copyOf(centreY, capacity);
+		half = Arrays.copyOf(half, capacity);
+		count = Arrays.copyOf(count, capacity);
+		sumX = Arrays.copyOf(sumX, capacity);
+		sumY = Arrays.copyOf(sumY, capacity);
+		children = Arrays.copyOf(children, 4 * capacity);
+		body = Arrays.copyOf(body, capacity);
+	}
+
+	/* Write the layout as an SVG image, scaled to the given width and height in pixels.
+	 * colors holds the fill color of each class (e.g., "#ff0000"). Each class has a
+	 * tooltip with its name, and a label if there are not too many classes.
+	 */
+	public void writeSvg(String fileName, String[] colors, int width, int height) throws IOException{
+		double[] scale = scale(width, height);
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		float[] weights = graph.getWeights();
+		double radius = radius(width, height);
+		boolean labels = graph.getNodeCount() <= MAX_LABELS;
+
+		BufferedWriter writer = new BufferedWriter(new FileWriter(fileName), 1 << 16);
+		writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + width + "\" height=\"" + height + "\" viewBox=\"0 0 " + width + " " + height + "\">\n");
+		writer.write("<defs><marker id=\"arrow\" viewBox=\"0 0 10 10\" refX=\"10\" refY=\"5\" markerWidth=\"5\" markerHeight=\"4\" orient=\"auto\">"
+			+ "<path d=\"M 0 0 L 10 5 L 0 10 z\" fill=\"#222\"/></marker></defs>\n");
+		writer.write("<rect width=\"100%\" height=\"100%\" fill=\"white\"/>\n");
+		writer.write("<g stroke=\"#222\" stroke-opacity=\"0.4\" marker-end=\"url(#arrow)\">\n");
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				writer.write("<line x1=\"" + format(screenX(node, scale)) + "\" y1=\"" + format(screenY(node, scale)) + "\" x2=\""
+					+ format(screenX(sinks[edge], scale)) + "\" y2=\"" + format(screenY(sinks[edge], scale)) + "\" stroke-width=\""
+					+ format(0.5 + Math.log(weights[edge]) / Math.log(2.0) / 2) + "\"/>\n");
+			}
+		}
+		writer.write("</g>\n<g font-family=\"sans-serif\" font-size=\"10\" text-anchor=\"middle\">\n");
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			String name = escape(graph.getName(node));
+			writer.write("<circle cx=\"" + format(screenX(node, scale)) + "\" cy=\"" + format(screenY(node, scale)) + "\" r=\"" + format(radius)
+				+ "\" fill=\"" + colors[node] + "\"><title>" + name + "</title></circle>\n");
+			if(labels){
+				writer.write("<text x=\"" + format(screenX(node, scale)) + "\" y=\"" + format(screenY(node, scale) + radius + 10) + "\">" + name + "</text>\n");
+			}
+		}
+		writer.write("</g>\n</svg>\n");
+		writer.close();
+	}
+
+	/* Write the layout as a PNG image of the given size, drawn offscreen.
+	 * colors holds the fill color of each class, as for {@link #writeSvg}.
+	 */
+	public void writePng(String fileName, String[] colors, int width, int height) throws IOException{
+		double[] scale = scale(width, height);
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+		double radius = radius(width, height);
+
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D canvas = image.createGraphics();
+		canvas.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		canvas.setColor(Color.WHITE);
+		canvas.fillRect(0, 0, width, height);
+		canvas.setColor(new Color(34, 34, 34, 100));
+		canvas.setStroke(new BasicStroke(0.5f));
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				canvas.draw(new Line2D.Double(screenX(node, scale), screenY(node, scale), screenX(sinks[edge], scale), screenY(sinks[edge], scale)));
+			}
+		}
+		boolean labels = graph.getNodeCount() <= MAX_LABELS;
+		canvas.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 10));
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			double cx = screenX(node, scale);
+			double cy = screenY(node, scale);
+			canvas.setColor(Color.decode(colors[node]));
+			canvas.fill(new Ellipse2D.Double(cx - radius, cy - radius, 2 * radius, 2 * radius));
+			if(labels){
+				canvas.setColor(Color.BLACK);
+				String name = graph.getName(node);
+				canvas.drawString(name, (float) (cx - canvas.getFontMetrics().stringWidth(name) / 2.0), (float) (cy + radius + 10));
+			}
+		}
+		canvas.dispose();
+		ImageIO.write(image, "png", new File(fileName));
+	}
+
+	/* Helper function for {@link #writeSvg} and {@link #writePng}.
+	 * Scale and offsets that fit the layout, with a margin, into the image:
+	 * {scale, minimum x, minimum y, margin}.
+	 */
+	private double[] scale(int width, int height){
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			minX = Math.min(minX, x[node]);
+			minY = Math.min(minY, y[node]);
+			maxX = Math.max(maxX, x[node]);
+			maxY = Math.max(maxY, y[node]);
+		}
+		double margin = 20;
+		double span = Math.max(Math.max(maxX - minX, maxY - minY), 1e-9);
+		// Centre the shorter side
+		minX -= (span - (maxX - minX)) / 2;
+		minY -= (span - (maxY - minY)) / 2;
+		return new double[]{Math.min(width - 2 * margin, height - 2 * margin) / span, minX, minY, margin};
+	}
+
+	/* Helper function for {@link #writeSvg} and {@link #writePng}.
+	 * Radius of a class, smaller when there are more classes.
+	 */
+	private double radius(int width, int height){
+		return Math.max(1.0, Math.min(6.0, Math.min(width, height) / (4 * Math.sqrt(graph.getNodeCount() + 1))));
+	}
+
+	// Helper function for drawing. Horizontal position of a class in the image.
+	private double screenX(int node, double[] scale){
+		return scale[3] + (x[node] - scale[1]) * scale[0];
+	}
+
+	// Helper function for drawing. Vertical position of a class in the image.
+	private double screenY(int node, double[] scale){
+		return scale[3] + (y[node] - scale[2]) * scale[0];
+	}
+
+	/* Helper function for {@link #writeSvg}.
+	 * A number with two decimal places, to keep large files small.
+	 */
+	private String format(double value){
+		return Double.toString(Math.round(value * 100) / 100.0);
+	}
+
+	/* Helper function for {@link #writeSvg}.
+	 * Text with the characters XML reserves escaped.
+	 */
+	private String escape(String text){
+		return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+	}
+
+	public double[] getX(){
+		return x;
+	}
+
+	public double[] getY(){
+		return y;
+	}
+}
@@ -0,0 +1,279 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Differences in coupling between two saved analyses (the <project>.csv
+* files of two runs, e.g., of two releases): class couplings and method
+* couplings that were added, removed, or changed in number. Names from both
+* files are interned to numbers, numbered in name order, and each
+* (source, sink) pair is packed into a long. Each snapshot is then a sorted
+* array of pairs with counts, and the two are compared in a single merge
+* pass.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import org.graphstream.graph.*;
+import org.graphstream.graph.implementations.*;
+import org.graphstream.stream.file.FileSinkDOT;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class GraphDiff{
+	// Interned class, method, and member names, in name order
+	private final String[] names;
+	// Changes to class couplings and method couplings: {pair, old count, new count}
+	private final ArrayList<long[]> classChanges;
+	private final ArrayList<long[]> methodChanges;
+	// Class and method coupling pairs in each snapshot
+	private int oldClassPairs;
+	private int newClassPairs;
+	private int oldMethodPairs;
+	private int newMethodPairs;
+
+	// Compare two saved analyses
+	public GraphDiff(String oldFile, String newFile) throws IOException{
+		HashMap<String, Integer> ids = new HashMap<String, Integer>();
+		ArrayList<String> seen = new ArrayList<String>();
+		LongCountMap oldClasses = new LongCountMap();
+		LongCountMap oldMethods = new LongCountMap();
+		LongCountMap newClasses = new LongCountMap();
+		LongCountMap newMethods = new LongCountMap();
+		read(oldFile, ids, seen, oldClasses, oldMethods);
+		read(newFile, ids, seen, newClasses, newMethods);
+
+		// Number the names in name order, so merged pairs come out sorted by name
+		names = seen.toArray(new String[0]);
+		Arrays.sort(names);
+		int[] renumbered = new int[names.length];
+		for(int name = 0; name < names.length; name++){
+			renumbered[ids.get(names[name])] = name;
+		}
+
+		oldClassPairs = oldClasses.size();
+		newClassPairs = newClasses.size();
+		oldMethodPairs = oldMethods.size();
+		newMethodPairs = newMethods.size();
+		classChanges = merge(oldClasses, newClasses, renumbered);
+		methodChanges = merge(oldMethods, newMethods, renumbered);
+	}
+
+	/* Helper function for the constructor.
+	 * Reads a saved analysis (Class, Method, Coupling rows), counting each coupling
+	 * between classes (leaving out couplings of a class to itself) and each coupling
+	 * of a method to a member.
+	 */
+	private void read(String fileName, HashMap<String, Integer> ids, ArrayList<String> seen, LongCountMap classes,
+		LongCountMap methods) throws IOException{
+		BufferedReader reader = new BufferedReader(new FileReader(fileName), 1 << 16);
+		String current = "";
+		while((current = reader.readLine()) != null){
+			if(current.startsWith("#") || current.trim().equals("")){
+				continue;
+			}
+			// The file name may contain commas, the method and coupling do not
+			int last = current.lastIndexOf(',');
+			int middle = current.lastIndexOf(',', last - 1);
+			if(middle < 0){
+				continue;
+			}
+			String method = current.substring(middle + 1, last);
+			String coupling = current.substring(last + 1);
+			methods.add(pair(intern(method, ids, seen), intern(coupling, ids, seen)), 1);
+			String source = CouplingGraph.className(method);
+			String sink = CouplingGraph.className(coupling);
+			if(!source.equals(sink)){
+				classes.add(pair(intern(source, ids, seen), intern(sink, ids, seen)), 1);
+			}
+		}
+		reader.close();
+	}
+
+	/* Helper function for {@link #read}.
+	 * Number of a name, giving it the next number if it has not been seen.
+	 */
+	private int intern(String name, HashMap<String, Integer> ids, ArrayList<String> seen){
+		Integer id = ids.get(name);
+		if(id == null){
+			id = seen.size();
+			ids.put(name, id);
+			seen.add(name);
+		}
+		return id;
+	}
+
+	/* Helper function for the constructor.
+	 * Renumbers the pairs of both snapshots into name order and walks the two sorted
+	 * arrays together. A pair only in the old snapshot was removed, only in the new
+	 * one was added, and in both with different counts was changed.
+	 */
+	private ArrayList<long[]> merge(LongCountMap before, LongCountMap after, int[] renumbered){
+		LongCountMap oldCounts = renumber(before, renumbered);
+		LongCountMap newCounts = renumber(after, renumbered);
+		long[] oldPairs = oldCounts.sortedKeys();
+		long[] newPairs = newCounts.sortedKeys();
+
+		ArrayList<long[]> changes = new ArrayList<long[]>();
+		int oldPosition = 0;
+		int newPosition = 0;
+		while(oldPosition < oldPairs.length || newPosition < newPairs.length){
+			long oldPair = oldPosition < oldPairs.length ? oldPairs[oldPosition] : Long.MAX_VALUE;
+			long newPair = newPosition < newPairs.length ? newPairs[newPosition] : Long.MAX_VALUE;
+			if(oldPair < newPair){
+				changes.add(new long[]{oldPair, oldCounts.get(oldPair), 0});
+				oldPosition++;
+			}else if(newPair < oldPair){
+				changes.add(new long[]{newPair, 0, newCounts.get(newPair)});
+				newPosition++;
+			}else{
+				int oldCount = oldCounts.get(oldPair);
+				int newCount = newCounts.get(newPair);
+				if(oldCount != newCount){
+					changes.add(new long[]{oldPair, oldCount, newCount});
+				}
+				oldPosition++;
+				newPosition++;
+			}
+		}
+		return changes;
+	}
+
+	/* Helper function for {@link #merge}.
+	 * The pairs of a snapshot with their names renumbered into name order. Only the
+	 * renumbered pairs need sorting, so the pairs are read in table order.
+	 */
+	private LongCountMap renumber(LongCountMap counts, int[] renumbered){
+		LongCountMap result = new LongCountMap(counts.size());
+		for(long pair: counts.keys()){
+			result.add(pair(renumbered[(int) (pair >>> 32)], renumbered[(int) pair]), counts.get(pair));
+		}
+		return result;
+	}
+
+	// Helper function for packing a pair of interned names
+	private long pair(int source, int sink){
+		return ((long) source << 32) | sink;
+	}
+
+	/* Write the changes to a report: class couplings, then method couplings, each
+	 * marked added, removed, or changed, with the old and new number of couplings.
+	 */
+	public void write(String fileName) throws IOException{
+		BufferedWriter writer = new BufferedWriter(new FileWriter(fileName), 1 << 16);
+		writer.write("# Change, Class, Coupled Class, Old Weight, New Weight\n");
+		for(long[] change: classChanges){
+			writer.write(kind(change) + "," + source(change) + "," + sink(change) + "," + change[1] + "," + change[2] + "\n");
+		}
+		writer.write("# Change, Method, Coupling, Old Count, New Count\n");
+		for(long[] change: methodChanges){
+			writer.write(kind(change) + "," + source(change) + "," + sink(change) + "," + change[1] + "," + change[2] + "\n");
+		}
+		writer.close();
+	}
+
+	/* GraphStream graph of the changed class couplings and the classes they join.
+	 * Added couplings are green, removed ones red, and changed ones orange.
+	 */
+	public Graph toGraph(){
+		Graph graph = new MultiGraph("diff");
+		graph.addAttribute("ui.stylesheet", "graph { fill-color: white; }" +
+			"node { fill-color: black; text-background-mode: rounded-box; text-alignment: under; text-offset: 0, 5;}" +
+			"edge { shape: line; fill-color: #222; arrow-size: 5px, 4px;}" +
+			"edge.added { fill-color: green; }" +
+			"edge.removed { fill-color: red; }" +
+			"edge.changed { fill-color: orange; }"
+		);
+		graph.addAttribute("ui.quality");
+		graph.addAttribute("ui.antialias");
+		String[] colors = new String[]{"green", "red", "orange"};
+		for(long[] change: classChanges){
+			String source = source(change);
+			String sink = sink(change);
+			for(String clazz: new String[]{source, sink}){
+				if(graph.getNode(clazz) == null){
+					graph.addNode(clazz);
+					graph.getNode(clazz).addAttribute("ui.label", clazz);
+				}
+			}
+			String kind = kind(change);
+			String eName = source + "-" + sink;
+			graph.addEdge(eName, source, sink, true);
+			graph.getEdge(eName).addAttribute("ui.class", kind);
+			graph.getEdge(eName).addAttribute("ui.label", change[1] + " -> " + change[2]);
+			graph.getEdge(eName).addAttribute("color", colors[kind.equals("added") ? 0 : kind.equals("removed") ? 1 : 2]);
+		}
+		return graph;
+	}
+
+	// Write the graph of changed class couplings in Graphviz format
+	public void writeDot(String fileName) throws IOException{
+		new FileSinkDOT(true).writeAll(toGraph(), fileName);
+	}
+
+	/* Helper function for reports.
+	 * Whether a change is an addition, a removal, or a change in count.
+	 */
+	private String kind(long[] change){
+		if(change[1] == 0){
+			return "added";
+		}else if(change[2] == 0){
+			return "removed";
+		}
+		return "changed";
+	}
+
+	// Helper function for reports. The source name of a change.
+	private String source(long[] change){
+		return names[(int) (change[0] >>> 32)];
+	}
+
+	// Helper function for reports. The sink name of a change.
+	private String sink(long[] change){
+		return names[(int) change[0]];
+	}
+
+	// Number of class couplings added, removed, and changed in count
+	public int[] getClassChangeCounts(){
+		return changeCounts(classChanges);
+	}
+
+	// Number of method couplings added, removed, and changed in count
+	public int[] getMethodChangeCounts(){
+		return changeCounts(methodChanges);
+	}
+
+	/* Helper function for {@link #getClassChangeCounts} and {@link #getMethodChangeCounts}.
+	 * Counts the changes of each kind.
+	 */
+	private int[] changeCounts(ArrayList<long[]> changes){
+		int[] counts = new int[3];
+		for(long[] change: changes){
+			String kind = kind(change);
+			counts[kind.equals("added") ? 0 : kind.equals("removed") ? 1 : 2]++;
+		}
+		return counts;
+	}
+
+	public int getOldClassPairs(){
+		return oldClassPairs;
+	}
+
+	public int getNewClassPairs(){
+		return newClassPairs;
+	}
+
+	public int getOldMethodPairs(){
+		return oldMethodPairs;
+	}
+
+	public int getNewMethodPairs(){
+		return newMethodPairs;
+	}
+}
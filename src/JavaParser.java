@@ -0,0 +1,8914 @@
+// Generated from src/Java.g4 by ANTLR 4.5.3
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class JavaParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		ABSTRACT=1, ASSERT=2, BOOLEAN=3, BREAK=4, BYTE=5, CASE=6, CATCH=7, CHAR=8, 
+		CLASS=9, CONST=10, CONTINUE=11, DEFAULT=12, DO=13, DOUBLE=14, ELSE=15, 
+		ENUM=16, EXTENDS=17, FINAL=18, FINALLY=19, FLOAT=20, FOR=21, IF=22, GOTO=23, 
+		IMPLEMENTS=24, IMPORT=25, INSTANCEOF=26, INT=27, INTERFACE=28, LONG=29, 
+		NATIVE=30, NEW=31, PACKAGE=32, PRIVATE=33, PROTECTED=34, PUBLIC=35, RETURN=36, 
+		SHORT=37, STATIC=38, STRICTFP=39, SUPER=40, SWITCH=41, SYNCHRONIZED=42, 
+		THIS=43, THROW=44, THROWS=45, TRANSIENT=46, TRY=47, VOID=48, VOLATILE=49, 
+		WHILE=50, IntegerLiteral=51, FloatingPointLiteral=52, BooleanLiteral=53, 
+		CharacterLiteral=54, StringLiteral=55, NullLiteral=56, LPAREN=57, RPAREN=58, 
+		LBRACE=59, RBRACE=60, LBRACK=61, RBRACK=62, SEMI=63, COMMA=64, DOT=65, 
+		ASSIGN=66, GT=67, LT=68, BANG=69, TILDE=70, QUESTION=71, COLON=72, EQUAL=73, 
+		LE=74, GE=75, NOTEQUAL=76, AND=77, OR=78, INC=79, DEC=80, ADD=81, SUB=82, 
+		MUL=83, DIV=84, BITAND=85, BITOR=86, CARET=87, MOD=88, ADD_ASSIGN=89, 
+		SUB_ASSIGN=90, MUL_ASSIGN=91, DIV_ASSIGN=92, AND_ASSIGN=93, OR_ASSIGN=94, 
+		XOR_ASSIGN=95, MOD_ASSIGN=96, LSHIFT_ASSIGN=97, RSHIFT_ASSIGN=98, URSHIFT_ASSIGN=99, 
+		Identifier=100, AT=101, ELLIPSIS=102, WS=103, COMMENT=104, LINE_COMMENT=105;
+	public static final int
+		RULE_compilationUnit = 0, RULE_packageDeclaration = 1, RULE_importDeclaration = 2, 
+		RULE_typeDeclaration = 3, RULE_modifier = 4, RULE_classOrInterfaceModifier = 5, 
+		RULE_variableModifier = 6, RULE_classDeclaration = 7, RULE_className = 8, 
+		RULE_typeParameters = 9, RULE_typeParameter = 10, RULE_typeBound = 11, 
+		RULE_enumDeclaration = 12, RULE_enumConstants = 13, RULE_enumConstant = 14, 
+		RULE_enumBodyDeclarations = 15, RULE_interfaceDeclaration = 16, RULE_typeList = 17, 
+		RULE_classBody = 18, RULE_interfaceBody = 19, RULE_classBodyDeclaration = 20, 
+		RULE_memberDeclaration = 21, RULE_methodDeclaration = 22, RULE_myMethodName = 23, 
+		RULE_genericMethodDeclaration = 24, RULE_constructorDeclaration = 25, 
+		RULE_genericConstructorDeclaration = 26, RULE_fieldDeclaration = 27, RULE_interfaceBodyDeclaration = 28, 
+		RULE_interfaceMemberDeclaration = 29, RULE_constDeclaration = 30, RULE_constantDeclarator = 31, 
+		RULE_interfaceMethodDeclaration = 32, RULE_genericInterfaceMethodDeclaration = 33, 
+		RULE_variableDeclarators = 34, RULE_variableDeclarator = 35, RULE_variableDeclaratorId = 36, 
+		RULE_variableInitializer = 37, RULE_arrayInitializer = 38, RULE_enumConstantName = 39, 
+		RULE_typeType = 40, RULE_classOrInterfaceType = 41, RULE_primitiveType = 42, 
+		RULE_typeArguments = 43, RULE_typeArgument = 44, RULE_qualifiedNameList = 45, 
+		RULE_formalParameters = 46, RULE_formalParameterList = 47, RULE_formalParameter = 48, 
+		RULE_lastFormalParameter = 49, RULE_methodBody = 50, RULE_constructorBody = 51, 
+		RULE_qualifiedName = 52, RULE_literal = 53, RULE_annotation = 54, RULE_annotationName = 55, 
+		RULE_elementValuePairs = 56, RULE_elementValuePair = 57, RULE_elementValue = 58, 
+		RULE_elementValueArrayInitializer = 59, RULE_annotationTypeDeclaration = 60, 
+		RULE_annotationTypeBody = 61, RULE_annotationTypeElementDeclaration = 62, 
+		RULE_annotationTypeElementRest = 63, RULE_annotationMethodOrConstantRest = 64, 
+		RULE_annotationMethodRest = 65, RULE_annotationConstantRest = 66, RULE_defaultValue = 67, 
+		RULE_block = 68, RULE_blockStatement = 69, RULE_localVariableDeclarationStatement = 70, 
+		RULE_localVariableDeclaration = 71, RULE_statement = 72, RULE_catchClause = 73, 
+		RULE_catchType = 74, RULE_finallyBlock = 75, RULE_resourceSpecification = 76, 
+		RULE_resources = 77, RULE_resource = 78, RULE_switchBlockStatementGroup = 79, 
+		RULE_switchLabel = 80, RULE_forControl = 81, RULE_forInit = 82, RULE_enhancedForControl = 83, 
+		RULE_forUpdate = 84, RULE_parExpression = 85, RULE_expressionList = 86, 
+		RULE_statementExpression = 87, RULE_constantExpression = 88, RULE_expression = 89, 
+		RULE_primary = 90, RULE_creator = 91, RULE_createdName = 92, RULE_innerCreator = 93, 
+		RULE_arrayCreatorRest = 94, RULE_classCreatorRest = 95, RULE_explicitGenericInvocation = 96, 
+		RULE_nonWildcardTypeArguments = 97, RULE_typeArgumentsOrDiamond = 98, 
+		RULE_nonWildcardTypeArgumentsOrDiamond = 99, RULE_superSuffix = 100, RULE_explicitGenericInvocationSuffix = 101, 
+		RULE_arguments = 102;
+	public static final String[] ruleNames = {
+		"compilationUnit", "packageDeclaration", "importDeclaration", "typeDeclaration", 
+		"modifier", "classOrInterfaceModifier", "variableModifier", "classDeclaration", 
+		"className", "typeParameters", "typeParameter", "typeBound", "enumDeclaration", 
+		"enumConstants", "enumConstant", "enumBodyDeclarations", "interfaceDeclaration", 
+		"typeList", "classBody", "interfaceBody", "classBodyDeclaration", "memberDeclaration", 
+		"methodDeclaration", "myMethodName", "genericMethodDeclaration", "constructorDeclaration", 
+		"genericConstructorDeclaration", "fieldDeclaration", "interfaceBodyDeclaration", 
+		"interfaceMemberDeclaration", "constDeclaration", "constantDeclarator", 
+		"interfaceMethodDeclaration", "genericInterfaceMethodDeclaration", "variableDeclarators", 
+		"variableDeclarator", "variableDeclaratorId", "variableInitializer", "arrayInitializer", 
+		"enumConstantName", "typeType", "classOrInterfaceType", "primitiveType", 
+		"typeArguments", "typeArgument", "qualifiedNameList", "formalParameters", 
+		"formalParameterList", "formalParameter", "lastFormalParameter", "methodBody", 
+		"constructorBody", "qualifiedName", "literal", "annotation", "annotationName", 
+		"elementValuePairs", "elementValuePair", "elementValue", "elementValueArrayInitializer", 
+		"annotationTypeDeclaration", "annotationTypeBody", "annotationTypeElementDeclaration", 
+		"annotationTypeElementRest", "annotationMethodOrConstantRest", "annotationMethodRest", 
+		"annotationConstantRest", "defaultValue", "block", "blockStatement", "localVariableDeclarationStatement", 
+		"localVariableDeclaration", "statement", "catchClause", "catchType", "finallyBlock", 
+		"resourceSpecification", "resources", "resource", "switchBlockStatementGroup", 
+		"switchLabel", "forControl", "forInit", "enhancedForControl", "forUpdate", 
+		"parExpression", "expressionList", "statementExpression", "constantExpression", 
+		"expression", "primary", "creator", "createdName", "innerCreator", "arrayCreatorRest", 
+		"classCreatorRest", "explicitGenericInvocation", "nonWildcardTypeArguments", 
+		"typeArgumentsOrDiamond", "nonWildcardTypeArgumentsOrDiamond", "superSuffix", 
+		"explicitGenericInvocationSuffix", "arguments"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'abstract'", "'assert'", "'boolean'", "'break'", "'byte'", "'case'", 
+		"'catch'", "'char'", "'class'", "'const'", "'continue'", "'default'", 
+		"'do'", "'double'", "'else'", "'enum'", "'extends'", "'final'", "'finally'", 
+		"'float'", "'for'", "'if'", "'goto'", "'implements'", "'import'", "'instanceof'", 
+		"'int'", "'interface'", "'long'", "'native'", "'new'", "'package'", "'private'", 
+		"'protected'", "'public'", "'return'", "'short'", "'static'", "'strictfp'", 
+		"'super'", "'switch'", "'synchronized'", "'this'", "'throw'", "'throws'", 
+		"'transient'", "'try'", "'void'", "'volatile'", "'while'", null, null, 
+		null, null, null, "'null'", "'('", "')'", "'{'", "'}'", "'['", "']'", 
+		"';'", "','", "'.'", "'='", "'>'", "'<'", "'!'", "'~'", "'?'", "':'", 
+		"'=='", "'<='", "'>='", "'!='", "'&&'", "'||'", "'++'", "'--'", "'+'", 
+		"'-'", "'*'", "'/'", "'&'", "'|'", "'^'", "'%'", "'+='", "'-='", "'*='", 
+		"'/='", "'&='", "'|='", "'^='", "'%='", "'<<='", "'>>='", "'>>>='", null, 
+		"'@'", "'...'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "ABSTRACT", "ASSERT", "BOOLEAN", "BREAK", "BYTE", "CASE", "CATCH", 
+		"CHAR", "CLASS", "CONST", "CONTINUE", "DEFAULT", "DO", "DOUBLE", "ELSE", 
+		"ENUM", "EXTENDS", "FINAL", "FINALLY", "FLOAT", "FOR", "IF", "GOTO", "IMPLEMENTS", 
+		"IMPORT", "INSTANCEOF", "INT", "INTERFACE", "LONG", "NATIVE", "NEW", "PACKAGE", 
+		"PRIVATE", "PROTECTED", "PUBLIC", "RETURN", "SHORT", "STATIC", "STRICTFP", 
+		"SUPER", "SWITCH", "SYNCHRONIZED", "THIS", "THROW", "THROWS", "TRANSIENT", 
+		"TRY", "VOID", "VOLATILE", "WHILE", "IntegerLiteral", "FloatingPointLiteral", 
+		"BooleanLiteral", "CharacterLiteral", "StringLiteral", "NullLiteral", 
+		"LPAREN", "RPAREN", "LBRACE", "RBRACE", "LBRACK", "RBRACK", "SEMI", "COMMA", 
+		"DOT", "ASSIGN", "GT", "LT", "BANG", "TILDE", "QUESTION", "COLON", "EQUAL", 
+		"LE", "GE", "NOTEQUAL", "AND", "OR", "INC", "DEC", "ADD", "SUB", "MUL", 
+		"DIV", "BITAND", "BITOR", "CARET", "MOD", "ADD_ASSIGN", "SUB_ASSIGN", 
+		"MUL_ASSIGN", "DIV_ASSIGN", "AND_ASSIGN", "OR_ASSIGN", "XOR_ASSIGN", "MOD_ASSIGN", 
+		"LSHIFT_ASSIGN", "RSHIFT_ASSIGN", "URSHIFT_ASSIGN", "Identifier", "AT", 
+		"ELLIPSIS", "WS", "COMMENT", "LINE_COMMENT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Java.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public JavaParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class CompilationUnitContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(JavaParser.EOF, 0); }
+		public PackageDeclarationContext packageDeclaration() {
+			return getRuleContext(PackageDeclarationContext.class,0);
+		}
+		public List<ImportDeclarationContext> importDeclaration() {
+			return getRuleContexts(ImportDeclarationContext.class);
+		}
+		public ImportDeclarationContext importDeclaration(int i) {
+			return getRuleContext(ImportDeclarationContext.class,i);
+		}
+		public List<TypeDeclarationContext> typeDeclaration() {
+			return getRuleContexts(TypeDeclarationContext.class);
+		}
+		public TypeDeclarationContext typeDeclaration(int i) {
+			return getRuleContext(TypeDeclarationContext.class,i);
+		}
+		public CompilationUnitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compilationUnit; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterCompilationUnit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitCompilationUnit(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitCompilationUnit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CompilationUnitContext compilationUnit() throws RecognitionException {
+		CompilationUnitContext _localctx = new CompilationUnitContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_compilationUnit);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(207);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
+			case 1:
+				{
+				setState(206);
+				packageDeclaration();
+				}
+				break;
+			}
+			setState(212);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==IMPORT) {
+				{
+				{
+				setState(209);
+				importDeclaration();
+				}
+				}
+				setState(214);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(218);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << CLASS) | (1L << ENUM) | (1L << FINAL) | (1L << INTERFACE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP) | (1L << SEMI))) != 0) || _la==AT) {
+				{
+				{
+				setState(215);
+				typeDeclaration();
+				}
+				}
+				setState(220);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(221);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PackageDeclarationContext extends ParserRuleContext {
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public PackageDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_packageDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterPackageDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitPackageDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitPackageDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PackageDeclarationContext packageDeclaration() throws RecognitionException {
+		PackageDeclarationContext _localctx = new PackageDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_packageDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(226);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(223);
+				annotation();
+				}
+				}
+				setState(228);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(229);
+			match(PACKAGE);
+			setState(230);
+			qualifiedName();
+			setState(231);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ImportDeclarationContext extends ParserRuleContext {
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public ImportDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_importDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterImportDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitImportDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitImportDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ImportDeclarationContext importDeclaration() throws RecognitionException {
+		ImportDeclarationContext _localctx = new ImportDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_importDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(233);
+			match(IMPORT);
+			setState(235);
+			_la = _input.LA(1);
+			if (_la==STATIC) {
+				{
+				setState(234);
+				match(STATIC);
+				}
+			}
+
+			setState(237);
+			qualifiedName();
+			setState(240);
+			_la = _input.LA(1);
+			if (_la==DOT) {
+				{
+				setState(238);
+				match(DOT);
+				setState(239);
+				match(MUL);
+				}
+			}
+
+			setState(242);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeDeclarationContext extends ParserRuleContext {
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public List<ClassOrInterfaceModifierContext> classOrInterfaceModifier() {
+			return getRuleContexts(ClassOrInterfaceModifierContext.class);
+		}
+		public ClassOrInterfaceModifierContext classOrInterfaceModifier(int i) {
+			return getRuleContext(ClassOrInterfaceModifierContext.class,i);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
+		public TypeDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeDeclarationContext typeDeclaration() throws RecognitionException {
+		TypeDeclarationContext _localctx = new TypeDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_typeDeclaration);
+		int _la;
+		try {
+			int _alt;
+			setState(273);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(247);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
+					{
+					{
+					setState(244);
+					classOrInterfaceModifier();
+					}
+					}
+					setState(249);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(250);
+				classDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(254);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
+					{
+					{
+					setState(251);
+					classOrInterfaceModifier();
+					}
+					}
+					setState(256);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(257);
+				enumDeclaration();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(261);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0) || _la==AT) {
+					{
+					{
+					setState(258);
+					classOrInterfaceModifier();
+					}
+					}
+					setState(263);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(264);
+				interfaceDeclaration();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(268);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(265);
+						classOrInterfaceModifier();
+						}
+						} 
+					}
+					setState(270);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+				}
+				setState(271);
+				annotationTypeDeclaration();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(272);
+				match(SEMI);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ModifierContext extends ParserRuleContext {
+		public ClassOrInterfaceModifierContext classOrInterfaceModifier() {
+			return getRuleContext(ClassOrInterfaceModifierContext.class,0);
+		}
+		public ModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_modifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ModifierContext modifier() throws RecognitionException {
+		ModifierContext _localctx = new ModifierContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_modifier);
+		int _la;
+		try {
+			setState(277);
+			switch (_input.LA(1)) {
+			case ABSTRACT:
+			case FINAL:
+			case PRIVATE:
+			case PROTECTED:
+			case PUBLIC:
+			case STATIC:
+			case STRICTFP:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(275);
+				classOrInterfaceModifier();
+				}
+				break;
+			case NATIVE:
+			case SYNCHRONIZED:
+			case TRANSIENT:
+			case VOLATILE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(276);
+				_la = _input.LA(1);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NATIVE) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOLATILE))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				} else {
+					consume();
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassOrInterfaceModifierContext extends ParserRuleContext {
+		public AnnotationContext annotation() {
+			return getRuleContext(AnnotationContext.class,0);
+		}
+		public ClassOrInterfaceModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classOrInterfaceModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterClassOrInterfaceModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitClassOrInterfaceModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitClassOrInterfaceModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassOrInterfaceModifierContext classOrInterfaceModifier() throws RecognitionException {
+		ClassOrInterfaceModifierContext _localctx = new ClassOrInterfaceModifierContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_classOrInterfaceModifier);
+		int _la;
+		try {
+			setState(281);
+			switch (_input.LA(1)) {
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(279);
+				annotation();
+				}
+				break;
+			case ABSTRACT:
+			case FINAL:
+			case PRIVATE:
+			case PROTECTED:
+			case PUBLIC:
+			case STATIC:
+			case STRICTFP:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(280);
+				_la = _input.LA(1);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << FINAL) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << STATIC) | (1L << STRICTFP))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				} else {
+					consume();
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableModifierContext extends ParserRuleContext {
+		public AnnotationContext annotation() {
+			return getRuleContext(AnnotationContext.class,0);
+		}
+		public VariableModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterVariableModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitVariableModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitVariableModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableModifierContext variableModifier() throws RecognitionException {
+		VariableModifierContext _localctx = new VariableModifierContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_variableModifier);
+		try {
+			setState(285);
+			switch (_input.LA(1)) {
+			case FINAL:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(283);
+				match(FINAL);
+				}
+				break;
+			case AT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(284);
+				annotation();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassDeclarationContext extends ParserRuleContext {
+		public ClassNameContext className() {
+			return getRuleContext(ClassNameContext.class,0);
+		}
+		public ClassBodyContext classBody() {
+			return getRuleContext(ClassBodyContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public ClassDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterClassDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitClassDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitClassDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassDeclarationContext classDeclaration() throws RecognitionException {
+		ClassDeclarationContext _localctx = new ClassDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_classDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(287);
+			match(CLASS);
+			setState(288);
+			className();
+			setState(290);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(289);
+				typeParameters();
+				}
+			}
+
+			setState(294);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(292);
+				match(EXTENDS);
+				setState(293);
+				typeType();
+				}
+			}
+
+			setState(298);
+			_la = _input.LA(1);
+			if (_la==IMPLEMENTS) {
+				{
+				setState(296);
+				match(IMPLEMENTS);
+				setState(297);
+				typeList();
+				}
+			}
+
+			setState(300);
+			classBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassNameContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public ClassNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_className; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterClassName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitClassName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitClassName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassNameContext className() throws RecognitionException {
+		ClassNameContext _localctx = new ClassNameContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_className);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(302);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeParametersContext extends ParserRuleContext {
+		public List<TypeParameterContext> typeParameter() {
+			return getRuleContexts(TypeParameterContext.class);
+		}
+		public TypeParameterContext typeParameter(int i) {
+			return getRuleContext(TypeParameterContext.class,i);
+		}
+		public TypeParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeParameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeParameters(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeParametersContext typeParameters() throws RecognitionException {
+		TypeParametersContext _localctx = new TypeParametersContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_typeParameters);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(304);
+			match(LT);
+			setState(305);
+			typeParameter();
+			setState(310);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(306);
+				match(COMMA);
+				setState(307);
+				typeParameter();
+				}
+				}
+				setState(312);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(313);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeParameterContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public TypeBoundContext typeBound() {
+			return getRuleContext(TypeBoundContext.class,0);
+		}
+		public TypeParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeParameter(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeParameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeParameterContext typeParameter() throws RecognitionException {
+		TypeParameterContext _localctx = new TypeParameterContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_typeParameter);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(315);
+			match(Identifier);
+			setState(318);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(316);
+				match(EXTENDS);
+				setState(317);
+				typeBound();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeBoundContext extends ParserRuleContext {
+		public List<TypeTypeContext> typeType() {
+			return getRuleContexts(TypeTypeContext.class);
+		}
+		public TypeTypeContext typeType(int i) {
+			return getRuleContext(TypeTypeContext.class,i);
+		}
+		public TypeBoundContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeBound; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeBound(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeBound(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeBound(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeBoundContext typeBound() throws RecognitionException {
+		TypeBoundContext _localctx = new TypeBoundContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_typeBound);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(320);
+			typeType();
+			setState(325);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==BITAND) {
+				{
+				{
+				setState(321);
+				match(BITAND);
+				setState(322);
+				typeType();
+				}
+				}
+				setState(327);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumDeclarationContext extends ParserRuleContext {
+		public TerminalNode ENUM() { return getToken(JavaParser.ENUM, 0); }
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public EnumConstantsContext enumConstants() {
+			return getRuleContext(EnumConstantsContext.class,0);
+		}
+		public EnumBodyDeclarationsContext enumBodyDeclarations() {
+			return getRuleContext(EnumBodyDeclarationsContext.class,0);
+		}
+		public EnumDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterEnumDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitEnumDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitEnumDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumDeclarationContext enumDeclaration() throws RecognitionException {
+		EnumDeclarationContext _localctx = new EnumDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_enumDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(328);
+			match(ENUM);
+			setState(329);
+			match(Identifier);
+			setState(332);
+			_la = _input.LA(1);
+			if (_la==IMPLEMENTS) {
+				{
+				setState(330);
+				match(IMPLEMENTS);
+				setState(331);
+				typeList();
+				}
+			}
+
+			setState(334);
+			match(LBRACE);
+			setState(336);
+			_la = _input.LA(1);
+			if (_la==Identifier || _la==AT) {
+				{
+				setState(335);
+				enumConstants();
+				}
+			}
+
+			setState(339);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(338);
+				match(COMMA);
+				}
+			}
+
+			setState(342);
+			_la = _input.LA(1);
+			if (_la==SEMI) {
+				{
+				setState(341);
+				enumBodyDeclarations();
+				}
+			}
+
+			setState(344);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumConstantsContext extends ParserRuleContext {
+		public List<EnumConstantContext> enumConstant() {
+			return getRuleContexts(EnumConstantContext.class);
+		}
+		public EnumConstantContext enumConstant(int i) {
+			return getRuleContext(EnumConstantContext.class,i);
+		}
+		public EnumConstantsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumConstants; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterEnumConstants(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitEnumConstants(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitEnumConstants(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumConstantsContext enumConstants() throws RecognitionException {
+		EnumConstantsContext _localctx = new EnumConstantsContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_enumConstants);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(346);
+			enumConstant();
+			setState(351);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(347);
+					match(COMMA);
+					setState(348);
+					enumConstant();
+					}
+					} 
+				}
+				setState(353);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumConstantContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public ClassBodyContext classBody() {
+			return getRuleContext(ClassBodyContext.class,0);
+		}
+		public EnumConstantContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumConstant; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterEnumConstant(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitEnumConstant(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitEnumConstant(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumConstantContext enumConstant() throws RecognitionException {
+		EnumConstantContext _localctx = new EnumConstantContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_enumConstant);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(357);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(354);
+				annotation();
+				}
+				}
+				setState(359);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(360);
+			match(Identifier);
+			setState(362);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(361);
+				arguments();
+				}
+			}
+
+			setState(365);
+			_la = _input.LA(1);
+			if (_la==LBRACE) {
+				{
+				setState(364);
+				classBody();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumBodyDeclarationsContext extends ParserRuleContext {
+		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
+			return getRuleContexts(ClassBodyDeclarationContext.class);
+		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
+		public EnumBodyDeclarationsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumBodyDeclarations; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterEnumBodyDeclarations(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitEnumBodyDeclarations(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitEnumBodyDeclarations(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumBodyDeclarationsContext enumBodyDeclarations() throws RecognitionException {
+		EnumBodyDeclarationsContext _localctx = new EnumBodyDeclarationsContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_enumBodyDeclarations);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(367);
+			match(SEMI);
+			setState(371);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(368);
+				classBodyDeclaration();
+				}
+				}
+				setState(373);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public InterfaceBodyContext interfaceBody() {
+			return getRuleContext(InterfaceBodyContext.class,0);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public InterfaceDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterInterfaceDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitInterfaceDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitInterfaceDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceDeclarationContext interfaceDeclaration() throws RecognitionException {
+		InterfaceDeclarationContext _localctx = new InterfaceDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_interfaceDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(374);
+			match(INTERFACE);
+			setState(375);
+			match(Identifier);
+			setState(377);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(376);
+				typeParameters();
+				}
+			}
+
+			setState(381);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(379);
+				match(EXTENDS);
+				setState(380);
+				typeList();
+				}
+			}
+
+			setState(383);
+			interfaceBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeListContext extends ParserRuleContext {
+		public List<TypeTypeContext> typeType() {
+			return getRuleContexts(TypeTypeContext.class);
+		}
+		public TypeTypeContext typeType(int i) {
+			return getRuleContext(TypeTypeContext.class,i);
+		}
+		public TypeListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeListContext typeList() throws RecognitionException {
+		TypeListContext _localctx = new TypeListContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_typeList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(385);
+			typeType();
+			setState(390);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(386);
+				match(COMMA);
+				setState(387);
+				typeType();
+				}
+				}
+				setState(392);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassBodyContext extends ParserRuleContext {
+		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
+			return getRuleContexts(ClassBodyDeclarationContext.class);
+		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
+		public ClassBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterClassBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitClassBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitClassBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassBodyContext classBody() throws RecognitionException {
+		ClassBodyContext _localctx = new ClassBodyContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_classBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(393);
+			match(LBRACE);
+			setState(397);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(394);
+				classBodyDeclaration();
+				}
+				}
+				setState(399);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(400);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceBodyContext extends ParserRuleContext {
+		public List<InterfaceBodyDeclarationContext> interfaceBodyDeclaration() {
+			return getRuleContexts(InterfaceBodyDeclarationContext.class);
+		}
+		public InterfaceBodyDeclarationContext interfaceBodyDeclaration(int i) {
+			return getRuleContext(InterfaceBodyDeclarationContext.class,i);
+		}
+		public InterfaceBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterInterfaceBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitInterfaceBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitInterfaceBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceBodyContext interfaceBody() throws RecognitionException {
+		InterfaceBodyContext _localctx = new InterfaceBodyContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_interfaceBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(402);
+			match(LBRACE);
+			setState(406);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOID) | (1L << VOLATILE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(403);
+				interfaceBodyDeclaration();
+				}
+				}
+				setState(408);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(409);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassBodyDeclarationContext extends ParserRuleContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public MemberDeclarationContext memberDeclaration() {
+			return getRuleContext(MemberDeclarationContext.class,0);
+		}
+		public List<ModifierContext> modifier() {
+			return getRuleContexts(ModifierContext.class);
+		}
+		public ModifierContext modifier(int i) {
+			return getRuleContext(ModifierContext.class,i);
+		}
+		public ClassBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classBodyDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterClassBodyDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitClassBodyDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitClassBodyDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassBodyDeclarationContext classBodyDeclaration() throws RecognitionException {
+		ClassBodyDeclarationContext _localctx = new ClassBodyDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_classBodyDeclaration);
+		int _la;
+		try {
+			int _alt;
+			setState(423);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(411);
+				match(SEMI);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(413);
+				_la = _input.LA(1);
+				if (_la==STATIC) {
+					{
+					setState(412);
+					match(STATIC);
+					}
+				}
+
+				setState(415);
+				block();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(419);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(416);
+						modifier();
+						}
+						} 
+					}
+					setState(421);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
+				}
+				setState(422);
+				memberDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MemberDeclarationContext extends ParserRuleContext {
+		public MethodDeclarationContext methodDeclaration() {
+			return getRuleContext(MethodDeclarationContext.class,0);
+		}
+		public GenericMethodDeclarationContext genericMethodDeclaration() {
+			return getRuleContext(GenericMethodDeclarationContext.class,0);
+		}
+		public FieldDeclarationContext fieldDeclaration() {
+			return getRuleContext(FieldDeclarationContext.class,0);
+		}
+		public ConstructorDeclarationContext constructorDeclaration() {
+			return getRuleContext(ConstructorDeclarationContext.class,0);
+		}
+		public GenericConstructorDeclarationContext genericConstructorDeclaration() {
+			return getRuleContext(GenericConstructorDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public MemberDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_memberDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterMemberDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitMemberDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitMemberDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MemberDeclarationContext memberDeclaration() throws RecognitionException {
+		MemberDeclarationContext _localctx = new MemberDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_memberDeclaration);
+		try {
+			setState(434);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(425);
+				methodDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(426);
+				genericMethodDeclaration();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(427);
+				fieldDeclaration();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(428);
+				constructorDeclaration();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(429);
+				genericConstructorDeclaration();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(430);
+				interfaceDeclaration();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(431);
+				annotationTypeDeclaration();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(432);
+				classDeclaration();
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(433);
+				enumDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodDeclarationContext extends ParserRuleContext {
+		public MyMethodNameContext myMethodName() {
+			return getRuleContext(MyMethodNameContext.class,0);
+		}
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public MethodBodyContext methodBody() {
+			return getRuleContext(MethodBodyContext.class,0);
+		}
+		public QualifiedNameListContext qualifiedNameList() {
+			return getRuleContext(QualifiedNameListContext.class,0);
+		}
+		public MethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitMethodDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitMethodDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodDeclarationContext methodDeclaration() throws RecognitionException {
+		MethodDeclarationContext _localctx = new MethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_methodDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(438);
+			switch (_input.LA(1)) {
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+			case Identifier:
+				{
+				setState(436);
+				typeType();
+				}
+				break;
+			case VOID:
+				{
+				setState(437);
+				match(VOID);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(440);
+			myMethodName();
+			setState(441);
+			formalParameters();
+			setState(446);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==LBRACK) {
+				{
+				{
+				setState(442);
+				match(LBRACK);
+				setState(443);
+				match(RBRACK);
+				}
+				}
+				setState(448);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(451);
+			_la = _input.LA(1);
+			if (_la==THROWS) {
+				{
+				setState(449);
+				match(THROWS);
+				setState(450);
+				qualifiedNameList();
+				}
+			}
+
+			setState(455);
+			switch (_input.LA(1)) {
+			case LBRACE:
+				{
+				setState(453);
+				methodBody();
+				}
+				break;
+			case SEMI:
+				{
+				setState(454);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MyMethodNameContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public MyMethodNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_myMethodName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterMyMethodName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitMyMethodName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitMyMethodName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MyMethodNameContext myMethodName() throws RecognitionException {
+		MyMethodNameContext _localctx = new MyMethodNameContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_myMethodName);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(457);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GenericMethodDeclarationContext extends ParserRuleContext {
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public MethodDeclarationContext methodDeclaration() {
+			return getRuleContext(MethodDeclarationContext.class,0);
+		}
+		public GenericMethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_genericMethodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterGenericMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitGenericMethodDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitGenericMethodDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GenericMethodDeclarationContext genericMethodDeclaration() throws RecognitionException {
+		GenericMethodDeclarationContext _localctx = new GenericMethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_genericMethodDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(459);
+			typeParameters();
+			setState(460);
+			methodDeclaration();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstructorDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
+		public ConstructorBodyContext constructorBody() {
+			return getRuleContext(ConstructorBodyContext.class,0);
+		}
+		public QualifiedNameListContext qualifiedNameList() {
+			return getRuleContext(QualifiedNameListContext.class,0);
+		}
+		public ConstructorDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constructorDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterConstructorDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitConstructorDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitConstructorDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstructorDeclarationContext constructorDeclaration() throws RecognitionException {
+		ConstructorDeclarationContext _localctx = new ConstructorDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_constructorDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(462);
+			match(Identifier);
+			setState(463);
+			formalParameters();
+			setState(466);
+			_la = _input.LA(1);
+			if (_la==THROWS) {
+				{
+				setState(464);
+				match(THROWS);
+				setState(465);
+				qualifiedNameList();
+				}
+			}
+
+			setState(468);
+			constructorBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GenericConstructorDeclarationContext extends ParserRuleContext {
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public ConstructorDeclarationContext constructorDeclaration() {
+			return getRuleContext(ConstructorDeclarationContext.class,0);
+		}
+		public GenericConstructorDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_genericConstructorDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterGenericConstructorDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitGenericConstructorDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitGenericConstructorDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GenericConstructorDeclarationContext genericConstructorDeclaration() throws RecognitionException {
+		GenericConstructorDeclarationContext _localctx = new GenericConstructorDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_genericConstructorDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(470);
+			typeParameters();
+			setState(471);
+			constructorDeclaration();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldDeclarationContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorsContext variableDeclarators() {
+			return getRuleContext(VariableDeclaratorsContext.class,0);
+		}
+		public FieldDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterFieldDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitFieldDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitFieldDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldDeclarationContext fieldDeclaration() throws RecognitionException {
+		FieldDeclarationContext _localctx = new FieldDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_fieldDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(473);
+			typeType();
+			setState(474);
+			variableDeclarators();
+			setState(475);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceBodyDeclarationContext extends ParserRuleContext {
+		public InterfaceMemberDeclarationContext interfaceMemberDeclaration() {
+			return getRuleContext(InterfaceMemberDeclarationContext.class,0);
+		}
+		public List<ModifierContext> modifier() {
+			return getRuleContexts(ModifierContext.class);
+		}
+		public ModifierContext modifier(int i) {
+			return getRuleContext(ModifierContext.class,i);
+		}
+		public InterfaceBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceBodyDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterInterfaceBodyDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitInterfaceBodyDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitInterfaceBodyDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceBodyDeclarationContext interfaceBodyDeclaration() throws RecognitionException {
+		InterfaceBodyDeclarationContext _localctx = new InterfaceBodyDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_interfaceBodyDeclaration);
+		try {
+			int _alt;
+			setState(485);
+			switch (_input.LA(1)) {
+			case ABSTRACT:
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case CLASS:
+			case DOUBLE:
+			case ENUM:
+			case FINAL:
+			case FLOAT:
+			case INT:
+			case INTERFACE:
+			case LONG:
+			case NATIVE:
+			case PRIVATE:
+			case PROTECTED:
+			case PUBLIC:
+			case SHORT:
+			case STATIC:
+			case STRICTFP:
+			case SYNCHRONIZED:
+			case TRANSIENT:
+			case VOID:
+			case VOLATILE:
+			case LT:
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(480);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(477);
+						modifier();
+						}
+						} 
+					}
+					setState(482);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+				}
+				setState(483);
+				interfaceMemberDeclaration();
+				}
+				break;
+			case SEMI:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(484);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceMemberDeclarationContext extends ParserRuleContext {
+		public ConstDeclarationContext constDeclaration() {
+			return getRuleContext(ConstDeclarationContext.class,0);
+		}
+		public InterfaceMethodDeclarationContext interfaceMethodDeclaration() {
+			return getRuleContext(InterfaceMethodDeclarationContext.class,0);
+		}
+		public GenericInterfaceMethodDeclarationContext genericInterfaceMethodDeclaration() {
+			return getRuleContext(GenericInterfaceMethodDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public InterfaceMemberDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceMemberDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterInterfaceMemberDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitInterfaceMemberDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitInterfaceMemberDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceMemberDeclarationContext interfaceMemberDeclaration() throws RecognitionException {
+		InterfaceMemberDeclarationContext _localctx = new InterfaceMemberDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_interfaceMemberDeclaration);
+		try {
+			setState(494);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(487);
+				constDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(488);
+				interfaceMethodDeclaration();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(489);
+				genericInterfaceMethodDeclaration();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(490);
+				interfaceDeclaration();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(491);
+				annotationTypeDeclaration();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(492);
+				classDeclaration();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(493);
+				enumDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstDeclarationContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public List<ConstantDeclaratorContext> constantDeclarator() {
+			return getRuleContexts(ConstantDeclaratorContext.class);
+		}
+		public ConstantDeclaratorContext constantDeclarator(int i) {
+			return getRuleContext(ConstantDeclaratorContext.class,i);
+		}
+		public ConstDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterConstDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitConstDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitConstDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstDeclarationContext constDeclaration() throws RecognitionException {
+		ConstDeclarationContext _localctx = new ConstDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_constDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(496);
+			typeType();
+			setState(497);
+			constantDeclarator();
+			setState(502);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(498);
+				match(COMMA);
+				setState(499);
+				constantDeclarator();
+				}
+				}
+				setState(504);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(505);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstantDeclaratorContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public VariableInitializerContext variableInitializer() {
+			return getRuleContext(VariableInitializerContext.class,0);
+		}
+		public ConstantDeclaratorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constantDeclarator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterConstantDeclarator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitConstantDeclarator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitConstantDeclarator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstantDeclaratorContext constantDeclarator() throws RecognitionException {
+		ConstantDeclaratorContext _localctx = new ConstantDeclaratorContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_constantDeclarator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(507);
+			match(Identifier);
+			setState(512);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==LBRACK) {
+				{
+				{
+				setState(508);
+				match(LBRACK);
+				setState(509);
+				match(RBRACK);
+				}
+				}
+				setState(514);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(515);
+			match(ASSIGN);
+			setState(516);
+			variableInitializer();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceMethodDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public QualifiedNameListContext qualifiedNameList() {
+			return getRuleContext(QualifiedNameListContext.class,0);
+		}
+		public InterfaceMethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceMethodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterInterfaceMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitInterfaceMethodDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitInterfaceMethodDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceMethodDeclarationContext interfaceMethodDeclaration() throws RecognitionException {
+		InterfaceMethodDeclarationContext _localctx = new InterfaceMethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_interfaceMethodDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(520);
+			switch (_input.LA(1)) {
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+			case Identifier:
+				{
+				setState(518);
+				typeType();
+				}
+				break;
+			case VOID:
+				{
+				setState(519);
+				match(VOID);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(522);
+			match(Identifier);
+			setState(523);
+			formalParameters();
+			setState(528);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==LBRACK) {
+				{
+				{
+				setState(524);
+				match(LBRACK);
+				setState(525);
+				match(RBRACK);
+				}
+				}
+				setState(530);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(533);
+			_la = _input.LA(1);
+			if (_la==THROWS) {
+				{
+				setState(531);
+				match(THROWS);
+				setState(532);
+				qualifiedNameList();
+				}
+			}
+
+			setState(535);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GenericInterfaceMethodDeclarationContext extends ParserRuleContext {
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public InterfaceMethodDeclarationContext interfaceMethodDeclaration() {
+			return getRuleContext(InterfaceMethodDeclarationContext.class,0);
+		}
+		public GenericInterfaceMethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_genericInterfaceMethodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterGenericInterfaceMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitGenericInterfaceMethodDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitGenericInterfaceMethodDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GenericInterfaceMethodDeclarationContext genericInterfaceMethodDeclaration() throws RecognitionException {
+		GenericInterfaceMethodDeclarationContext _localctx = new GenericInterfaceMethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_genericInterfaceMethodDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(537);
+			typeParameters();
+			setState(538);
+			interfaceMethodDeclaration();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclaratorsContext extends ParserRuleContext {
+		public List<VariableDeclaratorContext> variableDeclarator() {
+			return getRuleContexts(VariableDeclaratorContext.class);
+		}
+		public VariableDeclaratorContext variableDeclarator(int i) {
+			return getRuleContext(VariableDeclaratorContext.class,i);
+		}
+		public VariableDeclaratorsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclarators; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterVariableDeclarators(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitVariableDeclarators(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitVariableDeclarators(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableDeclaratorsContext variableDeclarators() throws RecognitionException {
+		VariableDeclaratorsContext _localctx = new VariableDeclaratorsContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_variableDeclarators);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(540);
+			variableDeclarator();
+			setState(545);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(541);
+				match(COMMA);
+				setState(542);
+				variableDeclarator();
+				}
+				}
+				setState(547);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclaratorContext extends ParserRuleContext {
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public VariableInitializerContext variableInitializer() {
+			return getRuleContext(VariableInitializerContext.class,0);
+		}
+		public VariableDeclaratorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclarator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterVariableDeclarator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitVariableDeclarator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitVariableDeclarator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableDeclaratorContext variableDeclarator() throws RecognitionException {
+		VariableDeclaratorContext _localctx = new VariableDeclaratorContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_variableDeclarator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(548);
+			variableDeclaratorId();
+			setState(551);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(549);
+				match(ASSIGN);
+				setState(550);
+				variableInitializer();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclaratorIdContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public VariableDeclaratorIdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclaratorId; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterVariableDeclaratorId(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitVariableDeclaratorId(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitVariableDeclaratorId(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableDeclaratorIdContext variableDeclaratorId() throws RecognitionException {
+		VariableDeclaratorIdContext _localctx = new VariableDeclaratorIdContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_variableDeclaratorId);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(553);
+			match(Identifier);
+			setState(558);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==LBRACK) {
+				{
+				{
+				setState(554);
+				match(LBRACK);
+				setState(555);
+				match(RBRACK);
+				}
+				}
+				setState(560);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableInitializerContext extends ParserRuleContext {
+		public ArrayInitializerContext arrayInitializer() {
+			return getRuleContext(ArrayInitializerContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public VariableInitializerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableInitializer; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterVariableInitializer(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitVariableInitializer(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitVariableInitializer(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableInitializerContext variableInitializer() throws RecognitionException {
+		VariableInitializerContext _localctx = new VariableInitializerContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_variableInitializer);
+		try {
+			setState(563);
+			switch (_input.LA(1)) {
+			case LBRACE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(561);
+				arrayInitializer();
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case NEW:
+			case SHORT:
+			case SUPER:
+			case THIS:
+			case VOID:
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case CharacterLiteral:
+			case StringLiteral:
+			case NullLiteral:
+			case LPAREN:
+			case LT:
+			case BANG:
+			case TILDE:
+			case INC:
+			case DEC:
+			case ADD:
+			case SUB:
+			case Identifier:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(562);
+				expression(0);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArrayInitializerContext extends ParserRuleContext {
+		public List<VariableInitializerContext> variableInitializer() {
+			return getRuleContexts(VariableInitializerContext.class);
+		}
+		public VariableInitializerContext variableInitializer(int i) {
+			return getRuleContext(VariableInitializerContext.class,i);
+		}
+		public ArrayInitializerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arrayInitializer; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterArrayInitializer(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitArrayInitializer(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitArrayInitializer(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArrayInitializerContext arrayInitializer() throws RecognitionException {
+		ArrayInitializerContext _localctx = new ArrayInitializerContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_arrayInitializer);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(565);
+			match(LBRACE);
+			setState(577);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
+				{
+				setState(566);
+				variableInitializer();
+				setState(571);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,55,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(567);
+						match(COMMA);
+						setState(568);
+						variableInitializer();
+						}
+						} 
+					}
+					setState(573);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,55,_ctx);
+				}
+				setState(575);
+				_la = _input.LA(1);
+				if (_la==COMMA) {
+					{
+					setState(574);
+					match(COMMA);
+					}
+				}
+
+				}
+			}
+
+			setState(579);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumConstantNameContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public EnumConstantNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumConstantName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterEnumConstantName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitEnumConstantName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitEnumConstantName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumConstantNameContext enumConstantName() throws RecognitionException {
+		EnumConstantNameContext _localctx = new EnumConstantNameContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_enumConstantName);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(581);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeTypeContext extends ParserRuleContext {
+		public ClassOrInterfaceTypeContext classOrInterfaceType() {
+			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
+		}
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
+		}
+		public TypeTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeTypeContext typeType() throws RecognitionException {
+		TypeTypeContext _localctx = new TypeTypeContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_typeType);
+		try {
+			int _alt;
+			setState(599);
+			switch (_input.LA(1)) {
+			case Identifier:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(583);
+				classOrInterfaceType();
+				setState(588);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(584);
+						match(LBRACK);
+						setState(585);
+						match(RBRACK);
+						}
+						} 
+					}
+					setState(590);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
+				}
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(591);
+				primitiveType();
+				setState(596);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,59,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(592);
+						match(LBRACK);
+						setState(593);
+						match(RBRACK);
+						}
+						} 
+					}
+					setState(598);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,59,_ctx);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassOrInterfaceTypeContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(JavaParser.Identifier, i);
+		}
+		public List<TypeArgumentsContext> typeArguments() {
+			return getRuleContexts(TypeArgumentsContext.class);
+		}
+		public TypeArgumentsContext typeArguments(int i) {
+			return getRuleContext(TypeArgumentsContext.class,i);
+		}
+		public ClassOrInterfaceTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classOrInterfaceType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterClassOrInterfaceType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitClassOrInterfaceType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitClassOrInterfaceType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassOrInterfaceTypeContext classOrInterfaceType() throws RecognitionException {
+		ClassOrInterfaceTypeContext _localctx = new ClassOrInterfaceTypeContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_classOrInterfaceType);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(601);
+			match(Identifier);
+			setState(603);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
+			case 1:
+				{
+				setState(602);
+				typeArguments();
+				}
+				break;
+			}
+			setState(612);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(605);
+					match(DOT);
+					setState(606);
+					match(Identifier);
+					setState(608);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
+					case 1:
+						{
+						setState(607);
+						typeArguments();
+						}
+						break;
+					}
+					}
+					} 
+				}
+				setState(614);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrimitiveTypeContext extends ParserRuleContext {
+		public PrimitiveTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primitiveType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterPrimitiveType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitPrimitiveType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitPrimitiveType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PrimitiveTypeContext primitiveType() throws RecognitionException {
+		PrimitiveTypeContext _localctx = new PrimitiveTypeContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_primitiveType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(615);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentsContext extends ParserRuleContext {
+		public List<TypeArgumentContext> typeArgument() {
+			return getRuleContexts(TypeArgumentContext.class);
+		}
+		public TypeArgumentContext typeArgument(int i) {
+			return getRuleContext(TypeArgumentContext.class,i);
+		}
+		public TypeArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeArguments(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeArgumentsContext typeArguments() throws RecognitionException {
+		TypeArgumentsContext _localctx = new TypeArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_typeArguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(617);
+			match(LT);
+			setState(618);
+			typeArgument();
+			setState(623);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(619);
+				match(COMMA);
+				setState(620);
+				typeArgument();
+				}
+				}
+				setState(625);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(626);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public TypeArgumentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArgument; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeArgument(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeArgument(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeArgument(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeArgumentContext typeArgument() throws RecognitionException {
+		TypeArgumentContext _localctx = new TypeArgumentContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_typeArgument);
+		int _la;
+		try {
+			setState(634);
+			switch (_input.LA(1)) {
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+			case Identifier:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(628);
+				typeType();
+				}
+				break;
+			case QUESTION:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(629);
+				match(QUESTION);
+				setState(632);
+				_la = _input.LA(1);
+				if (_la==EXTENDS || _la==SUPER) {
+					{
+					setState(630);
+					_la = _input.LA(1);
+					if ( !(_la==EXTENDS || _la==SUPER) ) {
+					_errHandler.recoverInline(this);
+					} else {
+						consume();
+					}
+					setState(631);
+					typeType();
+					}
+				}
+
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class QualifiedNameListContext extends ParserRuleContext {
+		public List<QualifiedNameContext> qualifiedName() {
+			return getRuleContexts(QualifiedNameContext.class);
+		}
+		public QualifiedNameContext qualifiedName(int i) {
+			return getRuleContext(QualifiedNameContext.class,i);
+		}
+		public QualifiedNameListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_qualifiedNameList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterQualifiedNameList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitQualifiedNameList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitQualifiedNameList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QualifiedNameListContext qualifiedNameList() throws RecognitionException {
+		QualifiedNameListContext _localctx = new QualifiedNameListContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_qualifiedNameList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(636);
+			qualifiedName();
+			setState(641);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(637);
+				match(COMMA);
+				setState(638);
+				qualifiedName();
+				}
+				}
+				setState(643);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParametersContext extends ParserRuleContext {
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public FormalParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterFormalParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitFormalParameters(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitFormalParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FormalParametersContext formalParameters() throws RecognitionException {
+		FormalParametersContext _localctx = new FormalParametersContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_formalParameters);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(644);
+			match(LPAREN);
+			setState(646);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << SHORT))) != 0) || _la==Identifier || _la==AT) {
+				{
+				setState(645);
+				formalParameterList();
+				}
+			}
+
+			setState(648);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParameterListContext extends ParserRuleContext {
+		public List<FormalParameterContext> formalParameter() {
+			return getRuleContexts(FormalParameterContext.class);
+		}
+		public FormalParameterContext formalParameter(int i) {
+			return getRuleContext(FormalParameterContext.class,i);
+		}
+		public LastFormalParameterContext lastFormalParameter() {
+			return getRuleContext(LastFormalParameterContext.class,0);
+		}
+		public FormalParameterListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameterList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterFormalParameterList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitFormalParameterList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitFormalParameterList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FormalParameterListContext formalParameterList() throws RecognitionException {
+		FormalParameterListContext _localctx = new FormalParameterListContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_formalParameterList);
+		int _la;
+		try {
+			int _alt;
+			setState(663);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(650);
+				formalParameter();
+				setState(655);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,69,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(651);
+						match(COMMA);
+						setState(652);
+						formalParameter();
+						}
+						} 
+					}
+					setState(657);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,69,_ctx);
+				}
+				setState(660);
+				_la = _input.LA(1);
+				if (_la==COMMA) {
+					{
+					setState(658);
+					match(COMMA);
+					setState(659);
+					lastFormalParameter();
+					}
+				}
+
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(662);
+				lastFormalParameter();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParameterContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public FormalParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterFormalParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitFormalParameter(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitFormalParameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FormalParameterContext formalParameter() throws RecognitionException {
+		FormalParameterContext _localctx = new FormalParameterContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_formalParameter);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(668);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FINAL || _la==AT) {
+				{
+				{
+				setState(665);
+				variableModifier();
+				}
+				}
+				setState(670);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(671);
+			typeType();
+			setState(672);
+			variableDeclaratorId();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LastFormalParameterContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public LastFormalParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lastFormalParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterLastFormalParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitLastFormalParameter(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitLastFormalParameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LastFormalParameterContext lastFormalParameter() throws RecognitionException {
+		LastFormalParameterContext _localctx = new LastFormalParameterContext(_ctx, getState());
+		enterRule(_localctx, 98, RULE_lastFormalParameter);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(677);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FINAL || _la==AT) {
+				{
+				{
+				setState(674);
+				variableModifier();
+				}
+				}
+				setState(679);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(680);
+			typeType();
+			setState(681);
+			match(ELLIPSIS);
+			setState(682);
+			variableDeclaratorId();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodBodyContext extends ParserRuleContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public MethodBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterMethodBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitMethodBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitMethodBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodBodyContext methodBody() throws RecognitionException {
+		MethodBodyContext _localctx = new MethodBodyContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_methodBody);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(684);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstructorBodyContext extends ParserRuleContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public ConstructorBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constructorBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterConstructorBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitConstructorBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitConstructorBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstructorBodyContext constructorBody() throws RecognitionException {
+		ConstructorBodyContext _localctx = new ConstructorBodyContext(_ctx, getState());
+		enterRule(_localctx, 102, RULE_constructorBody);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(686);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class QualifiedNameContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(JavaParser.Identifier, i);
+		}
+		public QualifiedNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_qualifiedName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterQualifiedName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitQualifiedName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitQualifiedName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QualifiedNameContext qualifiedName() throws RecognitionException {
+		QualifiedNameContext _localctx = new QualifiedNameContext(_ctx, getState());
+		enterRule(_localctx, 104, RULE_qualifiedName);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(688);
+			match(Identifier);
+			setState(693);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(689);
+					match(DOT);
+					setState(690);
+					match(Identifier);
+					}
+					} 
+				}
+				setState(695);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LiteralContext extends ParserRuleContext {
+		public TerminalNode IntegerLiteral() { return getToken(JavaParser.IntegerLiteral, 0); }
+		public TerminalNode FloatingPointLiteral() { return getToken(JavaParser.FloatingPointLiteral, 0); }
+		public TerminalNode CharacterLiteral() { return getToken(JavaParser.CharacterLiteral, 0); }
+		public TerminalNode StringLiteral() { return getToken(JavaParser.StringLiteral, 0); }
+		public TerminalNode BooleanLiteral() { return getToken(JavaParser.BooleanLiteral, 0); }
+		public LiteralContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literal; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterLiteral(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitLiteral(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitLiteral(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LiteralContext literal() throws RecognitionException {
+		LiteralContext _localctx = new LiteralContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_literal);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(696);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationContext extends ParserRuleContext {
+		public AnnotationNameContext annotationName() {
+			return getRuleContext(AnnotationNameContext.class,0);
+		}
+		public ElementValuePairsContext elementValuePairs() {
+			return getRuleContext(ElementValuePairsContext.class,0);
+		}
+		public ElementValueContext elementValue() {
+			return getRuleContext(ElementValueContext.class,0);
+		}
+		public AnnotationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationContext annotation() throws RecognitionException {
+		AnnotationContext _localctx = new AnnotationContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_annotation);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(698);
+			match(AT);
+			setState(699);
+			annotationName();
+			setState(706);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(700);
+				match(LPAREN);
+				setState(703);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
+				case 1:
+					{
+					setState(701);
+					elementValuePairs();
+					}
+					break;
+				case 2:
+					{
+					setState(702);
+					elementValue();
+					}
+					break;
+				}
+				setState(705);
+				match(RPAREN);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationNameContext extends ParserRuleContext {
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public AnnotationNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotationName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotationName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotationName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationNameContext annotationName() throws RecognitionException {
+		AnnotationNameContext _localctx = new AnnotationNameContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_annotationName);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(708);
+			qualifiedName();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementValuePairsContext extends ParserRuleContext {
+		public List<ElementValuePairContext> elementValuePair() {
+			return getRuleContexts(ElementValuePairContext.class);
+		}
+		public ElementValuePairContext elementValuePair(int i) {
+			return getRuleContext(ElementValuePairContext.class,i);
+		}
+		public ElementValuePairsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementValuePairs; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterElementValuePairs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitElementValuePairs(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitElementValuePairs(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementValuePairsContext elementValuePairs() throws RecognitionException {
+		ElementValuePairsContext _localctx = new ElementValuePairsContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_elementValuePairs);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(710);
+			elementValuePair();
+			setState(715);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(711);
+				match(COMMA);
+				setState(712);
+				elementValuePair();
+				}
+				}
+				setState(717);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementValuePairContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public ElementValueContext elementValue() {
+			return getRuleContext(ElementValueContext.class,0);
+		}
+		public ElementValuePairContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementValuePair; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterElementValuePair(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitElementValuePair(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitElementValuePair(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementValuePairContext elementValuePair() throws RecognitionException {
+		ElementValuePairContext _localctx = new ElementValuePairContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_elementValuePair);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(718);
+			match(Identifier);
+			setState(719);
+			match(ASSIGN);
+			setState(720);
+			elementValue();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementValueContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AnnotationContext annotation() {
+			return getRuleContext(AnnotationContext.class,0);
+		}
+		public ElementValueArrayInitializerContext elementValueArrayInitializer() {
+			return getRuleContext(ElementValueArrayInitializerContext.class,0);
+		}
+		public ElementValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterElementValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitElementValue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitElementValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementValueContext elementValue() throws RecognitionException {
+		ElementValueContext _localctx = new ElementValueContext(_ctx, getState());
+		enterRule(_localctx, 116, RULE_elementValue);
+		try {
+			setState(725);
+			switch (_input.LA(1)) {
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case NEW:
+			case SHORT:
+			case SUPER:
+			case THIS:
+			case VOID:
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case CharacterLiteral:
+			case StringLiteral:
+			case NullLiteral:
+			case LPAREN:
+			case LT:
+			case BANG:
+			case TILDE:
+			case INC:
+			case DEC:
+			case ADD:
+			case SUB:
+			case Identifier:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(722);
+				expression(0);
+				}
+				break;
+			case AT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(723);
+				annotation();
+				}
+				break;
+			case LBRACE:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(724);
+				elementValueArrayInitializer();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementValueArrayInitializerContext extends ParserRuleContext {
+		public List<ElementValueContext> elementValue() {
+			return getRuleContexts(ElementValueContext.class);
+		}
+		public ElementValueContext elementValue(int i) {
+			return getRuleContext(ElementValueContext.class,i);
+		}
+		public ElementValueArrayInitializerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementValueArrayInitializer; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterElementValueArrayInitializer(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitElementValueArrayInitializer(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitElementValueArrayInitializer(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementValueArrayInitializerContext elementValueArrayInitializer() throws RecognitionException {
+		ElementValueArrayInitializerContext _localctx = new ElementValueArrayInitializerContext(_ctx, getState());
+		enterRule(_localctx, 118, RULE_elementValueArrayInitializer);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(727);
+			match(LBRACE);
+			setState(736);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				setState(728);
+				elementValue();
+				setState(733);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(729);
+						match(COMMA);
+						setState(730);
+						elementValue();
+						}
+						} 
+					}
+					setState(735);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
+				}
+				}
+			}
+
+			setState(739);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(738);
+				match(COMMA);
+				}
+			}
+
+			setState(741);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationTypeDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public AnnotationTypeBodyContext annotationTypeBody() {
+			return getRuleContext(AnnotationTypeBodyContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationTypeDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotationTypeDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotationTypeDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotationTypeDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationTypeDeclarationContext annotationTypeDeclaration() throws RecognitionException {
+		AnnotationTypeDeclarationContext _localctx = new AnnotationTypeDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_annotationTypeDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(743);
+			match(AT);
+			setState(744);
+			match(INTERFACE);
+			setState(745);
+			match(Identifier);
+			setState(746);
+			annotationTypeBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationTypeBodyContext extends ParserRuleContext {
+		public List<AnnotationTypeElementDeclarationContext> annotationTypeElementDeclaration() {
+			return getRuleContexts(AnnotationTypeElementDeclarationContext.class);
+		}
+		public AnnotationTypeElementDeclarationContext annotationTypeElementDeclaration(int i) {
+			return getRuleContext(AnnotationTypeElementDeclarationContext.class,i);
+		}
+		public AnnotationTypeBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationTypeBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotationTypeBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotationTypeBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotationTypeBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationTypeBodyContext annotationTypeBody() throws RecognitionException {
+		AnnotationTypeBodyContext _localctx = new AnnotationTypeBodyContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_annotationTypeBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(748);
+			match(LBRACE);
+			setState(752);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NATIVE) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SYNCHRONIZED) | (1L << TRANSIENT) | (1L << VOLATILE) | (1L << SEMI))) != 0) || _la==Identifier || _la==AT) {
+				{
+				{
+				setState(749);
+				annotationTypeElementDeclaration();
+				}
+				}
+				setState(754);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(755);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationTypeElementDeclarationContext extends ParserRuleContext {
+		public AnnotationTypeElementRestContext annotationTypeElementRest() {
+			return getRuleContext(AnnotationTypeElementRestContext.class,0);
+		}
+		public List<ModifierContext> modifier() {
+			return getRuleContexts(ModifierContext.class);
+		}
+		public ModifierContext modifier(int i) {
+			return getRuleContext(ModifierContext.class,i);
+		}
+		public AnnotationTypeElementDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationTypeElementDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotationTypeElementDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotationTypeElementDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotationTypeElementDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationTypeElementDeclarationContext annotationTypeElementDeclaration() throws RecognitionException {
+		AnnotationTypeElementDeclarationContext _localctx = new AnnotationTypeElementDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 124, RULE_annotationTypeElementDeclaration);
+		try {
+			int _alt;
+			setState(765);
+			switch (_input.LA(1)) {
+			case ABSTRACT:
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case CLASS:
+			case DOUBLE:
+			case ENUM:
+			case FINAL:
+			case FLOAT:
+			case INT:
+			case INTERFACE:
+			case LONG:
+			case NATIVE:
+			case PRIVATE:
+			case PROTECTED:
+			case PUBLIC:
+			case SHORT:
+			case STATIC:
+			case STRICTFP:
+			case SYNCHRONIZED:
+			case TRANSIENT:
+			case VOLATILE:
+			case Identifier:
+			case AT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(760);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(757);
+						modifier();
+						}
+						} 
+					}
+					setState(762);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
+				}
+				setState(763);
+				annotationTypeElementRest();
+				}
+				break;
+			case SEMI:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(764);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationTypeElementRestContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public AnnotationMethodOrConstantRestContext annotationMethodOrConstantRest() {
+			return getRuleContext(AnnotationMethodOrConstantRestContext.class,0);
+		}
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
+			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
+		}
+		public AnnotationTypeElementRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationTypeElementRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotationTypeElementRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotationTypeElementRest(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotationTypeElementRest(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationTypeElementRestContext annotationTypeElementRest() throws RecognitionException {
+		AnnotationTypeElementRestContext _localctx = new AnnotationTypeElementRestContext(_ctx, getState());
+		enterRule(_localctx, 126, RULE_annotationTypeElementRest);
+		try {
+			setState(787);
+			switch (_input.LA(1)) {
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+			case Identifier:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(767);
+				typeType();
+				setState(768);
+				annotationMethodOrConstantRest();
+				setState(769);
+				match(SEMI);
+				}
+				break;
+			case CLASS:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(771);
+				classDeclaration();
+				setState(773);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,85,_ctx) ) {
+				case 1:
+					{
+					setState(772);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			case INTERFACE:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(775);
+				interfaceDeclaration();
+				setState(777);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,86,_ctx) ) {
+				case 1:
+					{
+					setState(776);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			case ENUM:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(779);
+				enumDeclaration();
+				setState(781);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,87,_ctx) ) {
+				case 1:
+					{
+					setState(780);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			case AT:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(783);
+				annotationTypeDeclaration();
+				setState(785);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,88,_ctx) ) {
+				case 1:
+					{
+					setState(784);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationMethodOrConstantRestContext extends ParserRuleContext {
+		public AnnotationMethodRestContext annotationMethodRest() {
+			return getRuleContext(AnnotationMethodRestContext.class,0);
+		}
+		public AnnotationConstantRestContext annotationConstantRest() {
+			return getRuleContext(AnnotationConstantRestContext.class,0);
+		}
+		public AnnotationMethodOrConstantRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationMethodOrConstantRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotationMethodOrConstantRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotationMethodOrConstantRest(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotationMethodOrConstantRest(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationMethodOrConstantRestContext annotationMethodOrConstantRest() throws RecognitionException {
+		AnnotationMethodOrConstantRestContext _localctx = new AnnotationMethodOrConstantRestContext(_ctx, getState());
+		enterRule(_localctx, 128, RULE_annotationMethodOrConstantRest);
+		try {
+			setState(791);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(789);
+				annotationMethodRest();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(790);
+				annotationConstantRest();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationMethodRestContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public DefaultValueContext defaultValue() {
+			return getRuleContext(DefaultValueContext.class,0);
+		}
+		public AnnotationMethodRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationMethodRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotationMethodRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotationMethodRest(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotationMethodRest(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationMethodRestContext annotationMethodRest() throws RecognitionException {
+		AnnotationMethodRestContext _localctx = new AnnotationMethodRestContext(_ctx, getState());
+		enterRule(_localctx, 130, RULE_annotationMethodRest);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(793);
+			match(Identifier);
+			setState(794);
+			match(LPAREN);
+			setState(795);
+			match(RPAREN);
+			setState(797);
+			_la = _input.LA(1);
+			if (_la==DEFAULT) {
+				{
+				setState(796);
+				defaultValue();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationConstantRestContext extends ParserRuleContext {
+		public VariableDeclaratorsContext variableDeclarators() {
+			return getRuleContext(VariableDeclaratorsContext.class,0);
+		}
+		public AnnotationConstantRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationConstantRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterAnnotationConstantRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitAnnotationConstantRest(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitAnnotationConstantRest(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationConstantRestContext annotationConstantRest() throws RecognitionException {
+		AnnotationConstantRestContext _localctx = new AnnotationConstantRestContext(_ctx, getState());
+		enterRule(_localctx, 132, RULE_annotationConstantRest);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(799);
+			variableDeclarators();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DefaultValueContext extends ParserRuleContext {
+		public ElementValueContext elementValue() {
+			return getRuleContext(ElementValueContext.class,0);
+		}
+		public DefaultValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_defaultValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterDefaultValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitDefaultValue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitDefaultValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DefaultValueContext defaultValue() throws RecognitionException {
+		DefaultValueContext _localctx = new DefaultValueContext(_ctx, getState());
+		enterRule(_localctx, 134, RULE_defaultValue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(801);
+			match(DEFAULT);
+			setState(802);
+			elementValue();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockContext extends ParserRuleContext {
+		public List<BlockStatementContext> blockStatement() {
+			return getRuleContexts(BlockStatementContext.class);
+		}
+		public BlockStatementContext blockStatement(int i) {
+			return getRuleContext(BlockStatementContext.class,i);
+		}
+		public BlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitBlock(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockContext block() throws RecognitionException {
+		BlockContext _localctx = new BlockContext(_ctx, getState());
+		enterRule(_localctx, 136, RULE_block);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(804);
+			match(LBRACE);
+			setState(808);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NEW) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << RETURN) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+				{
+				{
+				setState(805);
+				blockStatement();
+				}
+				}
+				setState(810);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(811);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockStatementContext extends ParserRuleContext {
+		public LocalVariableDeclarationStatementContext localVariableDeclarationStatement() {
+			return getRuleContext(LocalVariableDeclarationStatementContext.class,0);
+		}
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public TypeDeclarationContext typeDeclaration() {
+			return getRuleContext(TypeDeclarationContext.class,0);
+		}
+		public BlockStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_blockStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterBlockStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitBlockStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitBlockStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockStatementContext blockStatement() throws RecognitionException {
+		BlockStatementContext _localctx = new BlockStatementContext(_ctx, getState());
+		enterRule(_localctx, 138, RULE_blockStatement);
+		try {
+			setState(816);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,93,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(813);
+				localVariableDeclarationStatement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(814);
+				statement();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(815);
+				typeDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LocalVariableDeclarationStatementContext extends ParserRuleContext {
+		public LocalVariableDeclarationContext localVariableDeclaration() {
+			return getRuleContext(LocalVariableDeclarationContext.class,0);
+		}
+		public LocalVariableDeclarationStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_localVariableDeclarationStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterLocalVariableDeclarationStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitLocalVariableDeclarationStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitLocalVariableDeclarationStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LocalVariableDeclarationStatementContext localVariableDeclarationStatement() throws RecognitionException {
+		LocalVariableDeclarationStatementContext _localctx = new LocalVariableDeclarationStatementContext(_ctx, getState());
+		enterRule(_localctx, 140, RULE_localVariableDeclarationStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(818);
+			localVariableDeclaration();
+			setState(819);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LocalVariableDeclarationContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorsContext variableDeclarators() {
+			return getRuleContext(VariableDeclaratorsContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public LocalVariableDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_localVariableDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterLocalVariableDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitLocalVariableDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitLocalVariableDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LocalVariableDeclarationContext localVariableDeclaration() throws RecognitionException {
+		LocalVariableDeclarationContext _localctx = new LocalVariableDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 142, RULE_localVariableDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(824);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FINAL || _la==AT) {
+				{
+				{
+				setState(821);
+				variableModifier();
+				}
+				}
+				setState(826);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(827);
+			typeType();
+			setState(828);
+			variableDeclarators();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementContext extends ParserRuleContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public TerminalNode ASSERT() { return getToken(JavaParser.ASSERT, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ParExpressionContext parExpression() {
+			return getRuleContext(ParExpressionContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public ForControlContext forControl() {
+			return getRuleContext(ForControlContext.class,0);
+		}
+		public FinallyBlockContext finallyBlock() {
+			return getRuleContext(FinallyBlockContext.class,0);
+		}
+		public List<CatchClauseContext> catchClause() {
+			return getRuleContexts(CatchClauseContext.class);
+		}
+		public CatchClauseContext catchClause(int i) {
+			return getRuleContext(CatchClauseContext.class,i);
+		}
+		public ResourceSpecificationContext resourceSpecification() {
+			return getRuleContext(ResourceSpecificationContext.class,0);
+		}
+		public List<SwitchBlockStatementGroupContext> switchBlockStatementGroup() {
+			return getRuleContexts(SwitchBlockStatementGroupContext.class);
+		}
+		public SwitchBlockStatementGroupContext switchBlockStatementGroup(int i) {
+			return getRuleContext(SwitchBlockStatementGroupContext.class,i);
+		}
+		public List<SwitchLabelContext> switchLabel() {
+			return getRuleContexts(SwitchLabelContext.class);
+		}
+		public SwitchLabelContext switchLabel(int i) {
+			return getRuleContext(SwitchLabelContext.class,i);
+		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public StatementExpressionContext statementExpression() {
+			return getRuleContext(StatementExpressionContext.class,0);
+		}
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 144, RULE_statement);
+		int _la;
+		try {
+			int _alt;
+			setState(934);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,107,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(830);
+				block();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(831);
+				match(ASSERT);
+				setState(832);
+				expression(0);
+				setState(835);
+				_la = _input.LA(1);
+				if (_la==COLON) {
+					{
+					setState(833);
+					match(COLON);
+					setState(834);
+					expression(0);
+					}
+				}
+
+				setState(837);
+				match(SEMI);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(839);
+				match(IF);
+				setState(840);
+				parExpression();
+				setState(841);
+				statement();
+				setState(844);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
+				case 1:
+					{
+					setState(842);
+					match(ELSE);
+					setState(843);
+					statement();
+					}
+					break;
+				}
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(846);
+				match(FOR);
+				setState(847);
+				match(LPAREN);
+				setState(848);
+				forControl();
+				setState(849);
+				match(RPAREN);
+				setState(850);
+				statement();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(852);
+				match(WHILE);
+				setState(853);
+				parExpression();
+				setState(854);
+				statement();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(856);
+				match(DO);
+				setState(857);
+				statement();
+				setState(858);
+				match(WHILE);
+				setState(859);
+				parExpression();
+				setState(860);
+				match(SEMI);
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(862);
+				match(TRY);
+				setState(863);
+				block();
+				setState(873);
+				switch (_input.LA(1)) {
+				case CATCH:
+					{
+					setState(865); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					do {
+						{
+						{
+						setState(864);
+						catchClause();
+						}
+						}
+						setState(867); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					} while ( _la==CATCH );
+					setState(870);
+					_la = _input.LA(1);
+					if (_la==FINALLY) {
+						{
+						setState(869);
+						finallyBlock();
+						}
+					}
+
+					}
+					break;
+				case FINALLY:
+					{
+					setState(872);
+					finallyBlock();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(875);
+				match(TRY);
+				setState(876);
+				resourceSpecification();
+				setState(877);
+				block();
+				setState(881);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==CATCH) {
+					{
+					{
+					setState(878);
+					catchClause();
+					}
+					}
+					setState(883);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(885);
+				_la = _input.LA(1);
+				if (_la==FINALLY) {
+					{
+					setState(884);
+					finallyBlock();
+					}
+				}
+
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(887);
+				match(SWITCH);
+				setState(888);
+				parExpression();
+				setState(889);
+				match(LBRACE);
+				setState(893);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(890);
+						switchBlockStatementGroup();
+						}
+						} 
+					}
+					setState(895);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
+				}
+				setState(899);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==CASE || _la==DEFAULT) {
+					{
+					{
+					setState(896);
+					switchLabel();
+					}
+					}
+					setState(901);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(902);
+				match(RBRACE);
+				}
+				break;
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(904);
+				match(SYNCHRONIZED);
+				setState(905);
+				parExpression();
+				setState(906);
+				block();
+				}
+				break;
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(908);
+				match(RETURN);
+				setState(910);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
+					{
+					setState(909);
+					expression(0);
+					}
+				}
+
+				setState(912);
+				match(SEMI);
+				}
+				break;
+			case 12:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(913);
+				match(THROW);
+				setState(914);
+				expression(0);
+				setState(915);
+				match(SEMI);
+				}
+				break;
+			case 13:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(917);
+				match(BREAK);
+				setState(919);
+				_la = _input.LA(1);
+				if (_la==Identifier) {
+					{
+					setState(918);
+					match(Identifier);
+					}
+				}
+
+				setState(921);
+				match(SEMI);
+				}
+				break;
+			case 14:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(922);
+				match(CONTINUE);
+				setState(924);
+				_la = _input.LA(1);
+				if (_la==Identifier) {
+					{
+					setState(923);
+					match(Identifier);
+					}
+				}
+
+				setState(926);
+				match(SEMI);
+				}
+				break;
+			case 15:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(927);
+				match(SEMI);
+				}
+				break;
+			case 16:
+				enterOuterAlt(_localctx, 16);
+				{
+				setState(928);
+				statementExpression();
+				setState(929);
+				match(SEMI);
+				}
+				break;
+			case 17:
+				enterOuterAlt(_localctx, 17);
+				{
+				setState(931);
+				match(Identifier);
+				setState(932);
+				match(COLON);
+				setState(933);
+				statement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CatchClauseContext extends ParserRuleContext {
+		public CatchTypeContext catchType() {
+			return getRuleContext(CatchTypeContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public CatchClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_catchClause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterCatchClause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitCatchClause(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitCatchClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CatchClauseContext catchClause() throws RecognitionException {
+		CatchClauseContext _localctx = new CatchClauseContext(_ctx, getState());
+		enterRule(_localctx, 146, RULE_catchClause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(936);
+			match(CATCH);
+			setState(937);
+			match(LPAREN);
+			setState(941);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FINAL || _la==AT) {
+				{
+				{
+				setState(938);
+				variableModifier();
+				}
+				}
+				setState(943);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(944);
+			catchType();
+			setState(945);
+			match(Identifier);
+			setState(946);
+			match(RPAREN);
+			setState(947);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CatchTypeContext extends ParserRuleContext {
+		public List<QualifiedNameContext> qualifiedName() {
+			return getRuleContexts(QualifiedNameContext.class);
+		}
+		public QualifiedNameContext qualifiedName(int i) {
+			return getRuleContext(QualifiedNameContext.class,i);
+		}
+		public CatchTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_catchType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterCatchType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitCatchType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitCatchType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CatchTypeContext catchType() throws RecognitionException {
+		CatchTypeContext _localctx = new CatchTypeContext(_ctx, getState());
+		enterRule(_localctx, 148, RULE_catchType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(949);
+			qualifiedName();
+			setState(954);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==BITOR) {
+				{
+				{
+				setState(950);
+				match(BITOR);
+				setState(951);
+				qualifiedName();
+				}
+				}
+				setState(956);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FinallyBlockContext extends ParserRuleContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public FinallyBlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_finallyBlock; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterFinallyBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitFinallyBlock(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitFinallyBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FinallyBlockContext finallyBlock() throws RecognitionException {
+		FinallyBlockContext _localctx = new FinallyBlockContext(_ctx, getState());
+		enterRule(_localctx, 150, RULE_finallyBlock);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(957);
+			match(FINALLY);
+			setState(958);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ResourceSpecificationContext extends ParserRuleContext {
+		public ResourcesContext resources() {
+			return getRuleContext(ResourcesContext.class,0);
+		}
+		public ResourceSpecificationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_resourceSpecification; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterResourceSpecification(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitResourceSpecification(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitResourceSpecification(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ResourceSpecificationContext resourceSpecification() throws RecognitionException {
+		ResourceSpecificationContext _localctx = new ResourceSpecificationContext(_ctx, getState());
+		enterRule(_localctx, 152, RULE_resourceSpecification);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(960);
+			match(LPAREN);
+			setState(961);
+			resources();
+			setState(963);
+			_la = _input.LA(1);
+			if (_la==SEMI) {
+				{
+				setState(962);
+				match(SEMI);
+				}
+			}
+
+			setState(965);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ResourcesContext extends ParserRuleContext {
+		public List<ResourceContext> resource() {
+			return getRuleContexts(ResourceContext.class);
+		}
+		public ResourceContext resource(int i) {
+			return getRuleContext(ResourceContext.class,i);
+		}
+		public ResourcesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_resources; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterResources(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitResources(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitResources(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ResourcesContext resources() throws RecognitionException {
+		ResourcesContext _localctx = new ResourcesContext(_ctx, getState());
+		enterRule(_localctx, 154, RULE_resources);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(967);
+			resource();
+			setState(972);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,111,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(968);
+					match(SEMI);
+					setState(969);
+					resource();
+					}
+					} 
+				}
+				setState(974);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,111,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ResourceContext extends ParserRuleContext {
+		public ClassOrInterfaceTypeContext classOrInterfaceType() {
+			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
+		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public ResourceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_resource; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterResource(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitResource(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitResource(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ResourceContext resource() throws RecognitionException {
+		ResourceContext _localctx = new ResourceContext(_ctx, getState());
+		enterRule(_localctx, 156, RULE_resource);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(978);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FINAL || _la==AT) {
+				{
+				{
+				setState(975);
+				variableModifier();
+				}
+				}
+				setState(980);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(981);
+			classOrInterfaceType();
+			setState(982);
+			variableDeclaratorId();
+			setState(983);
+			match(ASSIGN);
+			setState(984);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchBlockStatementGroupContext extends ParserRuleContext {
+		public List<SwitchLabelContext> switchLabel() {
+			return getRuleContexts(SwitchLabelContext.class);
+		}
+		public SwitchLabelContext switchLabel(int i) {
+			return getRuleContext(SwitchLabelContext.class,i);
+		}
+		public List<BlockStatementContext> blockStatement() {
+			return getRuleContexts(BlockStatementContext.class);
+		}
+		public BlockStatementContext blockStatement(int i) {
+			return getRuleContext(BlockStatementContext.class,i);
+		}
+		public SwitchBlockStatementGroupContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchBlockStatementGroup; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterSwitchBlockStatementGroup(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitSwitchBlockStatementGroup(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitSwitchBlockStatementGroup(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SwitchBlockStatementGroupContext switchBlockStatementGroup() throws RecognitionException {
+		SwitchBlockStatementGroupContext _localctx = new SwitchBlockStatementGroupContext(_ctx, getState());
+		enterRule(_localctx, 158, RULE_switchBlockStatementGroup);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(987); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(986);
+				switchLabel();
+				}
+				}
+				setState(989); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==CASE || _la==DEFAULT );
+			setState(992); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(991);
+				blockStatement();
+				}
+				}
+				setState(994); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ABSTRACT) | (1L << ASSERT) | (1L << BOOLEAN) | (1L << BREAK) | (1L << BYTE) | (1L << CHAR) | (1L << CLASS) | (1L << CONTINUE) | (1L << DO) | (1L << DOUBLE) | (1L << ENUM) | (1L << FINAL) | (1L << FLOAT) | (1L << FOR) | (1L << IF) | (1L << INT) | (1L << INTERFACE) | (1L << LONG) | (1L << NEW) | (1L << PRIVATE) | (1L << PROTECTED) | (1L << PUBLIC) | (1L << RETURN) | (1L << SHORT) | (1L << STATIC) | (1L << STRICTFP) | (1L << SUPER) | (1L << SWITCH) | (1L << SYNCHRONIZED) | (1L << THIS) | (1L << THROW) | (1L << TRY) | (1L << VOID) | (1L << WHILE) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0) );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchLabelContext extends ParserRuleContext {
+		public ConstantExpressionContext constantExpression() {
+			return getRuleContext(ConstantExpressionContext.class,0);
+		}
+		public EnumConstantNameContext enumConstantName() {
+			return getRuleContext(EnumConstantNameContext.class,0);
+		}
+		public SwitchLabelContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchLabel; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterSwitchLabel(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitSwitchLabel(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitSwitchLabel(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SwitchLabelContext switchLabel() throws RecognitionException {
+		SwitchLabelContext _localctx = new SwitchLabelContext(_ctx, getState());
+		enterRule(_localctx, 160, RULE_switchLabel);
+		try {
+			setState(1006);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,115,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(996);
+				match(CASE);
+				setState(997);
+				constantExpression();
+				setState(998);
+				match(COLON);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1000);
+				match(CASE);
+				setState(1001);
+				enumConstantName();
+				setState(1002);
+				match(COLON);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1004);
+				match(DEFAULT);
+				setState(1005);
+				match(COLON);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForControlContext extends ParserRuleContext {
+		public EnhancedForControlContext enhancedForControl() {
+			return getRuleContext(EnhancedForControlContext.class,0);
+		}
+		public ForInitContext forInit() {
+			return getRuleContext(ForInitContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ForUpdateContext forUpdate() {
+			return getRuleContext(ForUpdateContext.class,0);
+		}
+		public ForControlContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forControl; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterForControl(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitForControl(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitForControl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForControlContext forControl() throws RecognitionException {
+		ForControlContext _localctx = new ForControlContext(_ctx, getState());
+		enterRule(_localctx, 162, RULE_forControl);
+		int _la;
+		try {
+			setState(1020);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1008);
+				enhancedForControl();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1010);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FINAL) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)) | (1L << (AT - 68)))) != 0)) {
+					{
+					setState(1009);
+					forInit();
+					}
+				}
+
+				setState(1012);
+				match(SEMI);
+				setState(1014);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
+					{
+					setState(1013);
+					expression(0);
+					}
+				}
+
+				setState(1016);
+				match(SEMI);
+				setState(1018);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
+					{
+					setState(1017);
+					forUpdate();
+					}
+				}
+
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForInitContext extends ParserRuleContext {
+		public LocalVariableDeclarationContext localVariableDeclaration() {
+			return getRuleContext(LocalVariableDeclarationContext.class,0);
+		}
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ForInitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forInit; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterForInit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitForInit(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitForInit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForInitContext forInit() throws RecognitionException {
+		ForInitContext _localctx = new ForInitContext(_ctx, getState());
+		enterRule(_localctx, 164, RULE_forInit);
+		try {
+			setState(1024);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,120,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1022);
+				localVariableDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1023);
+				expressionList();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnhancedForControlContext extends ParserRuleContext {
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<VariableModifierContext> variableModifier() {
+			return getRuleContexts(VariableModifierContext.class);
+		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
+		public EnhancedForControlContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enhancedForControl; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterEnhancedForControl(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitEnhancedForControl(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitEnhancedForControl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnhancedForControlContext enhancedForControl() throws RecognitionException {
+		EnhancedForControlContext _localctx = new EnhancedForControlContext(_ctx, getState());
+		enterRule(_localctx, 166, RULE_enhancedForControl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1029);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==FINAL || _la==AT) {
+				{
+				{
+				setState(1026);
+				variableModifier();
+				}
+				}
+				setState(1031);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1032);
+			typeType();
+			setState(1033);
+			variableDeclaratorId();
+			setState(1034);
+			match(COLON);
+			setState(1035);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForUpdateContext extends ParserRuleContext {
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ForUpdateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forUpdate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterForUpdate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitForUpdate(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitForUpdate(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForUpdateContext forUpdate() throws RecognitionException {
+		ForUpdateContext _localctx = new ForUpdateContext(_ctx, getState());
+		enterRule(_localctx, 168, RULE_forUpdate);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1037);
+			expressionList();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParExpressionContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ParExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterParExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitParExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitParExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParExpressionContext parExpression() throws RecognitionException {
+		ParExpressionContext _localctx = new ParExpressionContext(_ctx, getState());
+		enterRule(_localctx, 170, RULE_parExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1039);
+			match(LPAREN);
+			setState(1040);
+			expression(0);
+			setState(1041);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionListContext extends ParserRuleContext {
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expressionList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterExpressionList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitExpressionList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitExpressionList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionListContext expressionList() throws RecognitionException {
+		ExpressionListContext _localctx = new ExpressionListContext(_ctx, getState());
+		enterRule(_localctx, 172, RULE_expressionList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1043);
+			expression(0);
+			setState(1048);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(1044);
+				match(COMMA);
+				setState(1045);
+				expression(0);
+				}
+				}
+				setState(1050);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementExpressionContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterStatementExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitStatementExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitStatementExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementExpressionContext statementExpression() throws RecognitionException {
+		StatementExpressionContext _localctx = new StatementExpressionContext(_ctx, getState());
+		enterRule(_localctx, 174, RULE_statementExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1051);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstantExpressionContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ConstantExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constantExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterConstantExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitConstantExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitConstantExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstantExpressionContext constantExpression() throws RecognitionException {
+		ConstantExpressionContext _localctx = new ConstantExpressionContext(_ctx, getState());
+		enterRule(_localctx, 176, RULE_constantExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1053);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public PrimaryContext primary() {
+			return getRuleContext(PrimaryContext.class,0);
+		}
+		public CreatorContext creator() {
+			return getRuleContext(CreatorContext.class,0);
+		}
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public InnerCreatorContext innerCreator() {
+			return getRuleContext(InnerCreatorContext.class,0);
+		}
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public SuperSuffixContext superSuffix() {
+			return getRuleContext(SuperSuffixContext.class,0);
+		}
+		public ExplicitGenericInvocationContext explicitGenericInvocation() {
+			return getRuleContext(ExplicitGenericInvocationContext.class,0);
+		}
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 178;
+		enterRecursionRule(_localctx, 178, RULE_expression, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1068);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,123,_ctx) ) {
+			case 1:
+				{
+				setState(1056);
+				primary();
+				}
+				break;
+			case 2:
+				{
+				setState(1057);
+				match(NEW);
+				setState(1058);
+				creator();
+				}
+				break;
+			case 3:
+				{
+				setState(1059);
+				match(LPAREN);
+				setState(1060);
+				typeType();
+				setState(1061);
+				match(RPAREN);
+				setState(1062);
+				expression(17);
+				}
+				break;
+			case 4:
+				{
+				setState(1064);
+				_la = _input.LA(1);
+				if ( !(((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (INC - 79)) | (1L << (DEC - 79)) | (1L << (ADD - 79)) | (1L << (SUB - 79)))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				} else {
+					consume();
+				}
+				setState(1065);
+				expression(15);
+				}
+				break;
+			case 5:
+				{
+				setState(1066);
+				_la = _input.LA(1);
+				if ( !(_la==BANG || _la==TILDE) ) {
+				_errHandler.recoverInline(this);
+				} else {
+					consume();
+				}
+				setState(1067);
+				expression(14);
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1155);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,128,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(1153);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,127,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1070);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(1071);
+						_la = _input.LA(1);
+						if ( !(((((_la - 83)) & ~0x3f) == 0 && ((1L << (_la - 83)) & ((1L << (MUL - 83)) | (1L << (DIV - 83)) | (1L << (MOD - 83)))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(1072);
+						expression(14);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1073);
+						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
+						setState(1074);
+						_la = _input.LA(1);
+						if ( !(_la==ADD || _la==SUB) ) {
+						_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(1075);
+						expression(13);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1076);
+						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
+						setState(1084);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,124,_ctx) ) {
+						case 1:
+							{
+							setState(1077);
+							match(LT);
+							setState(1078);
+							match(LT);
+							}
+							break;
+						case 2:
+							{
+							setState(1079);
+							match(GT);
+							setState(1080);
+							match(GT);
+							setState(1081);
+							match(GT);
+							}
+							break;
+						case 3:
+							{
+							setState(1082);
+							match(GT);
+							setState(1083);
+							match(GT);
+							}
+							break;
+						}
+						setState(1086);
+						expression(12);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1087);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(1088);
+						_la = _input.LA(1);
+						if ( !(((((_la - 67)) & ~0x3f) == 0 && ((1L << (_la - 67)) & ((1L << (GT - 67)) | (1L << (LT - 67)) | (1L << (LE - 67)) | (1L << (GE - 67)))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(1089);
+						expression(11);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1090);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(1091);
+						_la = _input.LA(1);
+						if ( !(_la==EQUAL || _la==NOTEQUAL) ) {
+						_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(1092);
+						expression(9);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1093);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(1094);
+						match(BITAND);
+						setState(1095);
+						expression(8);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1096);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(1097);
+						match(CARET);
+						setState(1098);
+						expression(7);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1099);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(1100);
+						match(BITOR);
+						setState(1101);
+						expression(6);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1102);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(1103);
+						match(AND);
+						setState(1104);
+						expression(5);
+						}
+						break;
+					case 10:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1105);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(1106);
+						match(OR);
+						setState(1107);
+						expression(4);
+						}
+						break;
+					case 11:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1108);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(1109);
+						match(QUESTION);
+						setState(1110);
+						expression(0);
+						setState(1111);
+						match(COLON);
+						setState(1112);
+						expression(3);
+						}
+						break;
+					case 12:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1114);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(1115);
+						_la = _input.LA(1);
+						if ( !(((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (ASSIGN - 66)) | (1L << (ADD_ASSIGN - 66)) | (1L << (SUB_ASSIGN - 66)) | (1L << (MUL_ASSIGN - 66)) | (1L << (DIV_ASSIGN - 66)) | (1L << (AND_ASSIGN - 66)) | (1L << (OR_ASSIGN - 66)) | (1L << (XOR_ASSIGN - 66)) | (1L << (MOD_ASSIGN - 66)) | (1L << (LSHIFT_ASSIGN - 66)) | (1L << (RSHIFT_ASSIGN - 66)) | (1L << (URSHIFT_ASSIGN - 66)))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(1116);
+						expression(1);
+						}
+						break;
+					case 13:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1117);
+						if (!(precpred(_ctx, 25))) throw new FailedPredicateException(this, "precpred(_ctx, 25)");
+						setState(1118);
+						match(DOT);
+						setState(1119);
+						match(Identifier);
+						}
+						break;
+					case 14:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1120);
+						if (!(precpred(_ctx, 24))) throw new FailedPredicateException(this, "precpred(_ctx, 24)");
+						setState(1121);
+						match(DOT);
+						setState(1122);
+						match(THIS);
+						}
+						break;
+					case 15:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1123);
+						if (!(precpred(_ctx, 23))) throw new FailedPredicateException(this, "precpred(_ctx, 23)");
+						setState(1124);
+						match(DOT);
+						setState(1125);
+						match(NEW);
+						setState(1127);
+						_la = _input.LA(1);
+						if (_la==LT) {
+							{
+							setState(1126);
+							nonWildcardTypeArguments();
+							}
+						}
+
+						setState(1129);
+						innerCreator();
+						}
+						break;
+					case 16:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1130);
+						if (!(precpred(_ctx, 22))) throw new FailedPredicateException(this, "precpred(_ctx, 22)");
+						setState(1131);
+						match(DOT);
+						setState(1132);
+						match(SUPER);
+						setState(1133);
+						superSuffix();
+						}
+						break;
+					case 17:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1134);
+						if (!(precpred(_ctx, 21))) throw new FailedPredicateException(this, "precpred(_ctx, 21)");
+						setState(1135);
+						match(DOT);
+						setState(1136);
+						explicitGenericInvocation();
+						}
+						break;
+					case 18:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1137);
+						if (!(precpred(_ctx, 20))) throw new FailedPredicateException(this, "precpred(_ctx, 20)");
+						setState(1138);
+						match(LBRACK);
+						setState(1139);
+						expression(0);
+						setState(1140);
+						match(RBRACK);
+						}
+						break;
+					case 19:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1142);
+						if (!(precpred(_ctx, 19))) throw new FailedPredicateException(this, "precpred(_ctx, 19)");
+						setState(1143);
+						match(LPAREN);
+						setState(1145);
+						_la = _input.LA(1);
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
+							{
+							setState(1144);
+							expressionList();
+							}
+						}
+
+						setState(1147);
+						match(RPAREN);
+						}
+						break;
+					case 20:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1148);
+						if (!(precpred(_ctx, 16))) throw new FailedPredicateException(this, "precpred(_ctx, 16)");
+						setState(1149);
+						_la = _input.LA(1);
+						if ( !(_la==INC || _la==DEC) ) {
+						_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						}
+						break;
+					case 21:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(1150);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(1151);
+						match(INSTANCEOF);
+						setState(1152);
+						typeType();
+						}
+						break;
+					}
+					} 
+				}
+				setState(1157);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,128,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class PrimaryContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public TypeTypeContext typeType() {
+			return getRuleContext(TypeTypeContext.class,0);
+		}
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() {
+			return getRuleContext(ExplicitGenericInvocationSuffixContext.class,0);
+		}
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public PrimaryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primary; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterPrimary(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitPrimary(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitPrimary(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PrimaryContext primary() throws RecognitionException {
+		PrimaryContext _localctx = new PrimaryContext(_ctx, getState());
+		enterRule(_localctx, 180, RULE_primary);
+		try {
+			setState(1179);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,130,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1158);
+				match(LPAREN);
+				setState(1159);
+				expression(0);
+				setState(1160);
+				match(RPAREN);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1162);
+				match(THIS);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1163);
+				match(SUPER);
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1164);
+				literal();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(1165);
+				match(Identifier);
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(1166);
+				typeType();
+				setState(1167);
+				match(DOT);
+				setState(1168);
+				match(CLASS);
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(1170);
+				match(VOID);
+				setState(1171);
+				match(DOT);
+				setState(1172);
+				match(CLASS);
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(1173);
+				nonWildcardTypeArguments();
+				setState(1177);
+				switch (_input.LA(1)) {
+				case SUPER:
+				case Identifier:
+					{
+					setState(1174);
+					explicitGenericInvocationSuffix();
+					}
+					break;
+				case THIS:
+					{
+					setState(1175);
+					match(THIS);
+					setState(1176);
+					arguments();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CreatorContext extends ParserRuleContext {
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public CreatedNameContext createdName() {
+			return getRuleContext(CreatedNameContext.class,0);
+		}
+		public ClassCreatorRestContext classCreatorRest() {
+			return getRuleContext(ClassCreatorRestContext.class,0);
+		}
+		public ArrayCreatorRestContext arrayCreatorRest() {
+			return getRuleContext(ArrayCreatorRestContext.class,0);
+		}
+		public CreatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_creator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterCreator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitCreator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitCreator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CreatorContext creator() throws RecognitionException {
+		CreatorContext _localctx = new CreatorContext(_ctx, getState());
+		enterRule(_localctx, 182, RULE_creator);
+		try {
+			setState(1190);
+			switch (_input.LA(1)) {
+			case LT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1181);
+				nonWildcardTypeArguments();
+				setState(1182);
+				createdName();
+				setState(1183);
+				classCreatorRest();
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+			case Identifier:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1185);
+				createdName();
+				setState(1188);
+				switch (_input.LA(1)) {
+				case LBRACK:
+					{
+					setState(1186);
+					arrayCreatorRest();
+					}
+					break;
+				case LPAREN:
+					{
+					setState(1187);
+					classCreatorRest();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CreatedNameContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(JavaParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(JavaParser.Identifier, i);
+		}
+		public List<TypeArgumentsOrDiamondContext> typeArgumentsOrDiamond() {
+			return getRuleContexts(TypeArgumentsOrDiamondContext.class);
+		}
+		public TypeArgumentsOrDiamondContext typeArgumentsOrDiamond(int i) {
+			return getRuleContext(TypeArgumentsOrDiamondContext.class,i);
+		}
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
+		}
+		public CreatedNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_createdName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterCreatedName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitCreatedName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitCreatedName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CreatedNameContext createdName() throws RecognitionException {
+		CreatedNameContext _localctx = new CreatedNameContext(_ctx, getState());
+		enterRule(_localctx, 184, RULE_createdName);
+		int _la;
+		try {
+			setState(1207);
+			switch (_input.LA(1)) {
+			case Identifier:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1192);
+				match(Identifier);
+				setState(1194);
+				_la = _input.LA(1);
+				if (_la==LT) {
+					{
+					setState(1193);
+					typeArgumentsOrDiamond();
+					}
+				}
+
+				setState(1203);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==DOT) {
+					{
+					{
+					setState(1196);
+					match(DOT);
+					setState(1197);
+					match(Identifier);
+					setState(1199);
+					_la = _input.LA(1);
+					if (_la==LT) {
+						{
+						setState(1198);
+						typeArgumentsOrDiamond();
+						}
+					}
+
+					}
+					}
+					setState(1205);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case SHORT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1206);
+				primitiveType();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InnerCreatorContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public ClassCreatorRestContext classCreatorRest() {
+			return getRuleContext(ClassCreatorRestContext.class,0);
+		}
+		public NonWildcardTypeArgumentsOrDiamondContext nonWildcardTypeArgumentsOrDiamond() {
+			return getRuleContext(NonWildcardTypeArgumentsOrDiamondContext.class,0);
+		}
+		public InnerCreatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_innerCreator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterInnerCreator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitInnerCreator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitInnerCreator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InnerCreatorContext innerCreator() throws RecognitionException {
+		InnerCreatorContext _localctx = new InnerCreatorContext(_ctx, getState());
+		enterRule(_localctx, 186, RULE_innerCreator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1209);
+			match(Identifier);
+			setState(1211);
+			_la = _input.LA(1);
+			if (_la==LT) {
+				{
+				setState(1210);
+				nonWildcardTypeArgumentsOrDiamond();
+				}
+			}
+
+			setState(1213);
+			classCreatorRest();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArrayCreatorRestContext extends ParserRuleContext {
+		public ArrayInitializerContext arrayInitializer() {
+			return getRuleContext(ArrayInitializerContext.class,0);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ArrayCreatorRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arrayCreatorRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterArrayCreatorRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitArrayCreatorRest(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitArrayCreatorRest(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArrayCreatorRestContext arrayCreatorRest() throws RecognitionException {
+		ArrayCreatorRestContext _localctx = new ArrayCreatorRestContext(_ctx, getState());
+		enterRule(_localctx, 188, RULE_arrayCreatorRest);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1215);
+			match(LBRACK);
+			setState(1243);
+			switch (_input.LA(1)) {
+			case RBRACK:
+				{
+				setState(1216);
+				match(RBRACK);
+				setState(1221);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==LBRACK) {
+					{
+					{
+					setState(1217);
+					match(LBRACK);
+					setState(1218);
+					match(RBRACK);
+					}
+					}
+					setState(1223);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1224);
+				arrayInitializer();
+				}
+				break;
+			case BOOLEAN:
+			case BYTE:
+			case CHAR:
+			case DOUBLE:
+			case FLOAT:
+			case INT:
+			case LONG:
+			case NEW:
+			case SHORT:
+			case SUPER:
+			case THIS:
+			case VOID:
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case CharacterLiteral:
+			case StringLiteral:
+			case NullLiteral:
+			case LPAREN:
+			case LT:
+			case BANG:
+			case TILDE:
+			case INC:
+			case DEC:
+			case ADD:
+			case SUB:
+			case Identifier:
+				{
+				setState(1225);
+				expression(0);
+				setState(1226);
+				match(RBRACK);
+				setState(1233);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,139,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(1227);
+						match(LBRACK);
+						setState(1228);
+						expression(0);
+						setState(1229);
+						match(RBRACK);
+						}
+						} 
+					}
+					setState(1235);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,139,_ctx);
+				}
+				setState(1240);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,140,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(1236);
+						match(LBRACK);
+						setState(1237);
+						match(RBRACK);
+						}
+						} 
+					}
+					setState(1242);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,140,_ctx);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassCreatorRestContext extends ParserRuleContext {
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public ClassBodyContext classBody() {
+			return getRuleContext(ClassBodyContext.class,0);
+		}
+		public ClassCreatorRestContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classCreatorRest; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterClassCreatorRest(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitClassCreatorRest(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitClassCreatorRest(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassCreatorRestContext classCreatorRest() throws RecognitionException {
+		ClassCreatorRestContext _localctx = new ClassCreatorRestContext(_ctx, getState());
+		enterRule(_localctx, 190, RULE_classCreatorRest);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1245);
+			arguments();
+			setState(1247);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,142,_ctx) ) {
+			case 1:
+				{
+				setState(1246);
+				classBody();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExplicitGenericInvocationContext extends ParserRuleContext {
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() {
+			return getRuleContext(ExplicitGenericInvocationSuffixContext.class,0);
+		}
+		public ExplicitGenericInvocationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_explicitGenericInvocation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterExplicitGenericInvocation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitExplicitGenericInvocation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitExplicitGenericInvocation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExplicitGenericInvocationContext explicitGenericInvocation() throws RecognitionException {
+		ExplicitGenericInvocationContext _localctx = new ExplicitGenericInvocationContext(_ctx, getState());
+		enterRule(_localctx, 192, RULE_explicitGenericInvocation);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1249);
+			nonWildcardTypeArguments();
+			setState(1250);
+			explicitGenericInvocationSuffix();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NonWildcardTypeArgumentsContext extends ParserRuleContext {
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public NonWildcardTypeArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nonWildcardTypeArguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterNonWildcardTypeArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitNonWildcardTypeArguments(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitNonWildcardTypeArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final NonWildcardTypeArgumentsContext nonWildcardTypeArguments() throws RecognitionException {
+		NonWildcardTypeArgumentsContext _localctx = new NonWildcardTypeArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 194, RULE_nonWildcardTypeArguments);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1252);
+			match(LT);
+			setState(1253);
+			typeList();
+			setState(1254);
+			match(GT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentsOrDiamondContext extends ParserRuleContext {
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public TypeArgumentsOrDiamondContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArgumentsOrDiamond; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterTypeArgumentsOrDiamond(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitTypeArgumentsOrDiamond(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitTypeArgumentsOrDiamond(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeArgumentsOrDiamondContext typeArgumentsOrDiamond() throws RecognitionException {
+		TypeArgumentsOrDiamondContext _localctx = new TypeArgumentsOrDiamondContext(_ctx, getState());
+		enterRule(_localctx, 196, RULE_typeArgumentsOrDiamond);
+		try {
+			setState(1259);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,143,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1256);
+				match(LT);
+				setState(1257);
+				match(GT);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1258);
+				typeArguments();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NonWildcardTypeArgumentsOrDiamondContext extends ParserRuleContext {
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
+		public NonWildcardTypeArgumentsOrDiamondContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nonWildcardTypeArgumentsOrDiamond; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterNonWildcardTypeArgumentsOrDiamond(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitNonWildcardTypeArgumentsOrDiamond(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitNonWildcardTypeArgumentsOrDiamond(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final NonWildcardTypeArgumentsOrDiamondContext nonWildcardTypeArgumentsOrDiamond() throws RecognitionException {
+		NonWildcardTypeArgumentsOrDiamondContext _localctx = new NonWildcardTypeArgumentsOrDiamondContext(_ctx, getState());
+		enterRule(_localctx, 198, RULE_nonWildcardTypeArgumentsOrDiamond);
+		try {
+			setState(1264);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,144,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1261);
+				match(LT);
+				setState(1262);
+				match(GT);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1263);
+				nonWildcardTypeArguments();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SuperSuffixContext extends ParserRuleContext {
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public SuperSuffixContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_superSuffix; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterSuperSuffix(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitSuperSuffix(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitSuperSuffix(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SuperSuffixContext superSuffix() throws RecognitionException {
+		SuperSuffixContext _localctx = new SuperSuffixContext(_ctx, getState());
+		enterRule(_localctx, 200, RULE_superSuffix);
+		try {
+			setState(1272);
+			switch (_input.LA(1)) {
+			case LPAREN:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1266);
+				arguments();
+				}
+				break;
+			case DOT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1267);
+				match(DOT);
+				setState(1268);
+				match(Identifier);
+				setState(1270);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,145,_ctx) ) {
+				case 1:
+					{
+					setState(1269);
+					arguments();
+					}
+					break;
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExplicitGenericInvocationSuffixContext extends ParserRuleContext {
+		public SuperSuffixContext superSuffix() {
+			return getRuleContext(SuperSuffixContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(JavaParser.Identifier, 0); }
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public ExplicitGenericInvocationSuffixContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_explicitGenericInvocationSuffix; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterExplicitGenericInvocationSuffix(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitExplicitGenericInvocationSuffix(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitExplicitGenericInvocationSuffix(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() throws RecognitionException {
+		ExplicitGenericInvocationSuffixContext _localctx = new ExplicitGenericInvocationSuffixContext(_ctx, getState());
+		enterRule(_localctx, 202, RULE_explicitGenericInvocationSuffix);
+		try {
+			setState(1278);
+			switch (_input.LA(1)) {
+			case SUPER:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1274);
+				match(SUPER);
+				setState(1275);
+				superSuffix();
+				}
+				break;
+			case Identifier:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1276);
+				match(Identifier);
+				setState(1277);
+				arguments();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArgumentsContext extends ParserRuleContext {
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).enterArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof JavaListener ) ((JavaListener)listener).exitArguments(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JavaVisitor ) return ((JavaVisitor<? extends T>)visitor).visitArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArgumentsContext arguments() throws RecognitionException {
+		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 204, RULE_arguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1280);
+			match(LPAREN);
+			setState(1282);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << BYTE) | (1L << CHAR) | (1L << DOUBLE) | (1L << FLOAT) | (1L << INT) | (1L << LONG) | (1L << NEW) | (1L << SHORT) | (1L << SUPER) | (1L << THIS) | (1L << VOID) | (1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << CharacterLiteral) | (1L << StringLiteral) | (1L << NullLiteral) | (1L << LPAREN))) != 0) || ((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & ((1L << (LT - 68)) | (1L << (BANG - 68)) | (1L << (TILDE - 68)) | (1L << (INC - 68)) | (1L << (DEC - 68)) | (1L << (ADD - 68)) | (1L << (SUB - 68)) | (1L << (Identifier - 68)))) != 0)) {
+				{
+				setState(1281);
+				expressionList();
+				}
+			}
+
+			setState(1284);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 89:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 13);
+		case 1:
+			return precpred(_ctx, 12);
+		case 2:
+			return precpred(_ctx, 11);
+		case 3:
+			return precpred(_ctx, 10);
+		case 4:
+			return precpred(_ctx, 8);
+		case 5:
+			return precpred(_ctx, 7);
+		case 6:
+			return precpred(_ctx, 6);
+		case 7:
+			return precpred(_ctx, 5);
+		case 8:
+			return precpred(_ctx, 4);
+		case 9:
+			return precpred(_ctx, 3);
+		case 10:
+			return precpred(_ctx, 2);
+		case 11:
+			return precpred(_ctx, 1);
+		case 12:
+			return precpred(_ctx, 25);
+		case 13:
+			return precpred(_ctx, 24);
+		case 14:
+			return precpred(_ctx, 23);
+		case 15:
+			return precpred(_ctx, 22);
+		case 16:
+			return precpred(_ctx, 21);
+		case 17:
+			return precpred(_ctx, 20);
+		case 18:
+			return precpred(_ctx, 19);
+		case 19:
+			return precpred(_ctx, 16);
+		case 20:
+			return precpred(_ctx, 9);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3k\u0509\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\3\2\5\2\u00d2\n\2"+
+		"\3\2\7\2\u00d5\n\2\f\2\16\2\u00d8\13\2\3\2\7\2\u00db\n\2\f\2\16\2\u00de"+
+		"\13\2\3\2\3\2\3\3\7\3\u00e3\n\3\f\3\16\3\u00e6\13\3\3\3\3\3\3\3\3\3\3"+
+		"\4\3\4\5\4\u00ee\n\4\3\4\3\4\3\4\5\4\u00f3\n\4\3\4\3\4\3\5\7\5\u00f8\n"+
+		"\5\f\5\16\5\u00fb\13\5\3\5\3\5\7\5\u00ff\n\5\f\5\16\5\u0102\13\5\3\5\3"+
+		"\5\7\5\u0106\n\5\f\5\16\5\u0109\13\5\3\5\3\5\7\5\u010d\n\5\f\5\16\5\u0110"+
+		"\13\5\3\5\3\5\5\5\u0114\n\5\3\6\3\6\5\6\u0118\n\6\3\7\3\7\5\7\u011c\n"+
+		"\7\3\b\3\b\5\b\u0120\n\b\3\t\3\t\3\t\5\t\u0125\n\t\3\t\3\t\5\t\u0129\n"+
+		"\t\3\t\3\t\5\t\u012d\n\t\3\t\3\t\3\n\3\n\3\13\3\13\3\13\3\13\7\13\u0137"+
+		"\n\13\f\13\16\13\u013a\13\13\3\13\3\13\3\f\3\f\3\f\5\f\u0141\n\f\3\r\3"+
+		"\r\3\r\7\r\u0146\n\r\f\r\16\r\u0149\13\r\3\16\3\16\3\16\3\16\5\16\u014f"+
+		"\n\16\3\16\3\16\5\16\u0153\n\16\3\16\5\16\u0156\n\16\3\16\5\16\u0159\n"+
+		"\16\3\16\3\16\3\17\3\17\3\17\7\17\u0160\n\17\f\17\16\17\u0163\13\17\3"+
+		"\20\7\20\u0166\n\20\f\20\16\20\u0169\13\20\3\20\3\20\5\20\u016d\n\20\3"+
+		"\20\5\20\u0170\n\20\3\21\3\21\7\21\u0174\n\21\f\21\16\21\u0177\13\21\3"+
+		"\22\3\22\3\22\5\22\u017c\n\22\3\22\3\22\5\22\u0180\n\22\3\22\3\22\3\23"+
+		"\3\23\3\23\7\23\u0187\n\23\f\23\16\23\u018a\13\23\3\24\3\24\7\24\u018e"+
+		"\n\24\f\24\16\24\u0191\13\24\3\24\3\24\3\25\3\25\7\25\u0197\n\25\f\25"+
+		"\16\25\u019a\13\25\3\25\3\25\3\26\3\26\5\26\u01a0\n\26\3\26\3\26\7\26"+
+		"\u01a4\n\26\f\26\16\26\u01a7\13\26\3\26\5\26\u01aa\n\26\3\27\3\27\3\27"+
+		"\3\27\3\27\3\27\3\27\3\27\3\27\5\27\u01b5\n\27\3\30\3\30\5\30\u01b9\n"+
+		"\30\3\30\3\30\3\30\3\30\7\30\u01bf\n\30\f\30\16\30\u01c2\13\30\3\30\3"+
+		"\30\5\30\u01c6\n\30\3\30\3\30\5\30\u01ca\n\30\3\31\3\31\3\32\3\32\3\32"+
+		"\3\33\3\33\3\33\3\33\5\33\u01d5\n\33\3\33\3\33\3\34\3\34\3\34\3\35\3\35"+
+		"\3\35\3\35\3\36\7\36\u01e1\n\36\f\36\16\36\u01e4\13\36\3\36\3\36\5\36"+
+		"\u01e8\n\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u01f1\n\37\3 \3 \3"+
+		" \3 \7 \u01f7\n \f \16 \u01fa\13 \3 \3 \3!\3!\3!\7!\u0201\n!\f!\16!\u0204"+
+		"\13!\3!\3!\3!\3\"\3\"\5\"\u020b\n\"\3\"\3\"\3\"\3\"\7\"\u0211\n\"\f\""+
+		"\16\"\u0214\13\"\3\"\3\"\5\"\u0218\n\"\3\"\3\"\3#\3#\3#\3$\3$\3$\7$\u0222"+
+		"\n$\f$\16$\u0225\13$\3%\3%\3%\5%\u022a\n%\3&\3&\3&\7&\u022f\n&\f&\16&"+
+		"\u0232\13&\3\'\3\'\5\'\u0236\n\'\3(\3(\3(\3(\7(\u023c\n(\f(\16(\u023f"+
+		"\13(\3(\5(\u0242\n(\5(\u0244\n(\3(\3(\3)\3)\3*\3*\3*\7*\u024d\n*\f*\16"+
+		"*\u0250\13*\3*\3*\3*\7*\u0255\n*\f*\16*\u0258\13*\5*\u025a\n*\3+\3+\5"+
+		"+\u025e\n+\3+\3+\3+\5+\u0263\n+\7+\u0265\n+\f+\16+\u0268\13+\3,\3,\3-"+
+		"\3-\3-\3-\7-\u0270\n-\f-\16-\u0273\13-\3-\3-\3.\3.\3.\3.\5.\u027b\n.\5"+
+		".\u027d\n.\3/\3/\3/\7/\u0282\n/\f/\16/\u0285\13/\3\60\3\60\5\60\u0289"+
+		"\n\60\3\60\3\60\3\61\3\61\3\61\7\61\u0290\n\61\f\61\16\61\u0293\13\61"+
+		"\3\61\3\61\5\61\u0297\n\61\3\61\5\61\u029a\n\61\3\62\7\62\u029d\n\62\f"+
+		"\62\16\62\u02a0\13\62\3\62\3\62\3\62\3\63\7\63\u02a6\n\63\f\63\16\63\u02a9"+
+		"\13\63\3\63\3\63\3\63\3\63\3\64\3\64\3\65\3\65\3\66\3\66\3\66\7\66\u02b6"+
+		"\n\66\f\66\16\66\u02b9\13\66\3\67\3\67\38\38\38\38\38\58\u02c2\n8\38\5"+
+		"8\u02c5\n8\39\39\3:\3:\3:\7:\u02cc\n:\f:\16:\u02cf\13:\3;\3;\3;\3;\3<"+
+		"\3<\3<\5<\u02d8\n<\3=\3=\3=\3=\7=\u02de\n=\f=\16=\u02e1\13=\5=\u02e3\n"+
+		"=\3=\5=\u02e6\n=\3=\3=\3>\3>\3>\3>\3>\3?\3?\7?\u02f1\n?\f?\16?\u02f4\13"+
+		"?\3?\3?\3@\7@\u02f9\n@\f@\16@\u02fc\13@\3@\3@\5@\u0300\n@\3A\3A\3A\3A"+
+		"\3A\3A\5A\u0308\nA\3A\3A\5A\u030c\nA\3A\3A\5A\u0310\nA\3A\3A\5A\u0314"+
+		"\nA\5A\u0316\nA\3B\3B\5B\u031a\nB\3C\3C\3C\3C\5C\u0320\nC\3D\3D\3E\3E"+
+		"\3E\3F\3F\7F\u0329\nF\fF\16F\u032c\13F\3F\3F\3G\3G\3G\5G\u0333\nG\3H\3"+
+		"H\3H\3I\7I\u0339\nI\fI\16I\u033c\13I\3I\3I\3I\3J\3J\3J\3J\3J\5J\u0346"+
+		"\nJ\3J\3J\3J\3J\3J\3J\3J\5J\u034f\nJ\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J"+
+		"\3J\3J\3J\3J\3J\3J\3J\3J\6J\u0364\nJ\rJ\16J\u0365\3J\5J\u0369\nJ\3J\5"+
+		"J\u036c\nJ\3J\3J\3J\3J\7J\u0372\nJ\fJ\16J\u0375\13J\3J\5J\u0378\nJ\3J"+
+		"\3J\3J\3J\7J\u037e\nJ\fJ\16J\u0381\13J\3J\7J\u0384\nJ\fJ\16J\u0387\13"+
+		"J\3J\3J\3J\3J\3J\3J\3J\3J\5J\u0391\nJ\3J\3J\3J\3J\3J\3J\3J\5J\u039a\n"+
+		"J\3J\3J\3J\5J\u039f\nJ\3J\3J\3J\3J\3J\3J\3J\3J\5J\u03a9\nJ\3K\3K\3K\7"+
+		"K\u03ae\nK\fK\16K\u03b1\13K\3K\3K\3K\3K\3K\3L\3L\3L\7L\u03bb\nL\fL\16"+
+		"L\u03be\13L\3M\3M\3M\3N\3N\3N\5N\u03c6\nN\3N\3N\3O\3O\3O\7O\u03cd\nO\f"+
+		"O\16O\u03d0\13O\3P\7P\u03d3\nP\fP\16P\u03d6\13P\3P\3P\3P\3P\3P\3Q\6Q\u03de"+
+		"\nQ\rQ\16Q\u03df\3Q\6Q\u03e3\nQ\rQ\16Q\u03e4\3R\3R\3R\3R\3R\3R\3R\3R\3"+
+		"R\3R\5R\u03f1\nR\3S\3S\5S\u03f5\nS\3S\3S\5S\u03f9\nS\3S\3S\5S\u03fd\n"+
+		"S\5S\u03ff\nS\3T\3T\5T\u0403\nT\3U\7U\u0406\nU\fU\16U\u0409\13U\3U\3U"+
+		"\3U\3U\3U\3V\3V\3W\3W\3W\3W\3X\3X\3X\7X\u0419\nX\fX\16X\u041c\13X\3Y\3"+
+		"Y\3Z\3Z\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\5[\u042f\n[\3[\3[\3[\3"+
+		"[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\5[\u043f\n[\3[\3[\3[\3[\3[\3[\3[\3[\3"+
+		"[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3"+
+		"[\3[\3[\3[\3[\3[\3[\3[\3[\3[\5[\u046a\n[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3"+
+		"[\3[\3[\3[\3[\3[\3[\5[\u047c\n[\3[\3[\3[\3[\3[\3[\7[\u0484\n[\f[\16[\u0487"+
+		"\13[\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3"+
+		"\\\3\\\3\\\5\\\u049c\n\\\5\\\u049e\n\\\3]\3]\3]\3]\3]\3]\3]\5]\u04a7\n"+
+		"]\5]\u04a9\n]\3^\3^\5^\u04ad\n^\3^\3^\3^\5^\u04b2\n^\7^\u04b4\n^\f^\16"+
+		"^\u04b7\13^\3^\5^\u04ba\n^\3_\3_\5_\u04be\n_\3_\3_\3`\3`\3`\3`\7`\u04c6"+
+		"\n`\f`\16`\u04c9\13`\3`\3`\3`\3`\3`\3`\3`\7`\u04d2\n`\f`\16`\u04d5\13"+
+		"`\3`\3`\7`\u04d9\n`\f`\16`\u04dc\13`\5`\u04de\n`\3a\3a\5a\u04e2\na\3b"+
+		"\3b\3b\3c\3c\3c\3c\3d\3d\3d\5d\u04ee\nd\3e\3e\3e\5e\u04f3\ne\3f\3f\3f"+
+		"\3f\5f\u04f9\nf\5f\u04fb\nf\3g\3g\3g\3g\5g\u0501\ng\3h\3h\5h\u0505\nh"+
+		"\3h\3h\3h\2\3\u00b4i\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60"+
+		"\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086"+
+		"\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e"+
+		"\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6"+
+		"\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4\u00c6\u00c8\u00ca\u00cc\u00ce"+
+		"\2\17\6\2  ,,\60\60\63\63\6\2\3\3\24\24#%()\n\2\5\5\7\7\n\n\20\20\26\26"+
+		"\35\35\37\37\'\'\4\2\23\23**\3\2\65:\3\2QT\3\2GH\4\2UVZZ\3\2ST\4\2EFL"+
+		"M\4\2KKNN\4\2DD[e\3\2QR\u0579\2\u00d1\3\2\2\2\4\u00e4\3\2\2\2\6\u00eb"+
+		"\3\2\2\2\b\u0113\3\2\2\2\n\u0117\3\2\2\2\f\u011b\3\2\2\2\16\u011f\3\2"+
+		"\2\2\20\u0121\3\2\2\2\22\u0130\3\2\2\2\24\u0132\3\2\2\2\26\u013d\3\2\2"+
+		"\2\30\u0142\3\2\2\2\32\u014a\3\2\2\2\34\u015c\3\2\2\2\36\u0167\3\2\2\2"+
+		" \u0171\3\2\2\2\"\u0178\3\2\2\2$\u0183\3\2\2\2&\u018b\3\2\2\2(\u0194\3"+
+		"\2\2\2*\u01a9\3\2\2\2,\u01b4\3\2\2\2.\u01b8\3\2\2\2\60\u01cb\3\2\2\2\62"+
+		"\u01cd\3\2\2\2\64\u01d0\3\2\2\2\66\u01d8\3\2\2\28\u01db\3\2\2\2:\u01e7"+
+		"\3\2\2\2<\u01f0\3\2\2\2>\u01f2\3\2\2\2@\u01fd\3\2\2\2B\u020a\3\2\2\2D"+
+		"\u021b\3\2\2\2F\u021e\3\2\2\2H\u0226\3\2\2\2J\u022b\3\2\2\2L\u0235\3\2"+
+		"\2\2N\u0237\3\2\2\2P\u0247\3\2\2\2R\u0259\3\2\2\2T\u025b\3\2\2\2V\u0269"+
+		"\3\2\2\2X\u026b\3\2\2\2Z\u027c\3\2\2\2\\\u027e\3\2\2\2^\u0286\3\2\2\2"+
+		"`\u0299\3\2\2\2b\u029e\3\2\2\2d\u02a7\3\2\2\2f\u02ae\3\2\2\2h\u02b0\3"+
+		"\2\2\2j\u02b2\3\2\2\2l\u02ba\3\2\2\2n\u02bc\3\2\2\2p\u02c6\3\2\2\2r\u02c8"+
+		"\3\2\2\2t\u02d0\3\2\2\2v\u02d7\3\2\2\2x\u02d9\3\2\2\2z\u02e9\3\2\2\2|"+
+		"\u02ee\3\2\2\2~\u02ff\3\2\2\2\u0080\u0315\3\2\2\2\u0082\u0319\3\2\2\2"+
+		"\u0084\u031b\3\2\2\2\u0086\u0321\3\2\2\2\u0088\u0323\3\2\2\2\u008a\u0326"+
+		"\3\2\2\2\u008c\u0332\3\2\2\2\u008e\u0334\3\2\2\2\u0090\u033a\3\2\2\2\u0092"+
+		"\u03a8\3\2\2\2\u0094\u03aa\3\2\2\2\u0096\u03b7\3\2\2\2\u0098\u03bf\3\2"+
+		"\2\2\u009a\u03c2\3\2\2\2\u009c\u03c9\3\2\2\2\u009e\u03d4\3\2\2\2\u00a0"+
+		"\u03dd\3\2\2\2\u00a2\u03f0\3\2\2\2\u00a4\u03fe\3\2\2\2\u00a6\u0402\3\2"+
+		"\2\2\u00a8\u0407\3\2\2\2\u00aa\u040f\3\2\2\2\u00ac\u0411\3\2\2\2\u00ae"+
+		"\u0415\3\2\2\2\u00b0\u041d\3\2\2\2\u00b2\u041f\3\2\2\2\u00b4\u042e\3\2"+
+		"\2\2\u00b6\u049d\3\2\2\2\u00b8\u04a8\3\2\2\2\u00ba\u04b9\3\2\2\2\u00bc"+
+		"\u04bb\3\2\2\2\u00be\u04c1\3\2\2\2\u00c0\u04df\3\2\2\2\u00c2\u04e3\3\2"+
+		"\2\2\u00c4\u04e6\3\2\2\2\u00c6\u04ed\3\2\2\2\u00c8\u04f2\3\2\2\2\u00ca"+
+		"\u04fa\3\2\2\2\u00cc\u0500\3\2\2\2\u00ce\u0502\3\2\2\2\u00d0\u00d2\5\4"+
+		"\3\2\u00d1\u00d0\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d6\3\2\2\2\u00d3"+
+		"\u00d5\5\6\4\2\u00d4\u00d3\3\2\2\2\u00d5\u00d8\3\2\2\2\u00d6\u00d4\3\2"+
+		"\2\2\u00d6\u00d7\3\2\2\2\u00d7\u00dc\3\2\2\2\u00d8\u00d6\3\2\2\2\u00d9"+
+		"\u00db\5\b\5\2\u00da\u00d9\3\2\2\2\u00db\u00de\3\2\2\2\u00dc\u00da\3\2"+
+		"\2\2\u00dc\u00dd\3\2\2\2\u00dd\u00df\3\2\2\2\u00de\u00dc\3\2\2\2\u00df"+
+		"\u00e0\7\2\2\3\u00e0\3\3\2\2\2\u00e1\u00e3\5n8\2\u00e2\u00e1\3\2\2\2\u00e3"+
+		"\u00e6\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e4\u00e5\3\2\2\2\u00e5\u00e7\3\2"+
+		"\2\2\u00e6\u00e4\3\2\2\2\u00e7\u00e8\7\"\2\2\u00e8\u00e9\5j\66\2\u00e9"+
+		"\u00ea\7A\2\2\u00ea\5\3\2\2\2\u00eb\u00ed\7\33\2\2\u00ec\u00ee\7(\2\2"+
+		"\u00ed\u00ec\3\2\2\2\u00ed\u00ee\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00f2"+
+		"\5j\66\2\u00f0\u00f1\7C\2\2\u00f1\u00f3\7U\2\2\u00f2\u00f0\3\2\2\2\u00f2"+
+		"\u00f3\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4\u00f5\7A\2\2\u00f5\7\3\2\2\2"+
+		"\u00f6\u00f8\5\f\7\2\u00f7\u00f6\3\2\2\2\u00f8\u00fb\3\2\2\2\u00f9\u00f7"+
+		"\3\2\2\2\u00f9\u00fa\3\2\2\2\u00fa\u00fc\3\2\2\2\u00fb\u00f9\3\2\2\2\u00fc"+
+		"\u0114\5\20\t\2\u00fd\u00ff\5\f\7\2\u00fe\u00fd\3\2\2\2\u00ff\u0102\3"+
+		"\2\2\2\u0100\u00fe\3\2\2\2\u0100\u0101\3\2\2\2\u0101\u0103\3\2\2\2\u0102"+
+		"\u0100\3\2\2\2\u0103\u0114\5\32\16\2\u0104\u0106\5\f\7\2\u0105\u0104\3"+
+		"\2\2\2\u0106\u0109\3\2\2\2\u0107\u0105\3\2\2\2\u0107\u0108\3\2\2\2\u0108"+
+		"\u010a\3\2\2\2\u0109\u0107\3\2\2\2\u010a\u0114\5\"\22\2\u010b\u010d\5"+
+		"\f\7\2\u010c\u010b\3\2\2\2\u010d\u0110\3\2\2\2\u010e\u010c\3\2\2\2\u010e"+
+		"\u010f\3\2\2\2\u010f\u0111\3\2\2\2\u0110\u010e\3\2\2\2\u0111\u0114\5z"+
+		">\2\u0112\u0114\7A\2\2\u0113\u00f9\3\2\2\2\u0113\u0100\3\2\2\2\u0113\u0107"+
+		"\3\2\2\2\u0113\u010e\3\2\2\2\u0113\u0112\3\2\2\2\u0114\t\3\2\2\2\u0115"+
+		"\u0118\5\f\7\2\u0116\u0118\t\2\2\2\u0117\u0115\3\2\2\2\u0117\u0116\3\2"+
+		"\2\2\u0118\13\3\2\2\2\u0119\u011c\5n8\2\u011a\u011c\t\3\2\2\u011b\u0119"+
+		"\3\2\2\2\u011b\u011a\3\2\2\2\u011c\r\3\2\2\2\u011d\u0120\7\24\2\2\u011e"+
+		"\u0120\5n8\2\u011f\u011d\3\2\2\2\u011f\u011e\3\2\2\2\u0120\17\3\2\2\2"+
+		"\u0121\u0122\7\13\2\2\u0122\u0124\5\22\n\2\u0123\u0125\5\24\13\2\u0124"+
+		"\u0123\3\2\2\2\u0124\u0125\3\2\2\2\u0125\u0128\3\2\2\2\u0126\u0127\7\23"+
+		"\2\2\u0127\u0129\5R*\2\u0128\u0126\3\2\2\2\u0128\u0129\3\2\2\2\u0129\u012c"+
+		"\3\2\2\2\u012a\u012b\7\32\2\2\u012b\u012d\5$\23\2\u012c\u012a\3\2\2\2"+
+		"\u012c\u012d\3\2\2\2\u012d\u012e\3\2\2\2\u012e\u012f\5&\24\2\u012f\21"+
+		"\3\2\2\2\u0130\u0131\7f\2\2\u0131\23\3\2\2\2\u0132\u0133\7F\2\2\u0133"+
+		"\u0138\5\26\f\2\u0134\u0135\7B\2\2\u0135\u0137\5\26\f\2\u0136\u0134\3"+
+		"\2\2\2\u0137\u013a\3\2\2\2\u0138\u0136\3\2\2\2\u0138\u0139\3\2\2\2\u0139"+
+		"\u013b\3\2\2\2\u013a\u0138\3\2\2\2\u013b\u013c\7E\2\2\u013c\25\3\2\2\2"+
+		"\u013d\u0140\7f\2\2\u013e\u013f\7\23\2\2\u013f\u0141\5\30\r\2\u0140\u013e"+
+		"\3\2\2\2\u0140\u0141\3\2\2\2\u0141\27\3\2\2\2\u0142\u0147\5R*\2\u0143"+
+		"\u0144\7W\2\2\u0144\u0146\5R*\2\u0145\u0143\3\2\2\2\u0146\u0149\3\2\2"+
+		"\2\u0147\u0145\3\2\2\2\u0147\u0148\3\2\2\2\u0148\31\3\2\2\2\u0149\u0147"+
+		"\3\2\2\2\u014a\u014b\7\22\2\2\u014b\u014e\7f\2\2\u014c\u014d\7\32\2\2"+
+		"\u014d\u014f\5$\23\2\u014e\u014c\3\2\2\2\u014e\u014f\3\2\2\2\u014f\u0150"+
+		"\3\2\2\2\u0150\u0152\7=\2\2\u0151\u0153\5\34\17\2\u0152\u0151\3\2\2\2"+
+		"\u0152\u0153\3\2\2\2\u0153\u0155\3\2\2\2\u0154\u0156\7B\2\2\u0155\u0154"+
+		"\3\2\2\2\u0155\u0156\3\2\2\2\u0156\u0158\3\2\2\2\u0157\u0159\5 \21\2\u0158"+
+		"\u0157\3\2\2\2\u0158\u0159\3\2\2\2\u0159\u015a\3\2\2\2\u015a\u015b\7>"+
+		"\2\2\u015b\33\3\2\2\2\u015c\u0161\5\36\20\2\u015d\u015e\7B\2\2\u015e\u0160"+
+		"\5\36\20\2\u015f\u015d\3\2\2\2\u0160\u0163\3\2\2\2\u0161\u015f\3\2\2\2"+
+		"\u0161\u0162\3\2\2\2\u0162\35\3\2\2\2\u0163\u0161\3\2\2\2\u0164\u0166"+
+		"\5n8\2\u0165\u0164\3\2\2\2\u0166\u0169\3\2\2\2\u0167\u0165\3\2\2\2\u0167"+
+		"\u0168\3\2\2\2\u0168\u016a\3\2\2\2\u0169\u0167\3\2\2\2\u016a\u016c\7f"+
+		"\2\2\u016b\u016d\5\u00ceh\2\u016c\u016b\3\2\2\2\u016c\u016d\3\2\2\2\u016d"+
+		"\u016f\3\2\2\2\u016e\u0170\5&\24\2\u016f\u016e\3\2\2\2\u016f\u0170\3\2"+
+		"\2\2\u0170\37\3\2\2\2\u0171\u0175\7A\2\2\u0172\u0174\5*\26\2\u0173\u0172"+
+		"\3\2\2\2\u0174\u0177\3\2\2\2\u0175\u0173\3\2\2\2\u0175\u0176\3\2\2\2\u0176"+
+		"!\3\2\2\2\u0177\u0175\3\2\2\2\u0178\u0179\7\36\2\2\u0179\u017b\7f\2\2"+
+		"\u017a\u017c\5\24\13\2\u017b\u017a\3\2\2\2\u017b\u017c\3\2\2\2\u017c\u017f"+
+		"\3\2\2\2\u017d\u017e\7\23\2\2\u017e\u0180\5$\23\2\u017f\u017d\3\2\2\2"+
+		"\u017f\u0180\3\2\2\2\u0180\u0181\3\2\2\2\u0181\u0182\5(\25\2\u0182#\3"+
+		"\2\2\2\u0183\u0188\5R*\2\u0184\u0185\7B\2\2\u0185\u0187\5R*\2\u0186\u0184"+
+		"\3\2\2\2\u0187\u018a\3\2\2\2\u0188\u0186\3\2\2\2\u0188\u0189\3\2\2\2\u0189"+
+		"%\3\2\2\2\u018a\u0188\3\2\2\2\u018b\u018f\7=\2\2\u018c\u018e\5*\26\2\u018d"+
+		"\u018c\3\2\2\2\u018e\u0191\3\2\2\2\u018f\u018d\3\2\2\2\u018f\u0190\3\2"+
+		"\2\2\u0190\u0192\3\2\2\2\u0191\u018f\3\2\2\2\u0192\u0193\7>\2\2\u0193"+
+		"\'\3\2\2\2\u0194\u0198\7=\2\2\u0195\u0197\5:\36\2\u0196\u0195\3\2\2\2"+
+		"\u0197\u019a\3\2\2\2\u0198\u0196\3\2\2\2\u0198\u0199\3\2\2\2\u0199\u019b"+
+		"\3\2\2\2\u019a\u0198\3\2\2\2\u019b\u019c\7>\2\2\u019c)\3\2\2\2\u019d\u01aa"+
+		"\7A\2\2\u019e\u01a0\7(\2\2\u019f\u019e\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0"+
+		"\u01a1\3\2\2\2\u01a1\u01aa\5\u008aF\2\u01a2\u01a4\5\n\6\2\u01a3\u01a2"+
+		"\3\2\2\2\u01a4\u01a7\3\2\2\2\u01a5\u01a3\3\2\2\2\u01a5\u01a6\3\2\2\2\u01a6"+
+		"\u01a8\3\2\2\2\u01a7\u01a5\3\2\2\2\u01a8\u01aa\5,\27\2\u01a9\u019d\3\2"+
+		"\2\2\u01a9\u019f\3\2\2\2\u01a9\u01a5\3\2\2\2\u01aa+\3\2\2\2\u01ab\u01b5"+
+		"\5.\30\2\u01ac\u01b5\5\62\32\2\u01ad\u01b5\58\35\2\u01ae\u01b5\5\64\33"+
+		"\2\u01af\u01b5\5\66\34\2\u01b0\u01b5\5\"\22\2\u01b1\u01b5\5z>\2\u01b2"+
+		"\u01b5\5\20\t\2\u01b3\u01b5\5\32\16\2\u01b4\u01ab\3\2\2\2\u01b4\u01ac"+
+		"\3\2\2\2\u01b4\u01ad\3\2\2\2\u01b4\u01ae\3\2\2\2\u01b4\u01af\3\2\2\2\u01b4"+
+		"\u01b0\3\2\2\2\u01b4\u01b1\3\2\2\2\u01b4\u01b2\3\2\2\2\u01b4\u01b3\3\2"+
+		"\2\2\u01b5-\3\2\2\2\u01b6\u01b9\5R*\2\u01b7\u01b9\7\62\2\2\u01b8\u01b6"+
+		"\3\2\2\2\u01b8\u01b7\3\2\2\2\u01b9\u01ba\3\2\2\2\u01ba\u01bb\5\60\31\2"+
+		"\u01bb\u01c0\5^\60\2\u01bc\u01bd\7?\2\2\u01bd\u01bf\7@\2\2\u01be\u01bc"+
+		"\3\2\2\2\u01bf\u01c2\3\2\2\2\u01c0\u01be\3\2\2\2\u01c0\u01c1\3\2\2\2\u01c1"+
+		"\u01c5\3\2\2\2\u01c2\u01c0\3\2\2\2\u01c3\u01c4\7/\2\2\u01c4\u01c6\5\\"+
+		"/\2\u01c5\u01c3\3\2\2\2\u01c5\u01c6\3\2\2\2\u01c6\u01c9\3\2\2\2\u01c7"+
+		"\u01ca\5f\64\2\u01c8\u01ca\7A\2\2\u01c9\u01c7\3\2\2\2\u01c9\u01c8\3\2"+
+		"\2\2\u01ca/\3\2\2\2\u01cb\u01cc\7f\2\2\u01cc\61\3\2\2\2\u01cd\u01ce\5"+
+		"\24\13\2\u01ce\u01cf\5.\30\2\u01cf\63\3\2\2\2\u01d0\u01d1\7f\2\2\u01d1"+
+		"\u01d4\5^\60\2\u01d2\u01d3\7/\2\2\u01d3\u01d5\5\\/\2\u01d4\u01d2\3\2\2"+
+		"\2\u01d4\u01d5\3\2\2\2\u01d5\u01d6\3\2\2\2\u01d6\u01d7\5h\65\2\u01d7\65"+
+		"\3\2\2\2\u01d8\u01d9\5\24\13\2\u01d9\u01da\5\64\33\2\u01da\67\3\2\2\2"+
+		"\u01db\u01dc\5R*\2\u01dc\u01dd\5F$\2\u01dd\u01de\7A\2\2\u01de9\3\2\2\2"+
+		"\u01df\u01e1\5\n\6\2\u01e0\u01df\3\2\2\2\u01e1\u01e4\3\2\2\2\u01e2\u01e0"+
+		"\3\2\2\2\u01e2\u01e3\3\2\2\2\u01e3\u01e5\3\2\2\2\u01e4\u01e2\3\2\2\2\u01e5"+
+		"\u01e8\5<\37\2\u01e6\u01e8\7A\2\2\u01e7\u01e2\3\2\2\2\u01e7\u01e6\3\2"+
+		"\2\2\u01e8;\3\2\2\2\u01e9\u01f1\5> \2\u01ea\u01f1\5B\"\2\u01eb\u01f1\5"+
+		"D#\2\u01ec\u01f1\5\"\22\2\u01ed\u01f1\5z>\2\u01ee\u01f1\5\20\t\2\u01ef"+
+		"\u01f1\5\32\16\2\u01f0\u01e9\3\2\2\2\u01f0\u01ea\3\2\2\2\u01f0\u01eb\3"+
+		"\2\2\2\u01f0\u01ec\3\2\2\2\u01f0\u01ed\3\2\2\2\u01f0\u01ee\3\2\2\2\u01f0"+
+		"\u01ef\3\2\2\2\u01f1=\3\2\2\2\u01f2\u01f3\5R*\2\u01f3\u01f8\5@!\2\u01f4"+
+		"\u01f5\7B\2\2\u01f5\u01f7\5@!\2\u01f6\u01f4\3\2\2\2\u01f7\u01fa\3\2\2"+
+		"\2\u01f8\u01f6\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9\u01fb\3\2\2\2\u01fa\u01f8"+
+		"\3\2\2\2\u01fb\u01fc\7A\2\2\u01fc?\3\2\2\2\u01fd\u0202\7f\2\2\u01fe\u01ff"+
+		"\7?\2\2\u01ff\u0201\7@\2\2\u0200\u01fe\3\2\2\2\u0201\u0204\3\2\2\2\u0202"+
+		"\u0200\3\2\2\2\u0202\u0203\3\2\2\2\u0203\u0205\3\2\2\2\u0204\u0202\3\2"+
+		"\2\2\u0205\u0206\7D\2\2\u0206\u0207\5L\'\2\u0207A\3\2\2\2\u0208\u020b"+
+		"\5R*\2\u0209\u020b\7\62\2\2\u020a\u0208\3\2\2\2\u020a\u0209\3\2\2\2\u020b"+
+		"\u020c\3\2\2\2\u020c\u020d\7f\2\2\u020d\u0212\5^\60\2\u020e\u020f\7?\2"+
+		"\2\u020f\u0211\7@\2\2\u0210\u020e\3\2\2\2\u0211\u0214\3\2\2\2\u0212\u0210"+
+		"\3\2\2\2\u0212\u0213\3\2\2\2\u0213\u0217\3\2\2\2\u0214\u0212\3\2\2\2\u0215"+
+		"\u0216\7/\2\2\u0216\u0218\5\\/\2\u0217\u0215\3\2\2\2\u0217\u0218\3\2\2"+
+		"\2\u0218\u0219\3\2\2\2\u0219\u021a\7A\2\2\u021aC\3\2\2\2\u021b\u021c\5"+
+		"\24\13\2\u021c\u021d\5B\"\2\u021dE\3\2\2\2\u021e\u0223\5H%\2\u021f\u0220"+
+		"\7B\2\2\u0220\u0222\5H%\2\u0221\u021f\3\2\2\2\u0222\u0225\3\2\2\2\u0223"+
+		"\u0221\3\2\2\2\u0223\u0224\3\2\2\2\u0224G\3\2\2\2\u0225\u0223\3\2\2\2"+
+		"\u0226\u0229\5J&\2\u0227\u0228\7D\2\2\u0228\u022a\5L\'\2\u0229\u0227\3"+
+		"\2\2\2\u0229\u022a\3\2\2\2\u022aI\3\2\2\2\u022b\u0230\7f\2\2\u022c\u022d"+
+		"\7?\2\2\u022d\u022f\7@\2\2\u022e\u022c\3\2\2\2\u022f\u0232\3\2\2\2\u0230"+
+		"\u022e\3\2\2\2\u0230\u0231\3\2\2\2\u0231K\3\2\2\2\u0232\u0230\3\2\2\2"+
+		"\u0233\u0236\5N(\2\u0234\u0236\5\u00b4[\2\u0235\u0233\3\2\2\2\u0235\u0234"+
+		"\3\2\2\2\u0236M\3\2\2\2\u0237\u0243\7=\2\2\u0238\u023d\5L\'\2\u0239\u023a"+
+		"\7B\2\2\u023a\u023c\5L\'\2\u023b\u0239\3\2\2\2\u023c\u023f\3\2\2\2\u023d"+
+		"\u023b\3\2\2\2\u023d\u023e\3\2\2\2\u023e\u0241\3\2\2\2\u023f\u023d\3\2"+
+		"\2\2\u0240\u0242\7B\2\2\u0241\u0240\3\2\2\2\u0241\u0242\3\2\2\2\u0242"+
+		"\u0244\3\2\2\2\u0243\u0238\3\2\2\2\u0243\u0244\3\2\2\2\u0244\u0245\3\2"+
+		"\2\2\u0245\u0246\7>\2\2\u0246O\3\2\2\2\u0247\u0248\7f\2\2\u0248Q\3\2\2"+
+		"\2\u0249\u024e\5T+\2\u024a\u024b\7?\2\2\u024b\u024d\7@\2\2\u024c\u024a"+
+		"\3\2\2\2\u024d\u0250\3\2\2\2\u024e\u024c\3\2\2\2\u024e\u024f\3\2\2\2\u024f"+
+		"\u025a\3\2\2\2\u0250\u024e\3\2\2\2\u0251\u0256\5V,\2\u0252\u0253\7?\2"+
+		"\2\u0253\u0255\7@\2\2\u0254\u0252\3\2\2\2\u0255\u0258\3\2\2\2\u0256\u0254"+
+		"\3\2\2\2\u0256\u0257\3\2\2\2\u0257\u025a\3\2\2\2\u0258\u0256\3\2\2\2\u0259"+
+		"\u0249\3\2\2\2\u0259\u0251\3\2\2\2\u025aS\3\2\2\2\u025b\u025d\7f\2\2\u025c"+
+		"\u025e\5X-\2\u025d\u025c\3\2\2\2\u025d\u025e\3\2\2\2\u025e\u0266\3\2\2"+
+		"\2\u025f\u0260\7C\2\2\u0260\u0262\7f\2\2\u0261\u0263\5X-\2\u0262\u0261"+
+		"\3\2\2\2\u0262\u0263\3\2\2\2\u0263\u0265\3\2\2\2\u0264\u025f\3\2\2\2\u0265"+
+		"\u0268\3\2\2\2\u0266\u0264\3\2\2\2\u0266\u0267\3\2\2\2\u0267U\3\2\2\2"+
+		"\u0268\u0266\3\2\2\2\u0269\u026a\t\4\2\2\u026aW\3\2\2\2\u026b\u026c\7"+
+		"F\2\2\u026c\u0271\5Z.\2\u026d\u026e\7B\2\2\u026e\u0270\5Z.\2\u026f\u026d"+
+		"\3\2\2\2\u0270\u0273\3\2\2\2\u0271\u026f\3\2\2\2\u0271\u0272\3\2\2\2\u0272"+
+		"\u0274\3\2\2\2\u0273\u0271\3\2\2\2\u0274\u0275\7E\2\2\u0275Y\3\2\2\2\u0276"+
+		"\u027d\5R*\2\u0277\u027a\7I\2\2\u0278\u0279\t\5\2\2\u0279\u027b\5R*\2"+
+		"\u027a\u0278\3\2\2\2\u027a\u027b\3\2\2\2\u027b\u027d\3\2\2\2\u027c\u0276"+
+		"\3\2\2\2\u027c\u0277\3\2\2\2\u027d[\3\2\2\2\u027e\u0283\5j\66\2\u027f"+
+		"\u0280\7B\2\2\u0280\u0282\5j\66\2\u0281\u027f\3\2\2\2\u0282\u0285\3\2"+
+		"\2\2\u0283\u0281\3\2\2\2\u0283\u0284\3\2\2\2\u0284]\3\2\2\2\u0285\u0283"+
+		"\3\2\2\2\u0286\u0288\7;\2\2\u0287\u0289\5`\61\2\u0288\u0287\3\2\2\2\u0288"+
+		"\u0289\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u028b\7<\2\2\u028b_\3\2\2\2\u028c"+
+		"\u0291\5b\62\2\u028d\u028e\7B\2\2\u028e\u0290\5b\62\2\u028f\u028d\3\2"+
+		"\2\2\u0290\u0293\3\2\2\2\u0291\u028f\3\2\2\2\u0291\u0292\3\2\2\2\u0292"+
+		"\u0296\3\2\2\2\u0293\u0291\3\2\2\2\u0294\u0295\7B\2\2\u0295\u0297\5d\63"+
+		"\2\u0296\u0294\3\2\2\2\u0296\u0297\3\2\2\2\u0297\u029a\3\2\2\2\u0298\u029a"+
+		"\5d\63\2\u0299\u028c\3\2\2\2\u0299\u0298\3\2\2\2\u029aa\3\2\2\2\u029b"+
+		"\u029d\5\16\b\2\u029c\u029b\3\2\2\2\u029d\u02a0\3\2\2\2\u029e\u029c\3"+
+		"\2\2\2\u029e\u029f\3\2\2\2\u029f\u02a1\3\2\2\2\u02a0\u029e\3\2\2\2\u02a1"+
+		"\u02a2\5R*\2\u02a2\u02a3\5J&\2\u02a3c\3\2\2\2\u02a4\u02a6\5\16\b\2\u02a5"+
+		"\u02a4\3\2\2\2\u02a6\u02a9\3\2\2\2\u02a7\u02a5\3\2\2\2\u02a7\u02a8\3\2"+
+		"\2\2\u02a8\u02aa\3\2\2\2\u02a9\u02a7\3\2\2\2\u02aa\u02ab\5R*\2\u02ab\u02ac"+
+		"\7h\2\2\u02ac\u02ad\5J&\2\u02ade\3\2\2\2\u02ae\u02af\5\u008aF\2\u02af"+
+		"g\3\2\2\2\u02b0\u02b1\5\u008aF\2\u02b1i\3\2\2\2\u02b2\u02b7\7f\2\2\u02b3"+
+		"\u02b4\7C\2\2\u02b4\u02b6\7f\2\2\u02b5\u02b3\3\2\2\2\u02b6\u02b9\3\2\2"+
+		"\2\u02b7\u02b5\3\2\2\2\u02b7\u02b8\3\2\2\2\u02b8k\3\2\2\2\u02b9\u02b7"+
+		"\3\2\2\2\u02ba\u02bb\t\6\2\2\u02bbm\3\2\2\2\u02bc\u02bd\7g\2\2\u02bd\u02c4"+
+		"\5p9\2\u02be\u02c1\7;\2\2\u02bf\u02c2\5r:\2\u02c0\u02c2\5v<\2\u02c1\u02bf"+
+		"\3\2\2\2\u02c1\u02c0\3\2\2\2\u02c1\u02c2\3\2\2\2\u02c2\u02c3\3\2\2\2\u02c3"+
+		"\u02c5\7<\2\2\u02c4\u02be\3\2\2\2\u02c4\u02c5\3\2\2\2\u02c5o\3\2\2\2\u02c6"+
+		"\u02c7\5j\66\2\u02c7q\3\2\2\2\u02c8\u02cd\5t;\2\u02c9\u02ca\7B\2\2\u02ca"+
+		"\u02cc\5t;\2\u02cb\u02c9\3\2\2\2\u02cc\u02cf\3\2\2\2\u02cd\u02cb\3\2\2"+
+		"\2\u02cd\u02ce\3\2\2\2\u02ces\3\2\2\2\u02cf\u02cd\3\2\2\2\u02d0\u02d1"+
+		"\7f\2\2\u02d1\u02d2\7D\2\2\u02d2\u02d3\5v<\2\u02d3u\3\2\2\2\u02d4\u02d8"+
+		"\5\u00b4[\2\u02d5\u02d8\5n8\2\u02d6\u02d8\5x=\2\u02d7\u02d4\3\2\2\2\u02d7"+
+		"\u02d5\3\2\2\2\u02d7\u02d6\3\2\2\2\u02d8w\3\2\2\2\u02d9\u02e2\7=\2\2\u02da"+
+		"\u02df\5v<\2\u02db\u02dc\7B\2\2\u02dc\u02de\5v<\2\u02dd\u02db\3\2\2\2"+
+		"\u02de\u02e1\3\2\2\2\u02df\u02dd\3\2\2\2\u02df\u02e0\3\2\2\2\u02e0\u02e3"+
+		"\3\2\2\2\u02e1\u02df\3\2\2\2\u02e2\u02da\3\2\2\2\u02e2\u02e3\3\2\2\2\u02e3"+
+		"\u02e5\3\2\2\2\u02e4\u02e6\7B\2\2\u02e5\u02e4\3\2\2\2\u02e5\u02e6\3\2"+
+		"\2\2\u02e6\u02e7\3\2\2\2\u02e7\u02e8\7>\2\2\u02e8y\3\2\2\2\u02e9\u02ea"+
+		"\7g\2\2\u02ea\u02eb\7\36\2\2\u02eb\u02ec\7f\2\2\u02ec\u02ed\5|?\2\u02ed"+
+		"{\3\2\2\2\u02ee\u02f2\7=\2\2\u02ef\u02f1\5~@\2\u02f0\u02ef\3\2\2\2\u02f1"+
+		"\u02f4\3\2\2\2\u02f2\u02f0\3\2\2\2\u02f2\u02f3\3\2\2\2\u02f3\u02f5\3\2"+
+		"\2\2\u02f4\u02f2\3\2\2\2\u02f5\u02f6\7>\2\2\u02f6}\3\2\2\2\u02f7\u02f9"+
+		"\5\n\6\2\u02f8\u02f7\3\2\2\2\u02f9\u02fc\3\2\2\2\u02fa\u02f8\3\2\2\2\u02fa"+
+		"\u02fb\3\2\2\2\u02fb\u02fd\3\2\2\2\u02fc\u02fa\3\2\2\2\u02fd\u0300\5\u0080"+
+		"A\2\u02fe\u0300\7A\2\2\u02ff\u02fa\3\2\2\2\u02ff\u02fe\3\2\2\2\u0300\177"+
+		"\3\2\2\2\u0301\u0302\5R*\2\u0302\u0303\5\u0082B\2\u0303\u0304\7A\2\2\u0304"+
+		"\u0316\3\2\2\2\u0305\u0307\5\20\t\2\u0306\u0308\7A\2\2\u0307\u0306\3\2"+
+		"\2\2\u0307\u0308\3\2\2\2\u0308\u0316\3\2\2\2\u0309\u030b\5\"\22\2\u030a"+
+		"\u030c\7A\2\2\u030b\u030a\3\2\2\2\u030b\u030c\3\2\2\2\u030c\u0316\3\2"+
+		"\2\2\u030d\u030f\5\32\16\2\u030e\u0310\7A\2\2\u030f\u030e\3\2\2\2\u030f"+
+		"\u0310\3\2\2\2\u0310\u0316\3\2\2\2\u0311\u0313\5z>\2\u0312\u0314\7A\2"+
+		"\2\u0313\u0312\3\2\2\2\u0313\u0314\3\2\2\2\u0314\u0316\3\2\2\2\u0315\u0301"+
+		"\3\2\2\2\u0315\u0305\3\2\2\2\u0315\u0309\3\2\2\2\u0315\u030d\3\2\2\2\u0315"+
+		"\u0311\3\2\2\2\u0316\u0081\3\2\2\2\u0317\u031a\5\u0084C\2\u0318\u031a"+
+		"\5\u0086D\2\u0319\u0317\3\2\2\2\u0319\u0318\3\2\2\2\u031a\u0083\3\2\2"+
+		"\2\u031b\u031c\7f\2\2\u031c\u031d\7;\2\2\u031d\u031f\7<\2\2\u031e\u0320"+
+		"\5\u0088E\2\u031f\u031e\3\2\2\2\u031f\u0320\3\2\2\2\u0320\u0085\3\2\2"+
+		"\2\u0321\u0322\5F$\2\u0322\u0087\3\2\2\2\u0323\u0324\7\16\2\2\u0324\u0325"+
+		"\5v<\2\u0325\u0089\3\2\2\2\u0326\u032a\7=\2\2\u0327\u0329\5\u008cG\2\u0328"+
+		"\u0327\3\2\2\2\u0329\u032c\3\2\2\2\u032a\u0328\3\2\2\2\u032a\u032b\3\2"+
+		"\2\2\u032b\u032d\3\2\2\2\u032c\u032a\3\2\2\2\u032d\u032e\7>\2\2\u032e"+
+		"\u008b\3\2\2\2\u032f\u0333\5\u008eH\2\u0330\u0333\5\u0092J\2\u0331\u0333"+
+		"\5\b\5\2\u0332\u032f\3\2\2\2\u0332\u0330\3\2\2\2\u0332\u0331\3\2\2\2\u0333"+
+		"\u008d\3\2\2\2\u0334\u0335\5\u0090I\2\u0335\u0336\7A\2\2\u0336\u008f\3"+
+		"\2\2\2\u0337\u0339\5\16\b\2\u0338\u0337\3\2\2\2\u0339\u033c\3\2\2\2\u033a"+
+		"\u0338\3\2\2\2\u033a\u033b\3\2\2\2\u033b\u033d\3\2\2\2\u033c\u033a\3\2"+
+		"\2\2\u033d\u033e\5R*\2\u033e\u033f\5F$\2\u033f\u0091\3\2\2\2\u0340\u03a9"+
+		"\5\u008aF\2\u0341\u0342\7\4\2\2\u0342\u0345\5\u00b4[\2\u0343\u0344\7J"+
+		"\2\2\u0344\u0346\5\u00b4[\2\u0345\u0343\3\2\2\2\u0345\u0346\3\2\2\2\u0346"+
+		"\u0347\3\2\2\2\u0347\u0348\7A\2\2\u0348\u03a9\3\2\2\2\u0349\u034a\7\30"+
+		"\2\2\u034a\u034b\5\u00acW\2\u034b\u034e\5\u0092J\2\u034c\u034d\7\21\2"+
+		"\2\u034d\u034f\5\u0092J\2\u034e\u034c\3\2\2\2\u034e\u034f\3\2\2\2\u034f"+
+		"\u03a9\3\2\2\2\u0350\u0351\7\27\2\2\u0351\u0352\7;\2\2\u0352\u0353\5\u00a4"+
+		"S\2\u0353\u0354\7<\2\2\u0354\u0355\5\u0092J\2\u0355\u03a9\3\2\2\2\u0356"+
+		"\u0357\7\64\2\2\u0357\u0358\5\u00acW\2\u0358\u0359\5\u0092J\2\u0359\u03a9"+
+		"\3\2\2\2\u035a\u035b\7\17\2\2\u035b\u035c\5\u0092J\2\u035c\u035d\7\64"+
+		"\2\2\u035d\u035e\5\u00acW\2\u035e\u035f\7A\2\2\u035f\u03a9\3\2\2\2\u0360"+
+		"\u0361\7\61\2\2\u0361\u036b\5\u008aF\2\u0362\u0364\5\u0094K\2\u0363\u0362"+
+		"\3\2\2\2\u0364\u0365\3\2\2\2\u0365\u0363\3\2\2\2\u0365\u0366\3\2\2\2\u0366"+
+		"\u0368\3\2\2\2\u0367\u0369\5\u0098M\2\u0368\u0367\3\2\2\2\u0368\u0369"+
+		"\3\2\2\2\u0369\u036c\3\2\2\2\u036a\u036c\5\u0098M\2\u036b\u0363\3\2\2"+
+		"\2\u036b\u036a\3\2\2\2\u036c\u03a9\3\2\2\2\u036d\u036e\7\61\2\2\u036e"+
+		"\u036f\5\u009aN\2\u036f\u0373\5\u008aF\2\u0370\u0372\5\u0094K\2\u0371"+
+		"\u0370\3\2\2\2\u0372\u0375\3\2\2\2\u0373\u0371\3\2\2\2\u0373\u0374\3\2"+
+		"\2\2\u0374\u0377\3\2\2\2\u0375\u0373\3\2\2\2\u0376\u0378\5\u0098M\2\u0377"+
+		"\u0376\3\2\2\2\u0377\u0378\3\2\2\2\u0378\u03a9\3\2\2\2\u0379\u037a\7+"+
+		"\2\2\u037a\u037b\5\u00acW\2\u037b\u037f\7=\2\2\u037c\u037e\5\u00a0Q\2"+
+		"\u037d\u037c\3\2\2\2\u037e\u0381\3\2\2\2\u037f\u037d\3\2\2\2\u037f\u0380"+
+		"\3\2\2\2\u0380\u0385\3\2\2\2\u0381\u037f\3\2\2\2\u0382\u0384\5\u00a2R"+
+		"\2\u0383\u0382\3\2\2\2\u0384\u0387\3\2\2\2\u0385\u0383\3\2\2\2\u0385\u0386"+
+		"\3\2\2\2\u0386\u0388\3\2\2\2\u0387\u0385\3\2\2\2\u0388\u0389\7>\2\2\u0389"+
+		"\u03a9\3\2\2\2\u038a\u038b\7,\2\2\u038b\u038c\5\u00acW\2\u038c\u038d\5"+
+		"\u008aF\2\u038d\u03a9\3\2\2\2\u038e\u0390\7&\2\2\u038f\u0391\5\u00b4["+
+		"\2\u0390\u038f\3\2\2\2\u0390\u0391\3\2\2\2\u0391\u0392\3\2\2\2\u0392\u03a9"+
+		"\7A\2\2\u0393\u0394\7.\2\2\u0394\u0395\5\u00b4[\2\u0395\u0396\7A\2\2\u0396"+
+		"\u03a9\3\2\2\2\u0397\u0399\7\6\2\2\u0398\u039a\7f\2\2\u0399\u0398\3\2"+
+		"\2\2\u0399\u039a\3\2\2\2\u039a\u039b\3\2\2\2\u039b\u03a9\7A\2\2\u039c"+
+		"\u039e\7\r\2\2\u039d\u039f\7f\2\2\u039e\u039d\3\2\2\2\u039e\u039f\3\2"+
+		"\2\2\u039f\u03a0\3\2\2\2\u03a0\u03a9\7A\2\2\u03a1\u03a9\7A\2\2\u03a2\u03a3"+
+		"\5\u00b0Y\2\u03a3\u03a4\7A\2\2\u03a4\u03a9\3\2\2\2\u03a5\u03a6\7f\2\2"+
+		"\u03a6\u03a7\7J\2\2\u03a7\u03a9\5\u0092J\2\u03a8\u0340\3\2\2\2\u03a8\u0341"+
+		"\3\2\2\2\u03a8\u0349\3\2\2\2\u03a8\u0350\3\2\2\2\u03a8\u0356\3\2\2\2\u03a8"+
+		"\u035a\3\2\2\2\u03a8\u0360\3\2\2\2\u03a8\u036d\3\2\2\2\u03a8\u0379\3\2"+
+		"\2\2\u03a8\u038a\3\2\2\2\u03a8\u038e\3\2\2\2\u03a8\u0393\3\2\2\2\u03a8"+
+		"\u0397\3\2\2\2\u03a8\u039c\3\2\2\2\u03a8\u03a1\3\2\2\2\u03a8\u03a2\3\2"+
+		"\2\2\u03a8\u03a5\3\2\2\2\u03a9\u0093\3\2\2\2\u03aa\u03ab\7\t\2\2\u03ab"+
+		"\u03af\7;\2\2\u03ac\u03ae\5\16\b\2\u03ad\u03ac\3\2\2\2\u03ae\u03b1\3\2"+
+		"\2\2\u03af\u03ad\3\2\2\2\u03af\u03b0\3\2\2\2\u03b0\u03b2\3\2\2\2\u03b1"+
+		"\u03af\3\2\2\2\u03b2\u03b3\5\u0096L\2\u03b3\u03b4\7f\2\2\u03b4\u03b5\7"+
+		"<\2\2\u03b5\u03b6\5\u008aF\2\u03b6\u0095\3\2\2\2\u03b7\u03bc\5j\66\2\u03b8"+
+		"\u03b9\7X\2\2\u03b9\u03bb\5j\66\2\u03ba\u03b8\3\2\2\2\u03bb\u03be\3\2"+
+		"\2\2\u03bc\u03ba\3\2\2\2\u03bc\u03bd\3\2\2\2\u03bd\u0097\3\2\2\2\u03be"+
+		"\u03bc\3\2\2\2\u03bf\u03c0\7\25\2\2\u03c0\u03c1\5\u008aF\2\u03c1\u0099"+
+		"\3\2\2\2\u03c2\u03c3\7;\2\2\u03c3\u03c5\5\u009cO\2\u03c4\u03c6\7A\2\2"+
+		"\u03c5\u03c4\3\2\2\2\u03c5\u03c6\3\2\2\2\u03c6\u03c7\3\2\2\2\u03c7\u03c8"+
+		"\7<\2\2\u03c8\u009b\3\2\2\2\u03c9\u03ce\5\u009eP\2\u03ca\u03cb\7A\2\2"+
+		"\u03cb\u03cd\5\u009eP\2\u03cc\u03ca\3\2\2\2\u03cd\u03d0\3\2\2\2\u03ce"+
+		"\u03cc\3\2\2\2\u03ce\u03cf\3\2\2\2\u03cf\u009d\3\2\2\2\u03d0\u03ce\3\2"+
+		"\2\2\u03d1\u03d3\5\16\b\2\u03d2\u03d1\3\2\2\2\u03d3\u03d6\3\2\2\2\u03d4"+
+		"\u03d2\3\2\2\2\u03d4\u03d5\3\2\2\2\u03d5\u03d7\3\2\2\2\u03d6\u03d4\3\2"+
+		"\2\2\u03d7\u03d8\5T+\2\u03d8\u03d9\5J&\2\u03d9\u03da\7D\2\2\u03da\u03db"+
+		"\5\u00b4[\2\u03db\u009f\3\2\2\2\u03dc\u03de\5\u00a2R\2\u03dd\u03dc\3\2"+
+		"\2\2\u03de\u03df\3\2\2\2\u03df\u03dd\3\2\2\2\u03df\u03e0\3\2\2\2\u03e0"+
+		"\u03e2\3\2\2\2\u03e1\u03e3\5\u008cG\2\u03e2\u03e1\3\2\2\2\u03e3\u03e4"+
+		"\3\2\2\2\u03e4\u03e2\3\2\2\2\u03e4\u03e5\3\2\2\2\u03e5\u00a1\3\2\2\2\u03e6"+
+		"\u03e7\7\b\2\2\u03e7\u03e8\5\u00b2Z\2\u03e8\u03e9\7J\2\2\u03e9\u03f1\3"+
+		"\2\2\2\u03ea\u03eb\7\b\2\2\u03eb\u03ec\5P)\2\u03ec\u03ed\7J\2\2\u03ed"+
+		"\u03f1\3\2\2\2\u03ee\u03ef\7\16\2\2\u03ef\u03f1\7J\2\2\u03f0\u03e6\3\2"+
+		"\2\2\u03f0\u03ea\3\2\2\2\u03f0\u03ee\3\2\2\2\u03f1\u00a3\3\2\2\2\u03f2"+
+		"\u03ff\5\u00a8U\2\u03f3\u03f5\5\u00a6T\2\u03f4\u03f3\3\2\2\2\u03f4\u03f5"+
+		"\3\2\2\2\u03f5\u03f6\3\2\2\2\u03f6\u03f8\7A\2\2\u03f7\u03f9\5\u00b4[\2"+
+		"\u03f8\u03f7\3\2\2\2\u03f8\u03f9\3\2\2\2\u03f9\u03fa\3\2\2\2\u03fa\u03fc"+
+		"\7A\2\2\u03fb\u03fd\5\u00aaV\2\u03fc\u03fb\3\2\2\2\u03fc\u03fd\3\2\2\2"+
+		"\u03fd\u03ff\3\2\2\2\u03fe\u03f2\3\2\2\2\u03fe\u03f4\3\2\2\2\u03ff\u00a5"+
+		"\3\2\2\2\u0400\u0403\5\u0090I\2\u0401\u0403\5\u00aeX\2\u0402\u0400\3\2"+
+		"\2\2\u0402\u0401\3\2\2\2\u0403\u00a7\3\2\2\2\u0404\u0406\5\16\b\2\u0405"+
+		"\u0404\3\2\2\2\u0406\u0409\3\2\2\2\u0407\u0405\3\2\2\2\u0407\u0408\3\2"+
+		"\2\2\u0408\u040a\3\2\2\2\u0409\u0407\3\2\2\2\u040a\u040b\5R*\2\u040b\u040c"+
+		"\5J&\2\u040c\u040d\7J\2\2\u040d\u040e\5\u00b4[\2\u040e\u00a9\3\2\2\2\u040f"+
+		"\u0410\5\u00aeX\2\u0410\u00ab\3\2\2\2\u0411\u0412\7;\2\2\u0412\u0413\5"+
+		"\u00b4[\2\u0413\u0414\7<\2\2\u0414\u00ad\3\2\2\2\u0415\u041a\5\u00b4["+
+		"\2\u0416\u0417\7B\2\2\u0417\u0419\5\u00b4[\2\u0418\u0416\3\2\2\2\u0419"+
+		"\u041c\3\2\2\2\u041a\u0418\3\2\2\2\u041a\u041b\3\2\2\2\u041b\u00af\3\2"+
+		"\2\2\u041c\u041a\3\2\2\2\u041d\u041e\5\u00b4[\2\u041e\u00b1\3\2\2\2\u041f"+
+		"\u0420\5\u00b4[\2\u0420\u00b3\3\2\2\2\u0421\u0422\b[\1\2\u0422\u042f\5"+
+		"\u00b6\\\2\u0423\u0424\7!\2\2\u0424\u042f\5\u00b8]\2\u0425\u0426\7;\2"+
+		"\2\u0426\u0427\5R*\2\u0427\u0428\7<\2\2\u0428\u0429\5\u00b4[\23\u0429"+
+		"\u042f\3\2\2\2\u042a\u042b\t\7\2\2\u042b\u042f\5\u00b4[\21\u042c\u042d"+
+		"\t\b\2\2\u042d\u042f\5\u00b4[\20\u042e\u0421\3\2\2\2\u042e\u0423\3\2\2"+
+		"\2\u042e\u0425\3\2\2\2\u042e\u042a\3\2\2\2\u042e\u042c\3\2\2\2\u042f\u0485"+
+		"\3\2\2\2\u0430\u0431\f\17\2\2\u0431\u0432\t\t\2\2\u0432\u0484\5\u00b4"+
+		"[\20\u0433\u0434\f\16\2\2\u0434\u0435\t\n\2\2\u0435\u0484\5\u00b4[\17"+
+		"\u0436\u043e\f\r\2\2\u0437\u0438\7F\2\2\u0438\u043f\7F\2\2\u0439\u043a"+
+		"\7E\2\2\u043a\u043b\7E\2\2\u043b\u043f\7E\2\2\u043c\u043d\7E\2\2\u043d"+
+		"\u043f\7E\2\2\u043e\u0437\3\2\2\2\u043e\u0439\3\2\2\2\u043e\u043c\3\2"+
+		"\2\2\u043f\u0440\3\2\2\2\u0440\u0484\5\u00b4[\16\u0441\u0442\f\f\2\2\u0442"+
+		"\u0443\t\13\2\2\u0443\u0484\5\u00b4[\r\u0444\u0445\f\n\2\2\u0445\u0446"+
+		"\t\f\2\2\u0446\u0484\5\u00b4[\13\u0447\u0448\f\t\2\2\u0448\u0449\7W\2"+
+		"\2\u0449\u0484\5\u00b4[\n\u044a\u044b\f\b\2\2\u044b\u044c\7Y\2\2\u044c"+
+		"\u0484\5\u00b4[\t\u044d\u044e\f\7\2\2\u044e\u044f\7X\2\2\u044f\u0484\5"+
+		"\u00b4[\b\u0450\u0451\f\6\2\2\u0451\u0452\7O\2\2\u0452\u0484\5\u00b4["+
+		"\7\u0453\u0454\f\5\2\2\u0454\u0455\7P\2\2\u0455\u0484\5\u00b4[\6\u0456"+
+		"\u0457\f\4\2\2\u0457\u0458\7I\2\2\u0458\u0459\5\u00b4[\2\u0459\u045a\7"+
+		"J\2\2\u045a\u045b\5\u00b4[\5\u045b\u0484\3\2\2\2\u045c\u045d\f\3\2\2\u045d"+
+		"\u045e\t\r\2\2\u045e\u0484\5\u00b4[\3\u045f\u0460\f\33\2\2\u0460\u0461"+
+		"\7C\2\2\u0461\u0484\7f\2\2\u0462\u0463\f\32\2\2\u0463\u0464\7C\2\2\u0464"+
+		"\u0484\7-\2\2\u0465\u0466\f\31\2\2\u0466\u0467\7C\2\2\u0467\u0469\7!\2"+
+		"\2\u0468\u046a\5\u00c4c\2\u0469\u0468\3\2\2\2\u0469\u046a\3\2\2\2\u046a"+
+		"\u046b\3\2\2\2\u046b\u0484\5\u00bc_\2\u046c\u046d\f\30\2\2\u046d\u046e"+
+		"\7C\2\2\u046e\u046f\7*\2\2\u046f\u0484\5\u00caf\2\u0470\u0471\f\27\2\2"+
+		"\u0471\u0472\7C\2\2\u0472\u0484\5\u00c2b\2\u0473\u0474\f\26\2\2\u0474"+
+		"\u0475\7?\2\2\u0475\u0476\5\u00b4[\2\u0476\u0477\7@\2\2\u0477\u0484\3"+
+		"\2\2\2\u0478\u0479\f\25\2\2\u0479\u047b\7;\2\2\u047a\u047c\5\u00aeX\2"+
+		"\u047b\u047a\3\2\2\2\u047b\u047c\3\2\2\2\u047c\u047d\3\2\2\2\u047d\u0484"+
+		"\7<\2\2\u047e\u047f\f\22\2\2\u047f\u0484\t\16\2\2\u0480\u0481\f\13\2\2"+
+		"\u0481\u0482\7\34\2\2\u0482\u0484\5R*\2\u0483\u0430\3\2\2\2\u0483\u0433"+
+		"\3\2\2\2\u0483\u0436\3\2\2\2\u0483\u0441\3\2\2\2\u0483\u0444\3\2\2\2\u0483"+
+		"\u0447\3\2\2\2\u0483\u044a\3\2\2\2\u0483\u044d\3\2\2\2\u0483\u0450\3\2"+
+		"\2\2\u0483\u0453\3\2\2\2\u0483\u0456\3\2\2\2\u0483\u045c\3\2\2\2\u0483"+
+		"\u045f\3\2\2\2\u0483\u0462\3\2\2\2\u0483\u0465\3\2\2\2\u0483\u046c\3\2"+
+		"\2\2\u0483\u0470\3\2\2\2\u0483\u0473\3\2\2\2\u0483\u0478\3\2\2\2\u0483"+
+		"\u047e\3\2\2\2\u0483\u0480\3\2\2\2\u0484\u0487\3\2\2\2\u0485\u0483\3\2"+
+		"\2\2\u0485\u0486\3\2\2\2\u0486\u00b5\3\2\2\2\u0487\u0485\3\2\2\2\u0488"+
+		"\u0489\7;\2\2\u0489\u048a\5\u00b4[\2\u048a\u048b\7<\2\2\u048b\u049e\3"+
+		"\2\2\2\u048c\u049e\7-\2\2\u048d\u049e\7*\2\2\u048e\u049e\5l\67\2\u048f"+
+		"\u049e\7f\2\2\u0490\u0491\5R*\2\u0491\u0492\7C\2\2\u0492\u0493\7\13\2"+
+		"\2\u0493\u049e\3\2\2\2\u0494\u0495\7\62\2\2\u0495\u0496\7C\2\2\u0496\u049e"+
+		"\7\13\2\2\u0497\u049b\5\u00c4c\2\u0498\u049c\5\u00ccg\2\u0499\u049a\7"+
+		"-\2\2\u049a\u049c\5\u00ceh\2\u049b\u0498\3\2\2\2\u049b\u0499\3\2\2\2\u049c"+
+		"\u049e\3\2\2\2\u049d\u0488\3\2\2\2\u049d\u048c\3\2\2\2\u049d\u048d\3\2"+
+		"\2\2\u049d\u048e\3\2\2\2\u049d\u048f\3\2\2\2\u049d\u0490\3\2\2\2\u049d"+
+		"\u0494\3\2\2\2\u049d\u0497\3\2\2\2\u049e\u00b7\3\2\2\2\u049f\u04a0\5\u00c4"+
+		"c\2\u04a0\u04a1\5\u00ba^\2\u04a1\u04a2\5\u00c0a\2\u04a2\u04a9\3\2\2\2"+
+		"\u04a3\u04a6\5\u00ba^\2\u04a4\u04a7\5\u00be`\2\u04a5\u04a7\5\u00c0a\2"+
+		"\u04a6\u04a4\3\2\2\2\u04a6\u04a5\3\2\2\2\u04a7\u04a9\3\2\2\2\u04a8\u049f"+
+		"\3\2\2\2\u04a8\u04a3\3\2\2\2\u04a9\u00b9\3\2\2\2\u04aa\u04ac\7f\2\2\u04ab"+
+		"\u04ad\5\u00c6d\2\u04ac\u04ab\3\2\2\2\u04ac\u04ad\3\2\2\2\u04ad\u04b5"+
+		"\3\2\2\2\u04ae\u04af\7C\2\2\u04af\u04b1\7f\2\2\u04b0\u04b2\5\u00c6d\2"+
+		"\u04b1\u04b0\3\2\2\2\u04b1\u04b2\3\2\2\2\u04b2\u04b4\3\2\2\2\u04b3\u04ae"+
+		"\3\2\2\2\u04b4\u04b7\3\2\2\2\u04b5\u04b3\3\2\2\2\u04b5\u04b6\3\2\2\2\u04b6"+
+		"\u04ba\3\2\2\2\u04b7\u04b5\3\2\2\2\u04b8\u04ba\5V,\2\u04b9\u04aa\3\2\2"+
+		"\2\u04b9\u04b8\3\2\2\2\u04ba\u00bb\3\2\2\2\u04bb\u04bd\7f\2\2\u04bc\u04be"+
+		"\5\u00c8e\2\u04bd\u04bc\3\2\2\2\u04bd\u04be\3\2\2\2\u04be\u04bf\3\2\2"+
+		"\2\u04bf\u04c0\5\u00c0a\2\u04c0\u00bd\3\2\2\2\u04c1\u04dd\7?\2\2\u04c2"+
+		"\u04c7\7@\2\2\u04c3\u04c4\7?\2\2\u04c4\u04c6\7@\2\2\u04c5\u04c3\3\2\2"+
+		"\2\u04c6\u04c9\3\2\2\2\u04c7\u04c5\3\2\2\2\u04c7\u04c8\3\2\2\2\u04c8\u04ca"+
+		"\3\2\2\2\u04c9\u04c7\3\2\2\2\u04ca\u04de\5N(\2\u04cb\u04cc\5\u00b4[\2"+
+		"\u04cc\u04d3\7@\2\2\u04cd\u04ce\7?\2\2\u04ce\u04cf\5\u00b4[\2\u04cf\u04d0"+
+		"\7@\2\2\u04d0\u04d2\3\2\2\2\u04d1\u04cd\3\2\2\2\u04d2\u04d5\3\2\2\2\u04d3"+
+		"\u04d1\3\2\2\2\u04d3\u04d4\3\2\2\2\u04d4\u04da\3\2\2\2\u04d5\u04d3\3\2"+
+		"\2\2\u04d6\u04d7\7?\2\2\u04d7\u04d9\7@\2\2\u04d8\u04d6\3\2\2\2\u04d9\u04dc"+
+		"\3\2\2\2\u04da\u04d8\3\2\2\2\u04da\u04db\3\2\2\2\u04db\u04de\3\2\2\2\u04dc"+
+		"\u04da\3\2\2\2\u04dd\u04c2\3\2\2\2\u04dd\u04cb\3\2\2\2\u04de\u00bf\3\2"+
+		"\2\2\u04df\u04e1\5\u00ceh\2\u04e0\u04e2\5&\24\2\u04e1\u04e0\3\2\2\2\u04e1"+
+		"\u04e2\3\2\2\2\u04e2\u00c1\3\2\2\2\u04e3\u04e4\5\u00c4c\2\u04e4\u04e5"+
+		"\5\u00ccg\2\u04e5\u00c3\3\2\2\2\u04e6\u04e7\7F\2\2\u04e7\u04e8\5$\23\2"+
+		"\u04e8\u04e9\7E\2\2\u04e9\u00c5\3\2\2\2\u04ea\u04eb\7F\2\2\u04eb\u04ee"+
+		"\7E\2\2\u04ec\u04ee\5X-\2\u04ed\u04ea\3\2\2\2\u04ed\u04ec\3\2\2\2\u04ee"+
+		"\u00c7\3\2\2\2\u04ef\u04f0\7F\2\2\u04f0\u04f3\7E\2\2\u04f1\u04f3\5\u00c4"+
+		"c\2\u04f2\u04ef\3\2\2\2\u04f2\u04f1\3\2\2\2\u04f3\u00c9\3\2\2\2\u04f4"+
+		"\u04fb\5\u00ceh\2\u04f5\u04f6\7C\2\2\u04f6\u04f8\7f\2\2\u04f7\u04f9\5"+
+		"\u00ceh\2\u04f8\u04f7\3\2\2\2\u04f8\u04f9\3\2\2\2\u04f9\u04fb\3\2\2\2"+
+		"\u04fa\u04f4\3\2\2\2\u04fa\u04f5\3\2\2\2\u04fb\u00cb\3\2\2\2\u04fc\u04fd"+
+		"\7*\2\2\u04fd\u0501\5\u00caf\2\u04fe\u04ff\7f\2\2\u04ff\u0501\5\u00ce"+
+		"h\2\u0500\u04fc\3\2\2\2\u0500\u04fe\3\2\2\2\u0501\u00cd\3\2\2\2\u0502"+
+		"\u0504\7;\2\2\u0503\u0505\5\u00aeX\2\u0504\u0503\3\2\2\2\u0504\u0505\3"+
+		"\2\2\2\u0505\u0506\3\2\2\2\u0506\u0507\7<\2\2\u0507\u00cf\3\2\2\2\u0097"+
+		"\u00d1\u00d6\u00dc\u00e4\u00ed\u00f2\u00f9\u0100\u0107\u010e\u0113\u0117"+
+		"\u011b\u011f\u0124\u0128\u012c\u0138\u0140\u0147\u014e\u0152\u0155\u0158"+
+		"\u0161\u0167\u016c\u016f\u0175\u017b\u017f\u0188\u018f\u0198\u019f\u01a5"+
+		"\u01a9\u01b4\u01b8\u01c0\u01c5\u01c9\u01d4\u01e2\u01e7\u01f0\u01f8\u0202"+
+		"\u020a\u0212\u0217\u0223\u0229\u0230\u0235\u023d\u0241\u0243\u024e\u0256"+
+		"\u0259\u025d\u0262\u0266\u0271\u027a\u027c\u0283\u0288\u0291\u0296\u0299"+
+		"\u029e\u02a7\u02b7\u02c1\u02c4\u02cd\u02d7\u02df\u02e2\u02e5\u02f2\u02fa"+
+		"\u02ff\u0307\u030b\u030f\u0313\u0315\u0319\u031f\u032a\u0332\u033a\u0345"+
+		"\u034e\u0365\u0368\u036b\u0373\u0377\u037f\u0385\u0390\u0399\u039e\u03a8"+
+		"\u03af\u03bc\u03c5\u03ce\u03d4\u03df\u03e4\u03f0\u03f4\u03f8\u03fc\u03fe"+
+		"\u0402\u0407\u041a\u042e\u043e\u0469\u047b\u0483\u0485\u049b\u049d\u04a6"+
+		"\u04a8\u04ac\u04b1\u04b5\u04b9\u04bd\u04c7\u04d3\u04da\u04dd\u04e1\u04ed"+
+		"\u04f2\u04f8\u04fa\u0500\u0504";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Hash map from non-negative long keys to int counts, stored in two
+* primitive arrays with open addressing (linear probing), so counting does
+* not box keys or allocate per entry. Used to count couplings between pairs
+* of classes, with the pair packed into one long.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.Arrays;
+
+public class LongCountMap{
+	// Marks an empty slot. Keys must not be negative.
+	private static final long EMPTY = -1L;
+
+	private long[] keys;
+	private int[] counts;
+	private int size;
+	// Slots - 1 (slots is a power of two)
+	private int mask;
+
+	public LongCountMap(){
+		this(16);
+	}
+
+	// Map with room for about the given number of keys before growing
+	public LongCountMap(int expected){
+		int slots = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+		keys = new long[slots];
+		counts = new int[slots];
+		Arrays.fill(keys, EMPTY);
+		mask = slots - 1;
+		size = 0;
+	}
+
+	// Add to the count of a key, adding the key if it is not present
+	public void add(long key, int amount){
+		int slot = slot(key);
+		while(keys[slot] != EMPTY){
+			if(keys[slot] == key){
+				counts[slot] += amount;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		counts[slot] = amount;
+		size++;
+		// Keep the table at most half full
+		if(size * 2 > keys.length){
+			grow();
+		}
+	}
+
+	// Count of a key, or 0 if it is not present
+	public int get(long key){
+		int slot = slot(key);
+		while(keys[slot] != EMPTY){
+			if(keys[slot] == key){
+				return counts[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		return 0;
+	}
+
+	// Add all counts of another map to this one
+	public void addAll(LongCountMap other){
+		for(int slot = 0; slot < other.keys.length; slot++){
+			if(other.keys[slot] != EMPTY){
+				add(other.keys[slot], other.counts[slot]);
+			}
+		}
+	}
+
+	// Keys in no particular order
+	public long[] keys(){
+		long[] found = new long[size];
+		int filled = 0;
+		for(long key: keys){
+			if(key != EMPTY){
+				found[filled++] = key;
+			}
+		}
+		return found;
+	}
+
+	// Keys in ascending order
+	public long[] sortedKeys(){
+		long[] sorted = keys();
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	public int size(){
+		return size;
+	}
+
+	/* Helper function for {@link #add} and {@link #get}.
+	 * First slot to probe for a key. Multiplying spreads packed pairs, whose
+	 * low bits alone would cluster, over the whole table.
+	 */
+	private int slot(long key){
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+
+	/* Helper function for {@link #add}.
+	 * Double the table and re-insert every key.
+	 */
+	private void grow(){
+		long[] oldKeys = keys;
+		int[] oldCounts = counts;
+		keys = new long[oldKeys.length * 2];
+		counts = new int[oldKeys.length * 2];
+		Arrays.fill(keys, EMPTY);
+		mask = keys.length - 1;
+		for(int old = 0; old < oldKeys.length; old++){
+			if(oldKeys[old] != EMPTY){
+				int slot = slot(oldKeys[old]);
+				while(keys[slot] != EMPTY){
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[old];
+				counts[slot] = oldCounts[old];
+			}
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Coupling graph rolled up to packages, for projects whose class graph is
+* too large to read. Each class is placed in the package of the file that
+* defines it (its directory under the source directory), cut to a given
+* number of levels, and the couplings between classes are summed into
+* couplings between packages in one pass over the couplings table, without
+* building the class graph. One package can be drilled into: its classes
+* are kept as separate nodes, coupled to the other (rolled up) packages.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import org.graphstream.graph.*;
+import org.graphstream.graph.implementations.*;
+import org.graphstream.stream.file.FileSinkDOT;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+public class PackageRollup{
+	// Name of the default (unnamed) package
+	public static final String DEFAULT_PACKAGE = "(default)";
+
+	// Package (or drilled-into class) of each node, and whether it is a class
+	private final ArrayList<String> names;
+	private final ArrayList<Boolean> drilled;
+	// Classes in each node
+	private final ArrayList<Integer> classCounts;
+	// Couplings from node to node, keyed by source in the high 32 bits and sink in the low
+	// 32 bits. Couplings between classes in the same node are kept on the diagonal.
+	private final LongCountMap couplings;
+
+	/* Roll up the couplings of the given classes. Packages are cut to depth levels (all
+	 * levels if depth is 0). If drill is not null, the classes of that package (and of
+	 * the packages inside it) are not rolled up.
+	 */
+	public PackageRollup(String sourceDirectory, int depth, String drill, ArrayList<String> classList,
+		HashMap<String, ArrayList<String>> fileClasses, HashMap<String, HashMap<String, ArrayList<String>>> couplingTable){
+		names = new ArrayList<String>();
+		drilled = new ArrayList<Boolean>();
+		classCounts = new ArrayList<Integer>();
+		couplings = new LongCountMap();
+
+		// Node of each class, numbered in file order
+		HashSet<String> project = new HashSet<String>(classList);
+		HashMap<String, Integer> ids = new HashMap<String, Integer>();
+		HashMap<String, Integer> classNodes = new HashMap<String, Integer>();
+		ArrayList<String> files = new ArrayList<String>(fileClasses.keySet());
+		Collections.sort(files);
+		for(String file: files){
+			String pack = packageOf(sourceDirectory, file, depth);
+			String whole = packageOf(sourceDirectory, file, 0);
+			boolean expand = drill != null && (whole.equals(drill) || whole.startsWith(drill + "."));
+			for(String clazz: fileClasses.get(file)){
+				if(!project.contains(clazz) || classNodes.containsKey(clazz)){
+					continue;
+				}
+				int node = node(expand ? clazz : pack, expand, ids);
+				classNodes.put(clazz, node);
+				classCounts.set(node, classCounts.get(node) + 1);
+			}
+		}
+
+		// Sum the couplings
+		for(HashMap<String, ArrayList<String>> coups: couplingTable.values()){
+			for(String method: coups.keySet()){
+				String source = CouplingGraph.className(method);
+				Integer sourceNode = classNodes.get(source);
+				if(sourceNode == null){
+					continue;
+				}
+				for(String var: coups.get(method)){
+					String sink = CouplingGraph.className(var);
+					Integer sinkNode = classNodes.get(sink);
+					if(sinkNode != null && !sink.equals(source)){
+						couplings.add(((long) sourceNode << 32) | sinkNode, 1);
+					}
+				}
+			}
+		}
+	}
+
+	/* Package of a file: the directories between the source directory and the file,
+	 * joined by dots and cut to depth levels (all levels if depth is 0).
+	 */
+	public static String packageOf(String sourceDirectory, String file, int depth){
+		String root = new File(sourceDirectory).getPath();
+		String path = new File(file).getParent();
+		if(path == null || !path.startsWith(root)){
+			return DEFAULT_PACKAGE;
+		}
+		String[] levels = path.substring(root.length()).replace(File.separatorChar, '/').split("/");
+		StringBuilder pack = new StringBuilder();
+		int used = 0;
+		for(String level: levels){
+			if(level.equals("")){
+				continue;
+			}
+			if(depth > 0 && used == depth){
+				break;
+			}
+			if(used > 0){
+				pack.append('.');
+			}
+			pack.append(level);
+			used++;
+		}
+		return used == 0 ? DEFAULT_PACKAGE : pack.toString();
+	}
+
+	/* Helper function for the constructor.
+	 * Number of a node, adding it if it is new.
+	 */
+	private int node(String name, boolean expand, HashMap<String, Integer> ids){
+		Integer id = ids.get(name);
+		if(id == null){
+			id = names.size();
+			ids.put(name, id);
+			names.add(name);
+			drilled.add(expand);
+			classCounts.add(0);
+		}
+		return id;
+	}
+
+	// Write the nodes and the couplings between them to <prefix>.packages
+	public void write(String prefix) throws IOException{
+		BufferedWriter writer = new BufferedWriter(new FileWriter(prefix + ".packages"));
+		writer.write("# Package, Classes, Internal Couplings\n");
+		for(int node = 0; node < names.size(); node++){
+			writer.write(names.get(node) + "," + classCounts.get(node) + "," + couplings.get(((long) node << 32) | node) + "\n");
+		}
+		writer.write("# Package, Coupled Package, Weight\n");
+		for(long pair: couplings.sortedKeys()){
+			int source = (int) (pair >>> 32);
+			int sink = (int) pair;
+			if(source != sink){
+				writer.write(names.get(source) + "," + names.get(sink) + "," + couplings.get(pair) + "\n");
+			}
+		}
+		writer.close();
+	}
+
+	/* GraphStream graph of the rolled up packages, for display or export. Nodes are
+	 * sized by their number of classes, and drilled-into classes are highlighted.
+	 */
+	public Graph toGraph(){
+		Graph graph = new MultiGraph("packages");
+		graph.addAttribute("ui.stylesheet", "graph { fill-color: white; }" +
+			"node { fill-color: black; size-mode: dyn-size; text-background-mode: rounded-box; text-alignment: under; text-offset: 0, 5;}" +
+			"node.drilled { fill-color: green; }" +
+			"edge { shape: line; fill-color: #222; arrow-size: 5px, 4px; text-color: #555;}"
+		);
+		graph.addAttribute("ui.quality");
+		graph.addAttribute("ui.antialias");
+
+		for(int node = 0; node < names.size(); node++){
+			String name = names.get(node);
+			graph.addNode(name);
+			graph.getNode(name).addAttribute("ui.label", drilled.get(node) ? name : name + " (" + classCounts.get(node) + ")");
+			graph.getNode(name).addAttribute("ui.size", 10 + 4 * Math.sqrt(classCounts.get(node)));
+			if(drilled.get(node)){
+				graph.getNode(name).addAttribute("ui.class", "drilled");
+			}
+		}
+		for(long pair: couplings.sortedKeys()){
+			int source = (int) (pair >>> 32);
+			int sink = (int) pair;
+			if(source != sink){
+				String eName = names.get(source) + "-" + names.get(sink);
+				graph.addEdge(eName, names.get(source), names.get(sink), true);
+				graph.getEdge(eName).setAttribute("weight", (double) couplings.get(pair));
+				graph.getEdge(eName).addAttribute("ui.label", couplings.get(pair));
+			}
+		}
+		return graph;
+	}
+
+	public int getNodeCount(){
+		return names.size();
+	}
+
+	// Write the graph in Graphviz format, with directed edges
+	public void writeDot(String fileName) throws IOException{
+		new FileSinkDOT(true).writeAll(toGraph(), fileName);
+	}
+
+	// Number of coupled pairs of distinct nodes
+	public int getEdgeCount(){
+		int edges = 0;
+		for(long pair: couplings.sortedKeys()){
+			if((int) (pair >>> 32) != (int) pair){
+				edges++;
+			}
+		}
+		return edges;
+	}
+
+	public String getName(int node){
+		return names.get(node);
+	}
+
+	public int getClassCount(int node){
+		return classCounts.get(node);
+	}
+}
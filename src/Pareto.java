@@ -0,0 +1,118 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Pareto ranking used by the NSGA-II search: fast non-dominated sorting
+* and crowding distance. All objectives are minimized.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+public class Pareto{
+
+	// Does the first objective vector dominate the second?
+	public static boolean dominates(double[] first, double[] second){
+		boolean better = false;
+		for(int objective = 0; objective < first.length; objective++){
+			if(first[objective] > second[objective]){
+				return false;
+			}else if(first[objective] < second[objective]){
+				better = true;
+			}
+		}
+		return better;
+	}
+
+	/* Fast non-dominated sort (Deb et al.). Splits the members into fronts.
+	 * Front 0 is not dominated by any member, front 1 only by front 0, and so on.
+	 * Fills rank with the front of each member, if it is not null.
+	 */
+	public static ArrayList<ArrayList<Integer>> sort(double[][] objectives, int[] rank){
+		int members = objectives.length;
+		// Members dominated by each member, and number of members dominating each member
+		int[][] dominated = new int[members][];
+		int[] dominatedCount = new int[members];
+		int[] dominatorCount = new int[members];
+		int[] scratch = new int[members];
+
+		ArrayList<ArrayList<Integer>> fronts = new ArrayList<ArrayList<Integer>>();
+		ArrayList<Integer> front = new ArrayList<Integer>();
+		for(int first = 0; first < members; first++){
+			int count = 0;
+			for(int second = 0; second < members; second++){
+				if(first == second){
+					continue;
+				}
+				if(dominates(objectives[first], objectives[second])){
+					scratch[count++] = second;
+				}else if(dominates(objectives[second], objectives[first])){
+					dominatorCount[first]++;
+				}
+			}
+			dominated[first] = Arrays.copyOf(scratch, count);
+			dominatedCount[first] = count;
+			if(dominatorCount[first] == 0){
+				front.add(first);
+			}
+		}
+
+		int current = 0;
+		while(!front.isEmpty()){
+			fronts.add(front);
+			ArrayList<Integer> next = new ArrayList<Integer>();
+			for(int member: front){
+				if(rank != null){
+					rank[member] = current;
+				}
+				for(int position = 0; position < dominatedCount[member]; position++){
+					int other = dominated[member][position];
+					dominatorCount[other]--;
+					if(dominatorCount[other] == 0){
+						next.add(other);
+					}
+				}
+			}
+			front = next;
+			current++;
+		}
+		return fronts;
+	}
+
+	/* Crowding distance of the members of one front, stored into distance by member.
+	 * Members at the edges of an objective get infinite distance, so they are kept.
+	 */
+	public static void crowding(double[][] objectives, ArrayList<Integer> front, double[] distance){
+		for(int member: front){
+			distance[member] = 0.0;
+		}
+		if(front.isEmpty()){
+			return;
+		}
+
+		Integer[] order = front.toArray(new Integer[0]);
+		for(int objective = 0; objective < objectives[order[0]].length; objective++){
+			final int current = objective;
+			final double[][] values = objectives;
+			Arrays.sort(order, new Comparator<Integer>(){
+				public int compare(Integer first, Integer second){
+					return Double.compare(values[first][current], values[second][current]);
+				}
+			});
+
+			double min = objectives[order[0]][objective];
+			double max = objectives[order[order.length - 1]][objective];
+			distance[order[0]] = Double.POSITIVE_INFINITY;
+			distance[order[order.length - 1]] = Double.POSITIVE_INFINITY;
+			if(max - min == 0.0){
+				continue;
+			}
+			for(int position = 1; position < order.length - 1; position++){
+				distance[order[position]] += (objectives[order[position + 1]][objective] - objectives[order[position - 1]][objective]) / (max - min);
+			}
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Saves the shortest path and coverage precompute of a search space to a
+* binary file, so later runs on the same code (e.g., to try other search
+* options) can load it instead of recomputing it. The file holds a hash of
+* the graph's nodes and weighted edges, the targets and the distance metric,
+* and is only loaded if that hash matches the current run.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+
+public class PathCache{
+	// File format marker ("CMPC") and version
+	private static final int MAGIC = 0x434D5043;
+	private static final int VERSION = 1;
+
+	/* Hash identifying a precompute: 64-bit FNV-1a over the class names, the
+	 * edges and their weights, the targets, and the distance metric.
+	 */
+	public static long key(CouplingGraph graph, ArrayList<String> targets, String metric){
+		long hash = 0xcbf29ce484222325L;
+		hash = mix(hash, graph.getNodeCount());
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			hash = mix(hash, graph.getName(node));
+		}
+		for(int offset: graph.getOffsets()){
+			hash = mix(hash, offset);
+		}
+		int[] sinks = graph.getSinks();
+		float[] weights = graph.getWeights();
+		for(int edge = 0; edge < sinks.length; edge++){
+			hash = mix(hash, sinks[edge]);
+			hash = mix(hash, Float.floatToIntBits(weights[edge]));
+		}
+		hash = mix(hash, targets.size());
+		for(String target: targets){
+			hash = mix(hash, target);
+		}
+		return mix(hash, metric);
+	}
+
+	/* Load a precompute, or return null if the file does not exist, cannot be
+	 * read, or was saved for a different graph, set of targets, or metric.
+	 */
+	public static SearchSpace load(String fileName, long key){
+		File file = new File(fileName);
+		if(!file.exists()){
+			return null;
+		}
+		try{
+			DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16));
+			try{
+				if(input.readInt() != MAGIC || input.readInt() != VERSION || input.readLong() != key){
+					return null;
+				}
+				int candidates = input.readInt();
+				int targets = input.readInt();
+				int nodeCount = input.readInt();
+				String[] names = new String[candidates];
+				for(int candidate = 0; candidate < candidates; candidate++){
+					names[candidate] = input.readUTF();
+				}
+				double[] minLength = new double[targets];
+				double[] maxLength = new double[targets];
+				int[] maxCoverage = new int[targets];
+				for(int target = 0; target < targets; target++){
+					minLength[target] = input.readDouble();
+					maxLength[target] = input.readDouble();
+					maxCoverage[target] = input.readInt();
+				}
+				double[][] lengths = new double[candidates][targets];
+				int[][][] coverage = new int[candidates][targets][];
+				for(int candidate = 0; candidate < candidates; candidate++){
+					for(int target = 0; target < targets; target++){
+						lengths[candidate][target] = input.readDouble();
+						int[] path = new int[input.readInt()];
+						for(int step = 0; step < path.length; step++){
+							path[step] = input.readInt();
+						}
+						coverage[candidate][target] = path;
+					}
+				}
+				return new SearchSpace(names, lengths, coverage, minLength, maxLength, maxCoverage, nodeCount);
+			}finally{
+				input.close();
+			}
+		}catch(IOException e){
+			System.out.println("Could not read " + fileName + ", recomputing paths: " + e.getMessage());
+			return null;
+		}
+	}
+
+	// Save a precompute. The file is replaced in one step, so a crash mid-write keeps the old one.
+	public static void save(String fileName, long key, SearchSpace space) throws IOException{
+		File file = new File(fileName);
+		File temporary = new File(fileName + ".tmp");
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary), 1 << 16));
+		try{
+			int targets = space.getTargetCount();
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeLong(key);
+			output.writeInt(space.getCandidateCount());
+			output.writeInt(targets);
+			output.writeInt(space.getNodeCount());
+			for(String candidate: space.getCandidates()){
+				output.writeUTF(candidate);
+			}
+			for(int target = 0; target < targets; target++){
+				output.writeDouble(space.getMinLength()[target]);
+				output.writeDouble(space.getMaxLength()[target]);
+				output.writeInt(space.getMaxCoverage()[target]);
+			}
+			double[][] lengths = space.getLengths();
+			int[][][] coverage = space.getCoverage();
+			for(int candidate = 0; candidate < space.getCandidateCount(); candidate++){
+				for(int target = 0; target < targets; target++){
+					output.writeDouble(lengths[candidate][target]);
+					output.writeInt(coverage[candidate][target].length);
+					for(int node: coverage[candidate][target]){
+						output.writeInt(node);
+					}
+				}
+			}
+		}finally{
+			output.close();
+		}
+		Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/* Helper function for {@link #key}.
+	 * Add the four bytes of a number to a hash.
+	 */
+	private static long mix(long hash, int value){
+		for(int shift = 0; shift < 32; shift += 8){
+			hash ^= (value >>> shift) & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/* Helper function for {@link #key}.
+	 * Add a string, and its length so that neighbouring strings cannot run together, to a hash.
+	 */
+	private static long mix(long hash, String value){
+		hash = mix(hash, value.length());
+		for(int character = 0; character < value.length(); character++){
+			hash = mix(hash, value.charAt(character));
+		}
+		return hash;
+	}
+}
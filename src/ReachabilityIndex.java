@@ -0,0 +1,244 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Transitive closure of the coupling graph, for answering "which classes
+* can this class reach" and "which classes can reach this class" without
+* a traversal per question. Classes in the same strongly connected
+* component reach exactly the same classes, so the graph is first condensed
+* into its components (see {@link Scc}), and two bitsets are stored per
+* component: the components it reaches, and the components that reach it.
+* Components that are the same number of steps from the bottom (or, for the
+* second bitset, the top) of the condensed graph do not depend on each
+* other, so each such level is filled in parallel.
+*
+* Memory is two bits per pair of components.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ReachabilityIndex{
+	private final CouplingGraph graph;
+	// Component of each node, and the nodes of each component (CSR)
+	private final int[] component;
+	private final int[] memberOffsets;
+	private final int[] members;
+	// Components reachable from each component, and components that reach it, itself included
+	private final long[][] reachable;
+	private final long[][] reachedBy;
+
+	public ReachabilityIndex(CouplingGraph graph){
+		this(new Scc(graph));
+	}
+
+	// Index over components that have already been found
+	public ReachabilityIndex(Scc components){
+		this.graph = components.getGraph();
+		component = components.getComponents();
+		memberOffsets = components.getMemberOffsets();
+		members = components.getMembers();
+		reachable = new long[components.getComponentCount()][];
+		reachedBy = new long[components.getComponentCount()][];
+		close(components.getComponentCount());
+	}
+
+	/* Helper function for the constructor.
+	 * Finds the edges between components and fills in both closures.
+	 */
+	private void close(int components){
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+
+		// Edges between components, as (from, to) and as (to, from)
+		long[] pairs = new long[sinks.length];
+		long[] reversed = new long[sinks.length];
+		int count = 0;
+		for(int node = 0; node < graph.getNodeCount(); node++){
+			for(int edge = offsets[node]; edge < offsets[node + 1]; edge++){
+				if(component[node] != component[sinks[edge]]){
+					pairs[count] = ((long) component[node] << 32) | component[sinks[edge]];
+					reversed[count++] = ((long) component[sinks[edge]] << 32) | component[node];
+				}
+			}
+		}
+		int[] successorOffsets = new int[components + 1];
+		int[] successors = adjacency(pairs, count, successorOffsets);
+		int[] predecessorOffsets = new int[components + 1];
+		int[] predecessors = adjacency(reversed, count, predecessorOffsets);
+
+		// Successors have higher numbers than their component, and predecessors lower
+		closure(components, successorOffsets, successors, false, reachable);
+		closure(components, predecessorOffsets, predecessors, true, reachedBy);
+	}
+
+	/* Helper function for {@link #close}.
+	 * Neighbours of each component (CSR), without repeats, from pairs packed with the
+	 * component in the high 32 bits. Fills offsets and returns the neighbours.
+	 */
+	private int[] adjacency(long[] pairs, int count, int[] offsets){
+		Arrays.sort(pairs, 0, count);
+		int[] neighbours = new int[count];
+		int unique = 0;
+		for(int pair = 0; pair < count; pair++){
+			if(pair == 0 || pairs[pair] != pairs[pair - 1]){
+				offsets[(int) (pairs[pair] >>> 32) + 1]++;
+				neighbours[unique++] = (int) pairs[pair];
+			}
+		}
+		for(int current = 0; current < offsets.length - 1; current++){
+			offsets[current + 1] += offsets[current];
+		}
+		return neighbours;
+	}
+
+	/* Helper function for {@link #close}.
+	 * Fills in the components each component reaches through the given neighbours,
+	 * those farthest from the start of a path first. Neighbours have higher numbers
+	 * than their component, or lower numbers if ascending is true.
+	 */
+	private void closure(int components, final int[] neighbourOffsets, final int[] neighbours, boolean ascending, final long[][] closed){
+		// Level of each component: the longest path from it to a component with no neighbours.
+		// Neighbours are numbered so that they are done first.
+		int[] level = new int[components];
+		int levels = 0;
+		for(int step = 0; step < components; step++){
+			int current = ascending ? step : components - 1 - step;
+			for(int edge = neighbourOffsets[current]; edge < neighbourOffsets[current + 1]; edge++){
+				level[current] = Math.max(level[current], level[neighbours[edge]] + 1);
+			}
+			levels = Math.max(levels, level[current] + 1);
+		}
+		int[] levelOffsets = new int[levels + 1];
+		for(int current = 0; current < components; current++){
+			levelOffsets[level[current] + 1]++;
+		}
+		for(int current = 0; current < levels; current++){
+			levelOffsets[current + 1] += levelOffsets[current];
+		}
+		final int[] byLevel = new int[components];
+		int[] filled = Arrays.copyOf(levelOffsets, levels);
+		for(int current = 0; current < components; current++){
+			byLevel[filled[level[current]]++] = current;
+		}
+
+		final int words = (components + 63) >>> 6;
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try{
+			for(int current = 0; current < levels; current++){
+				final int start = levelOffsets[current];
+				final int end = levelOffsets[current + 1];
+				// Small levels are not worth handing to other threads
+				if(end - start < 256 || threads == 1){
+					closeRange(byLevel, start, end, words, neighbourOffsets, neighbours, closed);
+					continue;
+				}
+				ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+				int chunk = (end - start + threads - 1) / threads;
+				for(int from = start; from < end; from += chunk){
+					final int first = from;
+					final int last = Math.min(end, from + chunk);
+					tasks.add(new Callable<Void>(){
+						public Void call(){
+							closeRange(byLevel, first, last, words, neighbourOffsets, neighbours, closed);
+							return null;
+						}
+					});
+				}
+				for(Future<Void> result: executor.invokeAll(tasks)){
+					result.get();
+				}
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while building the reachability index", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Could not build the reachability index", e.getCause());
+		}finally{
+			executor.shutdown();
+		}
+	}
+
+	/* Helper function for {@link #closure}.
+	 * Closure of some components whose neighbours are all done: the component
+	 * itself, and everything its neighbours reach.
+	 */
+	private void closeRange(int[] byLevel, int start, int end, int words, int[] neighbourOffsets, int[] neighbours, long[][] closed){
+		for(int position = start; position < end; position++){
+			int current = byLevel[position];
+			long[] bits = new long[words];
+			bits[current >>> 6] |= 1L << current;
+			for(int edge = neighbourOffsets[current]; edge < neighbourOffsets[current + 1]; edge++){
+				long[] below = closed[neighbours[edge]];
+				for(int word = 0; word < words; word++){
+					bits[word] |= below[word];
+				}
+			}
+			closed[current] = bits;
+		}
+	}
+
+	// Whether there is a path from one node to another (a node always reaches itself)
+	public boolean canReach(int from, int to){
+		int target = component[to];
+		return (reachable[component[from]][target >>> 6] & (1L << target)) != 0;
+	}
+
+	// Nodes a node can reach (its direct and indirect dependencies), not including itself
+	public int[] reachableFrom(int node){
+		return members(reachable[component[node]], node);
+	}
+
+	// Nodes that can reach a node (those affected by a change to it), not including itself
+	public int[] reaching(int node){
+		return members(reachedBy[component[node]], node);
+	}
+
+	/* Helper function for {@link #reachableFrom} and {@link #reaching}.
+	 * Nodes of the components in a bitset, other than the given node, in order.
+	 */
+	private int[] members(long[] bits, int node){
+		int count = 0;
+		for(int word = 0; word < bits.length; word++){
+			for(long remaining = bits[word]; remaining != 0; remaining &= remaining - 1){
+				int current = (word << 6) + Long.numberOfTrailingZeros(remaining);
+				count += memberOffsets[current + 1] - memberOffsets[current];
+			}
+		}
+		int[] found = new int[count - 1];
+		int filled = 0;
+		for(int word = 0; word < bits.length; word++){
+			for(long remaining = bits[word]; remaining != 0; remaining &= remaining - 1){
+				int current = (word << 6) + Long.numberOfTrailingZeros(remaining);
+				for(int member = memberOffsets[current]; member < memberOffsets[current + 1]; member++){
+					if(members[member] != node){
+						found[filled++] = members[member];
+					}
+				}
+			}
+		}
+		Arrays.sort(found);
+		return found;
+	}
+
+	// Strongly connected component of a node
+	public int getComponent(int node){
+		return component[node];
+	}
+
+	public int getComponentCount(){
+		return reachable.length;
+	}
+
+	public CouplingGraph getGraph(){
+		return graph;
+	}
+}
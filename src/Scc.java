@@ -0,0 +1,153 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Strongly connected components of the coupling graph, found with Tarjan's
+* algorithm. The depth-first search keeps its own stack of nodes and next
+* edges rather than recursing, so graphs with hundreds of thousands of
+* classes (and very long coupling chains) do not overflow the call stack.
+* Components are numbered in topological order: any edge between two
+* components goes to the higher number. Components with more than one class
+* are the project's dependency cycles.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.Arrays;
+
+public class Scc{
+	private final CouplingGraph graph;
+	// Component of each node
+	private final int[] component;
+	// Nodes of each component (CSR)
+	private final int[] memberOffsets;
+	private final int[] members;
+
+	public Scc(CouplingGraph graph){
+		this.graph = graph;
+		int nodes = graph.getNodeCount();
+		component = new int[nodes];
+		int components = search();
+
+		memberOffsets = new int[components + 1];
+		for(int node = 0; node < nodes; node++){
+			memberOffsets[component[node] + 1]++;
+		}
+		for(int current = 0; current < components; current++){
+			memberOffsets[current + 1] += memberOffsets[current];
+		}
+		members = new int[nodes];
+		int[] filled = Arrays.copyOf(memberOffsets, components);
+		for(int node = 0; node < nodes; node++){
+			members[filled[component[node]]++] = node;
+		}
+	}
+
+	/* Helper function for the constructor.
+	 * Tarjan's algorithm with explicit stacks. Each node gets the order it was
+	 * first visited in, and the lowest order reachable from it through nodes still
+	 * on the component stack; a node whose two are equal is the root of a component,
+	 * which is everything above it on that stack. Tarjan finds components sinks
+	 * first, so they are renumbered at the end to put them in topological order.
+	 * Returns the number of components.
+	 */
+	private int search(){
+		int nodes = graph.getNodeCount();
+		int[] offsets = graph.getOffsets();
+		int[] sinks = graph.getSinks();
+
+		// Visit order (-1 if not visited) and lowest reachable visit order
+		int[] order = new int[nodes];
+		Arrays.fill(order, -1);
+		int[] low = new int[nodes];
+		boolean[] onStack = new boolean[nodes];
+		// Nodes not yet placed in a component
+		int[] pending = new int[nodes];
+		int pendingTop = 0;
+		// Depth-first search path, and the next edge to follow from each node on it
+		int[] path = new int[nodes];
+		int[] nextEdge = new int[nodes];
+		int visited = 0;
+		int components = 0;
+
+		for(int root = 0; root < nodes; root++){
+			if(order[root] >= 0){
+				continue;
+			}
+			int depth = 0;
+			path[0] = root;
+			nextEdge[0] = offsets[root];
+			order[root] = low[root] = visited++;
+			pending[pendingTop++] = root;
+			onStack[root] = true;
+			while(depth >= 0){
+				int node = path[depth];
+				if(nextEdge[depth] < offsets[node + 1]){
+					int sink = sinks[nextEdge[depth]++];
+					if(order[sink] < 0){
+						depth++;
+						path[depth] = sink;
+						nextEdge[depth] = offsets[sink];
+						order[sink] = low[sink] = visited++;
+						pending[pendingTop++] = sink;
+						onStack[sink] = true;
+					}else if(onStack[sink]){
+						low[node] = Math.min(low[node], order[sink]);
+					}
+					continue;
+				}
+				// All edges followed: close a component if this node is its root
+				if(low[node] == order[node]){
+					int member;
+					do{
+						member = pending[--pendingTop];
+						onStack[member] = false;
+						component[member] = components;
+					}while(member != node);
+					components++;
+				}
+				depth--;
+				if(depth >= 0){
+					int parent = path[depth];
+					low[parent] = Math.min(low[parent], low[node]);
+				}
+			}
+		}
+
+		for(int node = 0; node < nodes; node++){
+			component[node] = components - 1 - component[node];
+		}
+		return components;
+	}
+
+	// Component of a node
+	public int getComponent(int node){
+		return component[node];
+	}
+
+	public int[] getComponents(){
+		return component;
+	}
+
+	public int getComponentCount(){
+		return memberOffsets.length - 1;
+	}
+
+	// Number of nodes in a component
+	public int getSize(int current){
+		return memberOffsets[current + 1] - memberOffsets[current];
+	}
+
+	// Nodes of component c are positions memberOffsets[c] up to memberOffsets[c + 1] of the members
+	public int[] getMemberOffsets(){
+		return memberOffsets;
+	}
+
+	public int[] getMembers(){
+		return members;
+	}
+
+	public CouplingGraph getGraph(){
+		return graph;
+	}
+}
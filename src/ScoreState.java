@@ -0,0 +1,168 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* A solution with its score kept up to date incrementally. Adding or removing
+* a class only updates the per-target distance sums and coverage counts of
+* that class's paths, so trying a move costs O(targets * path length)
+* instead of rescoring the whole set. Used by the greedy, exact and
+* annealing searches. Scores match {@link SearchSpace#score}.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+public class ScoreState{
+	private final SearchSpace space;
+	// Chosen classes
+	private final BitSolution solution;
+	private int size;
+	// Per target: sum of finite path lengths, and number of chosen classes with a path
+	private final double[] distance;
+	private final int[] reaching;
+	// Per target: how many chosen paths cover each node, and number of nodes covered
+	private final int[][] coverCount;
+	private final int[] covered;
+	// Per target: covered nodes as a bitset
+	private final long[][] coveredBits;
+
+	// Empty solution
+	public ScoreState(SearchSpace space){
+		this.space = space;
+		int targets = space.getTargetCount();
+		solution = new BitSolution(space.getCandidateCount());
+		size = 0;
+		distance = new double[targets];
+		reaching = new int[targets];
+		coverCount = new int[targets][space.getNodeCount()];
+		covered = new int[targets];
+		coveredBits = new long[targets][(space.getNodeCount() + 63) >>> 6];
+	}
+
+	// State holding the classes of an existing solution
+	public ScoreState(SearchSpace space, BitSolution start){
+		this(space);
+		for(int candidate = start.nextSetBit(0); candidate >= 0; candidate = start.nextSetBit(candidate + 1)){
+			add(candidate);
+		}
+	}
+
+	// Add a class to the solution. Does nothing if it is already chosen.
+	public void add(int candidate){
+		if(solution.get(candidate)){
+			return;
+		}
+		solution.set(candidate);
+		size++;
+		double[][] lengths = space.getLengths();
+		int[][][] paths = space.getCoverage();
+		for(int target = 0; target < distance.length; target++){
+			if(lengths[candidate][target] != Double.POSITIVE_INFINITY){
+				distance[target] += lengths[candidate][target];
+				reaching[target]++;
+			}
+			for(int node: paths[candidate][target]){
+				if(coverCount[target][node]++ == 0){
+					covered[target]++;
+					coveredBits[target][node >>> 6] |= 1L << node;
+				}
+			}
+		}
+	}
+
+	// Remove a class from the solution. Does nothing if it is not chosen.
+	public void remove(int candidate){
+		if(!solution.get(candidate)){
+			return;
+		}
+		solution.clear(candidate);
+		size--;
+		double[][] lengths = space.getLengths();
+		int[][][] paths = space.getCoverage();
+		for(int target = 0; target < distance.length; target++){
+			if(lengths[candidate][target] != Double.POSITIVE_INFINITY){
+				distance[target] -= lengths[candidate][target];
+				reaching[target]--;
+				// Avoid drift in the distance sum once no class reaches the target
+				if(reaching[target] == 0){
+					distance[target] = 0.0;
+				}
+			}
+			for(int node: paths[candidate][target]){
+				if(--coverCount[target][node] == 0){
+					covered[target]--;
+					coveredBits[target][node >>> 6] &= ~(1L << node);
+				}
+			}
+		}
+	}
+
+	// Add the class if it is not chosen, remove it if it is
+	public void flip(int candidate){
+		if(solution.get(candidate)){
+			remove(candidate);
+		}else{
+			add(candidate);
+		}
+	}
+
+	// Score of the current solution
+	public double score(){
+		space.countEvaluation();
+		double finalScore = 0.0;
+		for(int target = 0; target < distance.length; target++){
+			finalScore += space.targetScore(target, distance[target], reaching[target], size, covered[target], null);
+		}
+		return finalScore;
+	}
+
+	// Score the solution would have with one class flipped. The state is left unchanged.
+	public double scoreFlipped(int candidate){
+		flip(candidate);
+		double score = score();
+		flip(candidate);
+		return score;
+	}
+
+	public boolean contains(int candidate){
+		return solution.get(candidate);
+	}
+
+	public int size(){
+		return size;
+	}
+
+	// Number of nodes covered for a target
+	public int getCovered(int target){
+		return covered[target];
+	}
+
+	// Whether a node is covered for a target
+	public boolean isCovered(int target, int node){
+		return coverCount[target][node] > 0;
+	}
+
+	// Number of nodes covered for a target if the nodes in other were covered too
+	public int countCoveredWith(int target, long[] other){
+		int count = 0;
+		long[] bits = coveredBits[target];
+		for(int word = 0; word < bits.length; word++){
+			count += Long.bitCount(bits[word] | other[word]);
+		}
+		return count;
+	}
+
+	// Sum of path lengths to a target, over the chosen classes that reach it
+	public double getDistance(int target){
+		return distance[target];
+	}
+
+	// Number of chosen classes that reach a target
+	public int getReaching(int target){
+		return reaching[target];
+	}
+
+	// Copy of the current solution
+	public BitSolution getSolution(){
+		return new BitSolution(solution);
+	}
+}
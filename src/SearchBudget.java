@@ -0,0 +1,120 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Stopping criteria for the optimizer. A search stops when any of its limits
+* is reached: wall-clock seconds, fitness evaluations, generations, or
+* generations without improving the best score (stall). Limits of zero or
+* less are ignored. Evaluation and generation budgets do not depend on
+* machine load, so seeded runs with them are reproducible.
+* Limits are checked between generations.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+public class SearchBudget{
+	// Limits
+	private final int seconds;
+	private final long evaluations;
+	private final int generations;
+	private final int stall;
+
+	// Search being limited, and when it started
+	private SearchSpace space;
+	private long startingTime;
+	private long startingEvaluations;
+
+	// Progress of this search
+	private int generation;
+	private double bestScore;
+	private int lastImprovement;
+
+	public SearchBudget(int seconds, long evaluations, int generations, int stall){
+		this.seconds = seconds;
+		this.evaluations = evaluations;
+		this.generations = generations;
+		this.stall = stall;
+		this.generation = 0;
+		this.bestScore = Double.POSITIVE_INFINITY;
+		this.lastImprovement = 0;
+	}
+
+	// Start the clock and the evaluation count
+	public void start(SearchSpace space){
+		this.space = space;
+		this.startingTime = System.currentTimeMillis();
+		this.startingEvaluations = space.getEvaluations();
+		this.generation = 0;
+		this.bestScore = Double.POSITIVE_INFINITY;
+		this.lastImprovement = 0;
+	}
+
+	/* Budget for one of several searches running at once (e.g., islands).
+	 * Shares the clock and evaluation count with this budget, but tracks
+	 * generations and stalls separately.
+	 */
+	public SearchBudget share(){
+		SearchBudget shared = new SearchBudget(seconds, evaluations, generations, stall);
+		shared.space = space;
+		shared.startingTime = startingTime;
+		shared.startingEvaluations = startingEvaluations;
+		return shared;
+	}
+
+	// Record a finished generation and the best score seen so far
+	public void nextGeneration(double best){
+		generation++;
+		if(best < bestScore){
+			bestScore = best;
+			lastImprovement = generation;
+		}
+	}
+
+	// Has any limit been reached?
+	public boolean isExhausted(){
+		if(seconds >= 0 && getElapsedSeconds() > seconds){
+			return true;
+		}
+		if(evaluations > 0 && getEvaluations() >= evaluations){
+			return true;
+		}
+		if(generations > 0 && generation >= generations){
+			return true;
+		}
+		if(stall > 0 && generation - lastImprovement >= stall){
+			return true;
+		}
+		return false;
+	}
+
+	// Why the search stopped, for reporting
+	public String getReason(){
+		if(seconds >= 0 && getElapsedSeconds() > seconds){
+			return "time budget";
+		}else if(evaluations > 0 && getEvaluations() >= evaluations){
+			return "evaluation budget";
+		}else if(generations > 0 && generation >= generations){
+			return "generation budget";
+		}else if(stall > 0 && generation - lastImprovement >= stall){
+			return "no improvement in " + stall + " generations";
+		}
+		return "search finished";
+	}
+
+	public long getElapsedMillis(){
+		return System.currentTimeMillis() - startingTime;
+	}
+
+	public long getElapsedSeconds(){
+		return getElapsedMillis() / 1000;
+	}
+
+	// Fitness evaluations since the search started
+	public long getEvaluations(){
+		return space.getEvaluations() - startingEvaluations;
+	}
+
+	public int getGeneration(){
+		return generation;
+	}
+}
@@ -0,0 +1,115 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Saved state of a genetic search: the population and scores, the best
+* solution, and the random number generator, so that a killed search can
+* be resumed where it left off. Solutions are stored as bitset words along
+* with the candidate class names, so a checkpoint is only resumed against
+* the same set of candidates.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+public class SearchCheckpoint implements Serializable{
+	private static final long serialVersionUID = 1L;
+
+	// Candidate classes the solutions index into
+	private final String[] candidates;
+	// Population, scores, and best solution
+	private final ArrayList<long[]> population;
+	private final ArrayList<Double> scores;
+	private final long[] best;
+	private final double bestScore;
+	// Random number generator state and generations completed
+	private final Random rng;
+	private final int generation;
+
+	public SearchCheckpoint(SearchSpace space, ArrayList<BitSolution> solutions, ArrayList<Double> scores,
+			BitSolution best, double bestScore, Random rng, int generation){
+		this.candidates = space.getCandidates();
+		this.population = new ArrayList<long[]>();
+		for(BitSolution solution: solutions){
+			population.add(solution.getWords().clone());
+		}
+		this.scores = new ArrayList<Double>(scores);
+		this.best = best.getWords().clone();
+		this.bestScore = bestScore;
+		this.rng = rng;
+		this.generation = generation;
+	}
+
+	// Write the checkpoint. The file is replaced in one step, so a crash mid-write keeps the old one.
+	public void save(String fileName) throws IOException{
+		File file = new File(fileName);
+		File temporary = new File(fileName + ".tmp");
+		ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+		try{
+			output.writeObject(this);
+		}finally{
+			output.close();
+		}
+		Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	// Read a checkpoint, checking that it was taken on the same candidate classes
+	public static SearchCheckpoint load(String fileName, SearchSpace space) throws IOException{
+		ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(fileName)));
+		SearchCheckpoint checkpoint;
+		try{
+			checkpoint = (SearchCheckpoint) input.readObject();
+		}catch(ClassNotFoundException e){
+			throw new IOException("Not a search checkpoint: " + fileName, e);
+		}finally{
+			input.close();
+		}
+		if(!Arrays.equals(checkpoint.candidates, space.getCandidates())){
+			throw new IOException("Checkpoint " + fileName + " was taken on a different set of candidate classes.");
+		}
+		return checkpoint;
+	}
+
+	// Solutions of the saved population
+	public ArrayList<BitSolution> getSolutions(){
+		ArrayList<BitSolution> solutions = new ArrayList<BitSolution>();
+		for(long[] words: population){
+			solutions.add(new BitSolution(candidates.length, words));
+		}
+		return solutions;
+	}
+
+	public ArrayList<Double> getScores(){
+		return new ArrayList<Double>(scores);
+	}
+
+	public BitSolution getBest(){
+		return new BitSolution(candidates.length, best);
+	}
+
+	public double getBestScore(){
+		return bestScore;
+	}
+
+	public Random getRandom(){
+		return rng;
+	}
+
+	public int getGeneration(){
+		return generation;
+	}
+}
@@ -0,0 +1,350 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Precomputed shortest path distances and coverage used to score sets of
+* classes for test generation. Candidate classes and graph nodes are
+* referred to by index, so solutions can be stored as a {@link BitSolution}.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SearchSpace{
+	// Candidate classes (those on a path to at least one target)
+	private final String[] candidates;
+	// Shortest path length from each candidate to each target
+	private final double[][] lengths;
+	// Classes (as node indices) on the shortest path from each candidate to each target
+	private final int[][][] coverage;
+	// Shortest and longest shortest path to each target
+	private final double[] minLength;
+	private final double[] maxLength;
+	// Number of classes on any path to each target
+	private final int[] maxCoverage;
+	// Number of graph nodes
+	private final int nodeCount;
+	// Number of solutions scored so far
+	private final AtomicLong evaluations;
+
+	public SearchSpace(String[] candidates, double[][] lengths, int[][][] coverage, double[] minLength, double[] maxLength, int[] maxCoverage, int nodeCount){
+		this.candidates = candidates;
+		this.lengths = lengths;
+		this.coverage = coverage;
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.maxCoverage = maxCoverage;
+		this.nodeCount = nodeCount;
+		this.evaluations = new AtomicLong();
+	}
+
+	/* Pre-compute all shortest path distances and coverage, per target, and build the search space.
+	 * Candidates are the classes (other than targets) on a path to at least one target, in class list order.
+	 * If edgeLengths is null, path lengths count the classes on the path, source and target
+	 * included, and the shortest possible length is 2. Otherwise, they are 1 plus the sum of
+	 * the edge lengths (see {@link CouplingGraph#weightedShortestPaths}), and the shortest
+	 * possible length is the shortest path found to the target.
+	 */
+	public static SearchSpace build(CouplingGraph graph, ArrayList<String> targets, double[] edgeLengths){
+		int nodes = graph.getNodeCount();
+		int[] targetIds = new int[targets.size()];
+		HashSet<Integer> targetSet = new HashSet<Integer>();
+		for(int target = 0; target < targets.size(); target++){
+			targetIds[target] = graph.getId(targets.get(target));
+			targetSet.add(targetIds[target]);
+		}
+
+		ArrayList<String> candidates = new ArrayList<String>();
+		ArrayList<double[]> lengths = new ArrayList<double[]>();
+		ArrayList<int[][]> paths = new ArrayList<int[][]>();
+		double[] minLength = new double[targets.size()];
+		double[] maxLength = new double[targets.size()];
+		Arrays.fill(minLength, edgeLengths == null ? 2.0 : Double.POSITIVE_INFINITY);
+		boolean[][] onPath = new boolean[targets.size()][nodes];
+
+		int[] distance = new int[nodes];
+		double[] weightedDistance = new double[nodes];
+		int[] parent = new int[nodes];
+		int[] queue = new int[nodes];
+		DistanceHeap heap = new DistanceHeap(nodes);
+		for(int clazz = 0; clazz < nodes; clazz++){
+			if(targetSet.contains(clazz)){
+				continue;
+			}
+			// Shortest path to each target
+			if(edgeLengths == null){
+				graph.shortestPaths(clazz, distance, parent, queue);
+			}else{
+				graph.weightedShortestPaths(clazz, edgeLengths, weightedDistance, parent, heap);
+			}
+			double[] classLengths = new double[targets.size()];
+			int[][] classPaths = new int[targets.size()][];
+			int covSize = 0;
+			for(int target = 0; target < targets.size(); target++){
+				int node = targetIds[target];
+				double length = Double.POSITIVE_INFINITY;
+				if(node >= 0){
+					if(edgeLengths == null && distance[node] > 0){
+						length = distance[node];
+					}else if(edgeLengths != null){
+						length = weightedDistance[node];
+					}
+				}
+				if(length == Double.POSITIVE_INFINITY){
+					classLengths[target] = Double.POSITIVE_INFINITY;
+					classPaths[target] = new int[0];
+					continue;
+				}
+				classLengths[target] = length;
+				maxLength[target] = Math.max(maxLength[target], length);
+				if(edgeLengths == null){
+					classPaths[target] = graph.path(node, distance, parent);
+				}else{
+					minLength[target] = Math.min(minLength[target], length);
+					classPaths[target] = graph.path(node, parent);
+				}
+				for(int step: classPaths[target]){
+					onPath[target][step] = true;
+				}
+				covSize += classPaths[target].length;
+			}
+
+			// Only a candidate if the class is on at least one path to a target
+			if(covSize > 0){
+				candidates.add(graph.getName(clazz));
+				lengths.add(classLengths);
+				paths.add(classPaths);
+			}
+		}
+
+		int[] maxCoverage = new int[targets.size()];
+		for(int target = 0; target < targets.size(); target++){
+			if(minLength[target] == Double.POSITIVE_INFINITY){
+				minLength[target] = 0.0;
+			}
+			for(boolean covered: onPath[target]){
+				if(covered){
+					maxCoverage[target]++;
+				}
+			}
+		}
+		return new SearchSpace(candidates.toArray(new String[0]), lengths.toArray(new double[0][]),
+			paths.toArray(new int[0][][]), minLength, maxLength, maxCoverage, nodes);
+	}
+
+	/* Calculate a score for a set of classes
+	 * Score is the Euclidean distance to a sweet spot of min distance,
+	 * min size, and max coverage.
+	 * Distance = average distance from target for each node
+	 * Max distance is calculated from longest "shortest" path
+	 * Min distance = 2.0 (source, target), or the shortest path to the target if weighted
+	 * Coverage = number of unique classes covered by the set, per target
+	 * Max coverage is all classes on a path to one of the targets
+	 * Min coverage = 2.0 (source, target)
+	 * score = root(norm(distance)^2 + norm(size)^2 + (norm(coverage) - 1)^2)
+	 * Calculated for each target, then summed.
+	 */
+	public double score(BitSolution solution){
+		return evaluate(solution, null);
+	}
+
+	/* The three components of the score, kept apart for multi-objective search.
+	 * All are minimized and averaged over the targets:
+	 * [0] normalized distance, [1] normalized set size, [2] 1 - normalized coverage.
+	 */
+	public double[] objectives(BitSolution solution){
+		double[] objectives = new double[3];
+		evaluate(solution, objectives);
+		return objectives;
+	}
+
+	/* Helper function for {@link #score} and {@link #objectives}.
+	 * Returns the score and, if objectives is not null, fills in the averaged components.
+	 */
+	private double evaluate(BitSolution solution, double[] objectives){
+		evaluations.incrementAndGet();
+		int size = solution.size();
+		long[] covered = new long[(nodeCount + 63) >>> 6];
+		double finalScore = 0.0;
+
+		for(int target = 0; target < maxLength.length; target++){
+			double distance = 0.0;
+			int omitted = 0;
+			int coveredClasses = 0;
+			if(target > 0){
+				Arrays.fill(covered, 0L);
+			}
+
+			for(int candidate = solution.nextSetBit(0); candidate >= 0; candidate = solution.nextSetBit(candidate + 1)){
+				double toAdd = lengths[candidate][target];
+				if(toAdd != Double.POSITIVE_INFINITY){
+					distance += toAdd;
+				}else{
+					omitted++;
+				}
+
+				for(int node: coverage[candidate][target]){
+					long bit = 1L << node;
+					if((covered[node >>> 6] & bit) == 0){
+						covered[node >>> 6] |= bit;
+						coveredClasses++;
+					}
+				}
+			}
+			finalScore += targetScore(target, distance, size - omitted, size, coveredClasses, objectives);
+		}
+		return finalScore;
+	}
+
+	/* Score for one target, from the sum of path lengths of the chosen classes that reach it,
+	 * the number of those classes, the set size, and the number of classes covered.
+	 * If objectives is not null, adds the components averaged over the targets.
+	 */
+	public double targetScore(int target, double distance, int reaching, int size, int coveredClasses, double[] objectives){
+		double avgDistance;
+		if(reaching == 0){
+			// No path to target in chosen set.
+			avgDistance = normalizedDistance(target, maxLength[target]);
+		}else{
+			avgDistance = normalizedDistance(target, distance / reaching);
+		}
+		double setSize = normalizedSize(size);
+		double coverageScore = coverageDeficit(target, coveredClasses);
+
+		// Combine
+		if(objectives != null){
+			objectives[0] += avgDistance / maxLength.length;
+			objectives[1] += setSize / maxLength.length;
+			objectives[2] += coverageScore / maxLength.length;
+		}
+		return Math.sqrt(Math.pow(avgDistance, 2) + Math.pow(setSize, 2) + Math.pow(coverageScore, 2));
+	}
+
+	// Normalize an average distance to a target
+	public double normalizedDistance(int target, double avgDistance){
+		if(maxLength[target] > minLength[target]){
+			return (avgDistance - minLength[target]) / (maxLength[target] - minLength[target]);
+		}
+		return 0.0;
+	}
+
+	// Normalize the set size
+	public double normalizedSize(int size){
+		return (size - 1.0) / (candidates.length - 1.0);
+	}
+
+	// Normalize coverage of a target, converted to minimization (0 = all classes covered)
+	public double coverageDeficit(int target, int coveredClasses){
+		double coverageScore = (coveredClasses - 2.0) / (maxCoverage[target] - 2.0);
+		return 1 - coverageScore;
+	}
+
+	// Count a score computed outside this class (e.g., incrementally) towards the evaluations
+	public void countEvaluation(){
+		evaluations.incrementAndGet();
+	}
+
+	// Class names of the candidates chosen in a solution
+	public ArrayList<String> toClasses(BitSolution solution){
+		ArrayList<String> classes = new ArrayList<String>();
+		for(int candidate = solution.nextSetBit(0); candidate >= 0; candidate = solution.nextSetBit(candidate + 1)){
+			classes.add(candidates[candidate]);
+		}
+		return classes;
+	}
+
+	// Solution choosing the named classes. Names that are not candidates are ignored.
+	public BitSolution fromClasses(Collection<String> classes){
+		HashSet<String> chosen = new HashSet<String>(classes);
+		BitSolution solution = new BitSolution(candidates.length);
+		for(int candidate = 0; candidate < candidates.length; candidate++){
+			if(chosen.contains(candidates[candidate])){
+				solution.set(candidate);
+			}
+		}
+		return solution;
+	}
+
+	/* Search space over a subset of the targets (given by index), for batch mode.
+	 * Keeps only the candidates on a path to at least one of those targets.
+	 * Node indices, and so coverage, are unchanged.
+	 */
+	public SearchSpace restrict(int[] targets){
+		ArrayList<Integer> kept = new ArrayList<Integer>();
+		for(int candidate = 0; candidate < candidates.length; candidate++){
+			for(int target: targets){
+				if(coverage[candidate][target].length > 0){
+					kept.add(candidate);
+					break;
+				}
+			}
+		}
+
+		String[] subCandidates = new String[kept.size()];
+		double[][] subLengths = new double[kept.size()][targets.length];
+		int[][][] subCoverage = new int[kept.size()][targets.length][];
+		for(int candidate = 0; candidate < kept.size(); candidate++){
+			int original = kept.get(candidate);
+			subCandidates[candidate] = candidates[original];
+			for(int target = 0; target < targets.length; target++){
+				subLengths[candidate][target] = lengths[original][targets[target]];
+				subCoverage[candidate][target] = coverage[original][targets[target]];
+			}
+		}
+		double[] subMinLength = new double[targets.length];
+		double[] subMaxLength = new double[targets.length];
+		int[] subMaxCoverage = new int[targets.length];
+		for(int target = 0; target < targets.length; target++){
+			subMinLength[target] = minLength[targets[target]];
+			subMaxLength[target] = maxLength[targets[target]];
+			subMaxCoverage[target] = maxCoverage[targets[target]];
+		}
+		return new SearchSpace(subCandidates, subLengths, subCoverage, subMinLength, subMaxLength, subMaxCoverage, nodeCount);
+	}
+
+	// Getters
+	public String[] getCandidates(){
+		return candidates;
+	}
+
+	public int getCandidateCount(){
+		return candidates.length;
+	}
+
+	public int getTargetCount(){
+		return maxLength.length;
+	}
+
+	public double[][] getLengths(){
+		return lengths;
+	}
+
+	public int[][][] getCoverage(){
+		return coverage;
+	}
+
+	public double[] getMinLength(){
+		return minLength;
+	}
+
+	public double[] getMaxLength(){
+		return maxLength;
+	}
+
+	public int[] getMaxCoverage(){
+		return maxCoverage;
+	}
+
+	public int getNodeCount(){
+		return nodeCount;
+	}
+
+	public long getEvaluations(){
+		return evaluations.get();
+	}
+}
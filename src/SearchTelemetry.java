@@ -0,0 +1,139 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Per-generation telemetry for the random and genetic searches, used to tune
+* population size and rates for throughput. Each generation writes one line
+* with the best score so far, the mean and worst score of the generation,
+* population diversity, evaluations per second, allocation rate and elapsed
+* time. Files ending in .json get JSON lines; anything else gets CSV.
+* Lines are buffered, so recording a generation costs little next to scoring it.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+public class SearchTelemetry{
+	private final BufferedWriter writer;
+	private final boolean json;
+	// Thread allocation counter, or null if the JVM does not provide one
+	private final com.sun.management.ThreadMXBean threads;
+	private final long thread;
+
+	// State at the previous generation, for rates
+	private long lastNanos;
+	private long lastEvaluations;
+	private long lastAllocated;
+
+	public SearchTelemetry(String fileName) throws IOException{
+		writer = new BufferedWriter(new FileWriter(fileName), 1 << 16);
+		json = fileName.endsWith(".json");
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if(bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()){
+			threads = (com.sun.management.ThreadMXBean) bean;
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}else{
+			threads = null;
+		}
+		thread = Thread.currentThread().getId();
+		if(!json){
+			writer.write("generation,best,mean,worst,diversity,evaluations_per_second,allocated_mb_per_second,elapsed_ms\n");
+		}
+	}
+
+	// Mark the start of the search. Must be called on the thread running the search.
+	public void start(SearchBudget budget){
+		lastNanos = System.nanoTime();
+		lastEvaluations = budget.getEvaluations();
+		lastAllocated = allocated();
+	}
+
+	/* Record a finished generation.
+	 * Diversity is the average Hamming distance between pairs of solutions,
+	 * as a fraction of the candidates. It is computed from how many solutions
+	 * choose each candidate, so it costs O(population * candidates), not O(population^2).
+	 */
+	public void record(SearchBudget budget, ArrayList<BitSolution> solutions, ArrayList<Double> scores, double best) throws IOException{
+		double mean = 0.0;
+		double worst = Double.NEGATIVE_INFINITY;
+		for(double score: scores){
+			mean += score;
+			worst = Math.max(worst, score);
+		}
+		if(!scores.isEmpty()){
+			mean /= scores.size();
+		}else{
+			worst = Double.NaN;
+			mean = Double.NaN;
+		}
+
+		double diversity = 0.0;
+		int members = solutions.size();
+		if(members > 1){
+			int width = solutions.get(0).getWidth();
+			int[] chosen = new int[width];
+			for(BitSolution solution: solutions){
+				for(int candidate = solution.nextSetBit(0); candidate >= 0; candidate = solution.nextSetBit(candidate + 1)){
+					chosen[candidate]++;
+				}
+			}
+			double pairs = 0.0;
+			for(int count: chosen){
+				pairs += (double) count * (members - count);
+			}
+			diversity = 2.0 * pairs / ((double) members * (members - 1) * width);
+		}
+
+		long nanos = System.nanoTime();
+		long evaluations = budget.getEvaluations();
+		long allocatedBytes = allocated();
+		double seconds = Math.max(nanos - lastNanos, 1) / 1e9;
+		double evaluationRate = (evaluations - lastEvaluations) / seconds;
+		double allocationRate = Double.NaN;
+		if(threads != null){
+			allocationRate = (allocatedBytes - lastAllocated) / (1024.0 * 1024.0) / seconds;
+		}
+		lastNanos = nanos;
+		lastEvaluations = evaluations;
+		lastAllocated = allocatedBytes;
+		long millis = budget.getElapsedMillis();
+
+		if(json){
+			writer.write("{\"generation\":" + budget.getGeneration() + ",\"best\":" + number(best) + ",\"mean\":" + number(mean)
+				+ ",\"worst\":" + number(worst) + ",\"diversity\":" + number(diversity) + ",\"evaluations_per_second\":" + number(evaluationRate)
+				+ ",\"allocated_mb_per_second\":" + number(allocationRate) + ",\"elapsed_ms\":" + millis + "}\n");
+		}else{
+			writer.write(budget.getGeneration() + "," + best + "," + mean + "," + worst + "," + diversity + ","
+				+ evaluationRate + "," + allocationRate + "," + millis + "\n");
+		}
+	}
+
+	public void close() throws IOException{
+		writer.close();
+	}
+
+	/* Helper function for {@link #record}.
+	 * Bytes allocated by the search thread so far, or 0 if not available.
+	 */
+	private long allocated(){
+		if(threads == null){
+			return 0;
+		}
+		return threads.getThreadAllocatedBytes(thread);
+	}
+
+	/* Helper function for {@link #record}.
+	 * JSON has no NaN or infinity, so they are written as null.
+	 */
+	private String number(double value){
+		if(Double.isNaN(value) || Double.isInfinite(value)){
+			return "null";
+		}
+		return Double.toString(value);
+	}
+}
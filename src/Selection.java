@@ -0,0 +1,111 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Selection operators for the genetic searches. Both return positions in the
+* population rather than removing members, so selection does not depend on
+* list removal and stays cheap for large populations. Lower scores are better.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.ArrayList;
+import java.util.Random;
+
+public class Selection{
+
+	/* Positions of the count best-scoring members, best first.
+	 * Keeps a bounded max-heap of the best seen so far, so selection
+	 * is O(population * log(count)).
+	 */
+	public static int[] elitist(ArrayList<Double> scores, int count){
+		count = Math.min(count, scores.size());
+		if(count <= 0){
+			return new int[0];
+		}
+
+		// Max-heap on score: the root is the worst of the members kept so far
+		int[] heap = new int[count];
+		int heapSize = 0;
+		for(int member = 0; member < scores.size(); member++){
+			double score = scores.get(member);
+			if(heapSize < count){
+				heap[heapSize] = member;
+				siftUp(heap, heapSize, scores);
+				heapSize++;
+			}else if(score < scores.get(heap[0])){
+				heap[0] = member;
+				siftDown(heap, 0, heapSize, scores);
+			}
+		}
+
+		// Pop the worst into the back, leaving the best first
+		int[] selected = new int[count];
+		for(int position = count - 1; position >= 0; position--){
+			selected[position] = heap[0];
+			heapSize--;
+			heap[0] = heap[heapSize];
+			siftDown(heap, 0, heapSize, scores);
+		}
+		return selected;
+	}
+
+	/* Positions of count members chosen by tournament selection.
+	 * Each tournament samples size members at random (with replacement)
+	 * and the best-scoring one wins. Members may win more than once.
+	 */
+	public static int[] tournament(ArrayList<Double> scores, int count, int size, Random rng){
+		if(scores.isEmpty() || count <= 0){
+			return new int[0];
+		}
+
+		int[] selected = new int[count];
+		for(int choice = 0; choice < count; choice++){
+			int winner = rng.nextInt(scores.size());
+			for(int round = 1; round < size; round++){
+				int challenger = rng.nextInt(scores.size());
+				if(scores.get(challenger) < scores.get(winner)){
+					winner = challenger;
+				}
+			}
+			selected[choice] = winner;
+		}
+		return selected;
+	}
+
+	// Helper functions for the heap in {@link #elitist}
+	private static void siftUp(int[] heap, int position, ArrayList<Double> scores){
+		int member = heap[position];
+		while(position > 0){
+			int parent = (position - 1) >>> 1;
+			if(scores.get(heap[parent]) >= scores.get(member)){
+				break;
+			}
+			heap[position] = heap[parent];
+			position = parent;
+		}
+		heap[position] = member;
+	}
+
+	private static void siftDown(int[] heap, int position, int heapSize, ArrayList<Double> scores){
+		if(heapSize == 0){
+			return;
+		}
+		int member = heap[position];
+		while(true){
+			int child = 2 * position + 1;
+			if(child >= heapSize){
+				break;
+			}
+			if(child + 1 < heapSize && scores.get(heap[child + 1]) > scores.get(heap[child])){
+				child++;
+			}
+			if(scores.get(heap[child]) <= scores.get(member)){
+				break;
+			}
+			heap[position] = heap[child];
+			position = child;
+		}
+		heap[position] = member;
+	}
+}
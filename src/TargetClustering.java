@@ -0,0 +1,112 @@
+/*
+* Gregory Gay (greg@greggay.com)
+* Groups targets that share the classes able to reach them, so that batch
+* mode can optimize each group on its own. Two targets are linked when the
+* overlap (Jaccard index) of their reachable-class sets is at least a
+* threshold, and clusters are the connected groups of linked targets.
+* Reachable-class sets are bitsets over the candidate classes.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+import java.util.ArrayList;
+
+public class TargetClustering{
+
+	/* Cluster the targets of a search space.
+	 * Returns the target indices of each cluster, in order of their first target.
+	 */
+	public static ArrayList<int[]> cluster(SearchSpace space, double overlap){
+		int targets = space.getTargetCount();
+		long[][] reachable = reachableSets(space);
+		int[] sizes = new int[targets];
+		for(int target = 0; target < targets; target++){
+			for(long word: reachable[target]){
+				sizes[target] += Long.bitCount(word);
+			}
+		}
+
+		// Union-find over linked targets. The root of a cluster is always its first target.
+		int[] parent = new int[targets];
+		for(int target = 0; target < targets; target++){
+			parent[target] = target;
+		}
+		for(int first = 0; first < targets; first++){
+			for(int second = first + 1; second < targets; second++){
+				int firstRoot = find(parent, first);
+				int secondRoot = find(parent, second);
+				if(firstRoot != secondRoot && jaccard(reachable[first], reachable[second], sizes[first], sizes[second]) >= overlap){
+					parent[Math.max(firstRoot, secondRoot)] = Math.min(firstRoot, secondRoot);
+				}
+			}
+		}
+
+		// Collect members of each cluster
+		ArrayList<int[]> clusters = new ArrayList<int[]>();
+		int[] clusterOf = new int[targets];
+		int[] members = new int[targets];
+		for(int target = 0; target < targets; target++){
+			int root = find(parent, target);
+			if(root == target){
+				clusterOf[root] = clusters.size();
+				clusters.add(null);
+			}
+			members[clusterOf[root]]++;
+		}
+		int[] filled = new int[clusters.size()];
+		for(int cluster = 0; cluster < clusters.size(); cluster++){
+			clusters.set(cluster, new int[members[cluster]]);
+		}
+		for(int target = 0; target < targets; target++){
+			int cluster = clusterOf[find(parent, target)];
+			clusters.get(cluster)[filled[cluster]++] = target;
+		}
+		return clusters;
+	}
+
+	/* Helper function for {@link #cluster}.
+	 * For each target, the candidates with a path to it.
+	 */
+	private static long[][] reachableSets(SearchSpace space){
+		int targets = space.getTargetCount();
+		int candidates = space.getCandidateCount();
+		double[][] lengths = space.getLengths();
+		long[][] reachable = new long[targets][(candidates + 63) >>> 6];
+		for(int candidate = 0; candidate < candidates; candidate++){
+			for(int target = 0; target < targets; target++){
+				if(lengths[candidate][target] != Double.POSITIVE_INFINITY){
+					reachable[target][candidate >>> 6] |= 1L << candidate;
+				}
+			}
+		}
+		return reachable;
+	}
+
+	/* Helper function for {@link #cluster}.
+	 * Size of the intersection over the size of the union. Two empty sets do not overlap.
+	 */
+	private static double jaccard(long[] first, long[] second, int firstSize, int secondSize){
+		int shared = 0;
+		for(int word = 0; word < first.length; word++){
+			shared += Long.bitCount(first[word] & second[word]);
+		}
+		int union = firstSize + secondSize - shared;
+		if(union == 0){
+			return 0.0;
+		}
+		return (double) shared / union;
+	}
+
+	/* Helper function for {@link #cluster}.
+	 * Root of a target's cluster, halving the path on the way.
+	 */
+	private static int find(int[] parent, int target){
+		while(parent[target] != target){
+			parent[target] = parent[parent[target]];
+			target = parent[target];
+		}
+		return target;
+	}
+}